@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2020 EclipseSource and others.
+ * Copyright (c) 2020-2021 EclipseSource and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -38,3 +38,28 @@ export function isSetSemanticUriAction(action: Action): action is SetSemanticUri
         && (action as SetSemanticUriAction).semanticUri !== undefined
         && (action as SetSemanticUriAction).elementEClass !== undefined;
 }
+
+/**
+ * Reports the visible region of the diagram in diagram coordinates, classifiers outside of it are sent as
+ * placeholders. A width or height of 0 disables the viewport mode.
+ */
+export class ViewportChangedAction implements Action {
+    static readonly KIND = "ecoreViewportChanged";
+    kind = ViewportChangedAction.KIND;
+    constructor(
+        public readonly x: number,
+        public readonly y: number,
+        public readonly width: number,
+        public readonly height: number) { }
+}
+
+/**
+ * Collapses or expands the given class nodes, collapsed classes are sent without their attributes and operations.
+ */
+export class SetCollapsedOperation implements Action {
+    static readonly KIND = "ecoreSetCollapsed";
+    kind = SetCollapsedOperation.KIND;
+    constructor(
+        public readonly elementIds: string[],
+        public readonly collapsed: boolean) { }
+}
@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2019-2020 EclipseSource and others.
+ * Copyright (c) 2019-2021 EclipseSource and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -63,8 +63,10 @@ import {
 import { Container, ContainerModule } from "inversify";
 import { EditLabelUI } from "sprotty/lib";
 
+import { CollapseClassMouseListener } from "./features/collapse-class";
 import { EditLabelUIAutocomplete } from "./features/edit-label-autocomplete";
 import ecoreToolPaletteModule from "./features/tool-palette/di.config";
+import { ViewportChangedReporter } from "./features/viewport-changed-reporter";
 import { LabelSelectionFeedback } from "./feedback";
 import {
     ArrowEdge,
@@ -102,6 +104,8 @@ export default (containerId: string): Container => {
 
         const context = { bind, unbind, isBound, rebind };
         bind(TYPES.IVNodePostprocessor).to(LabelSelectionFeedback);
+        bind(TYPES.IVNodePostprocessor).to(ViewportChangedReporter).inSingletonScope();
+        bind(TYPES.MouseListener).to(CollapseClassMouseListener);
         configureModelElement(context, "graph", GLSPGraph, SGraphView);
         configureModelElement(context, "node:class", LabeledNode, ClassNodeView);
         configureModelElement(context, "node:enum", LabeledNode, ClassNodeView);
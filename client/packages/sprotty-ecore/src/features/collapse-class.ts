@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+import { Action, MouseListener, SChildElement, SModelElement } from "@eclipse-glsp/client";
+import { injectable } from "inversify";
+
+import { SetCollapsedOperation } from "../action-definitions";
+import { Icon, LabeledNode } from "../model";
+
+export const CLASS_NODE_TYPE = "node:class";
+export const COLLAPSED_CSS_CLASS = "collapsed";
+
+/**
+ * Collapses or expands a class when the icon in its header is double-clicked, the state is stored in the notation
+ * model by the server. Double-clicks on the name label still start editing it.
+ */
+@injectable()
+export class CollapseClassMouseListener extends MouseListener {
+    doubleClick(target: SModelElement, event: MouseEvent): Action[] {
+        if (!(target instanceof Icon)) {
+            return [];
+        }
+        const node = findClassNode(target);
+        if (!node) {
+            return [];
+        }
+        const collapsed = node.cssClasses !== undefined && node.cssClasses.includes(COLLAPSED_CSS_CLASS);
+        return [new SetCollapsedOperation([node.id], !collapsed)];
+    }
+}
+
+function findClassNode(element: SModelElement): LabeledNode | undefined {
+    let current: SModelElement = element;
+    while (current instanceof SChildElement) {
+        if (current instanceof LabeledNode) {
+            return current.type === CLASS_NODE_TYPE ? current : undefined;
+        }
+        current = current.parent;
+    }
+    return undefined;
+}
@@ -0,0 +1,62 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+import { IActionDispatcher, isViewport, SModelElement, SModelRoot, TYPES } from "@eclipse-glsp/client";
+import { inject, injectable } from "inversify";
+import { VNode } from "snabbdom";
+import { IVNodePostprocessor } from "sprotty";
+
+import { ViewportChangedAction } from "../action-definitions";
+
+/**
+ * Reports the visible region of the diagram to the server after it has been rendered, no matter whether it changed
+ * by scrolling, zooming, centering or resizing the canvas. Reports are delayed until the region stops changing.
+ */
+@injectable()
+export class ViewportChangedReporter implements IVNodePostprocessor {
+    static readonly DELAY = 200;
+
+    @inject(TYPES.IActionDispatcher) protected actionDispatcher: IActionDispatcher;
+
+    protected root?: SModelRoot;
+    protected lastAction?: ViewportChangedAction;
+    protected timeout?: number;
+
+    decorate(vnode: VNode, element: SModelElement): VNode {
+        if (element instanceof SModelRoot) {
+            this.root = element;
+        }
+        return vnode;
+    }
+
+    postUpdate(): void {
+        const root = this.root;
+        if (!root || !isViewport(root) || root.canvasBounds.width <= 0 || root.canvasBounds.height <= 0) {
+            return;
+        }
+        const action = new ViewportChangedAction(root.scroll.x, root.scroll.y,
+            root.canvasBounds.width / root.zoom, root.canvasBounds.height / root.zoom);
+        if (this.lastAction && sameRegion(this.lastAction, action)) {
+            return;
+        }
+        this.lastAction = action;
+        if (this.timeout !== undefined) {
+            window.clearTimeout(this.timeout);
+        }
+        this.timeout = window.setTimeout(() => {
+            this.timeout = undefined;
+            this.actionDispatcher.dispatch(action);
+        }, ViewportChangedReporter.DELAY);
+    }
+}
+
+function sameRegion(a: ViewportChangedAction, b: ViewportChangedAction): boolean {
+    return a.x === b.x && a.y === b.y && a.width === b.width && a.height === b.height;
+}
@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2019-2020 EclipseSource and others.
+ * Copyright (c) 2019-2021 EclipseSource and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -8,7 +8,11 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR MIT
  ********************************************************************************/
-import { RequestSemanticUriAction } from "@eclipse-emfcloud/sprotty-ecore/lib/action-definitions";
+import {
+    RequestSemanticUriAction,
+    SetCollapsedOperation,
+    ViewportChangedAction
+} from "@eclipse-emfcloud/sprotty-ecore/lib/action-definitions";
 import {
     AttributeTypesAction,
     ReturnAttributeTypesAction
@@ -25,6 +29,8 @@ export class EcoreGLSPTheiaDiagramServer extends GLSPTheiaDiagramServer {
         registry.register(AttributeTypesAction.KIND, this);
         registry.register(ReturnAttributeTypesAction.KIND, this);
         registry.register(RequestSemanticUriAction.KIND, this);
+        registry.register(ViewportChangedAction.KIND, this);
+        registry.register(SetCollapsedOperation.KIND, this);
     }
 
 }
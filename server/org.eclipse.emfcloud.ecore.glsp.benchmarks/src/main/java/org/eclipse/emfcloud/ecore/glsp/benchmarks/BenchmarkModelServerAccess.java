@@ -0,0 +1,49 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreDiagramResources;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelServerClient;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+
+/**
+ * Model server access that serves a {@link SyntheticEcoreModel} and accepts every command without sending it, so the
+ * benchmarks measure the GLSP server only.
+ */
+public class BenchmarkModelServerAccess extends EcoreModelServerAccess {
+
+	public static final String SOURCE_URI = "/tmp/ecore-benchmark.ecore";
+
+	private final int classifierCount;
+
+	public BenchmarkModelServerAccess(final int classifierCount) throws MalformedURLException {
+		super(SOURCE_URI, new EcoreModelServerClient("http://localhost:8081/api/v1/"));
+		this.classifierCount = classifierCount;
+	}
+
+	@Override
+	public CompletableFuture<EcoreDiagramResources> getDiagramResourcesAsync() {
+		// loading moves the models into the resource set of the model state, so every load needs fresh ones
+		SyntheticEcoreModel model = SyntheticEcoreModel.create(classifierCount);
+		return CompletableFuture
+				.completedFuture(new EcoreDiagramResources(model.getEPackage(), model.getDiagram(), false));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> editAsync(final CCommand command) {
+		return CompletableFuture.completedFuture(true);
+	}
+
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.net.MalformedURLException;
+import java.util.Map;
+
+import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.layout.ElkLayoutEngine;
+import org.eclipse.glsp.server.utils.ClientOptions;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state holding a fully loaded {@link EcoreModelState} for a synthetic model of the configured size.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkModelState {
+
+	@Param({ "100", "1000", "5000" })
+	public int classifierCount;
+
+	public EcoreModelState modelState;
+
+	@Setup(Level.Trial)
+	public void setup() throws MalformedURLException {
+		ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
+		modelState = createModelState(classifierCount);
+	}
+
+	public static EcoreModelState createModelState(final int classifierCount) throws MalformedURLException {
+		EcoreModelState modelState = new EcoreModelState();
+		modelState.setClientOptions(Map.of(ClientOptions.SOURCE_URI, BenchmarkModelServerAccess.SOURCE_URI));
+		modelState.setModelServerAccess(new BenchmarkModelServerAccess(classifierCount));
+		modelState.loadSourceModels();
+		return modelState;
+	}
+
+}
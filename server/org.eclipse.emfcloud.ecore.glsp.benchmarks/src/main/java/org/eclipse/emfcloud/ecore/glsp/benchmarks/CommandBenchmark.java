@@ -0,0 +1,46 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of the command that renames a class. The command is not sent to the model server (see
+ * {@link BenchmarkModelServerAccess}), so neither the source models nor the GModel change between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class CommandBenchmark {
+
+	@Benchmark
+	public CompletableFuture<Boolean> setName(final BenchmarkModelState state) {
+		EcoreModelState modelState = state.modelState;
+		EClassifier eClass = modelState.getEcoreFacade().getEPackage().getEClassifiers().stream()
+				.filter(EClass.class::isInstance).findFirst().orElseThrow();
+		return modelState.getModelServerAccess().setNameAsync(modelState, eClass, eClass.getName() + "Renamed");
+	}
+
+}
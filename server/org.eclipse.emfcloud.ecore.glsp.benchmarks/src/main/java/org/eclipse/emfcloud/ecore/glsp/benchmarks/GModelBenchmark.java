@@ -0,0 +1,67 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
+import org.eclipse.emfcloud.ecore.glsp.gmodel.GModelFactory;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.graph.GGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of the GModel from the source models and its association with the notation model. The
+ * GModel is created with the classifier nodes of the previous iteration and without any cached nodes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class GModelBenchmark {
+
+	@Benchmark
+	public GGraph createGModel(final BenchmarkModelState state) {
+		EcoreModelState modelState = state.modelState;
+		return modelState.getEditorContext().getGModelFactory().create(modelState.getEcoreFacade().getEPackage());
+	}
+
+	@Benchmark
+	public GGraph createGModelUncached(final BenchmarkModelState state) {
+		EcoreModelState modelState = state.modelState;
+		GModelFactory gModelFactory = modelState.getEditorContext().getGModelFactory();
+		gModelFactory.getFragmentCache().clear();
+		return gModelFactory.create(modelState.getEcoreFacade().getEPackage());
+	}
+
+	@Benchmark
+	public Diagram initializeFacade(final BenchmarkModelState state) {
+		EcoreFacade ecoreFacade = state.modelState.getEcoreFacade();
+		return ecoreFacade.initialize(ecoreFacade.getDiagram(), state.modelState.getRoot());
+	}
+
+	@Benchmark
+	public EcoreModelIndex indexNotation(final BenchmarkModelState state) {
+		EcoreModelIndex index = state.modelState.getIndex();
+		index.indexNotation(state.modelState.getEcoreFacade().getDiagram());
+		return index;
+	}
+
+}
@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutEngine;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutResult;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.layout.ElkLayoutEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full automatic layout of the diagram.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class LayoutBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class LayoutState {
+		// the layout of larger diagrams takes too long for a reasonable benchmark run
+		@Param({ "100", "500", "1000" })
+		public int classifierCount;
+
+		public EcoreModelState modelState;
+		public EcoreLayoutEngine layoutEngine;
+
+		@Setup(Level.Trial)
+		public void setup() throws MalformedURLException {
+			ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
+			modelState = BenchmarkModelState.createModelState(classifierCount);
+			layoutEngine = new EcoreLayoutEngine();
+		}
+	}
+
+	@Benchmark
+	public EcoreLayoutResult layoutRoot(final LayoutState state) {
+		return state.layoutEngine.layoutRoot(state.modelState);
+	}
+
+}
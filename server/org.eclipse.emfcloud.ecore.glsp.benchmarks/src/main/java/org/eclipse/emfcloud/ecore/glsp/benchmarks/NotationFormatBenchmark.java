@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.NotationElement;
+import org.eclipse.emfcloud.ecore.modelserver.EnotationResource;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares saving and loading a notation model in XMI and in the binary format of {@link EnotationResource}. The
+ * file sizes of both formats are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class NotationFormatBenchmark {
+
+	private static final URI NOTATION_URI = URI.createFileURI("/tmp/ecore-benchmark.enotation");
+
+	@State(Scope.Benchmark)
+	public static class NotationState {
+		@Param({ "1000", "5000" })
+		public int classifierCount;
+
+		public Resource resource;
+		public byte[] xmi;
+		public byte[] binary;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			Diagram diagram = SyntheticEcoreModel.create(classifierCount).getDiagram();
+			// routed edges, as after an automatic layout
+			for (NotationElement element : diagram.getElements()) {
+				if (element instanceof Edge) {
+					((Edge) element).getBendPoints().add(GraphUtil.point(100.5, 200.25));
+					((Edge) element).getBendPoints().add(GraphUtil.point(300.5, 200.25));
+				}
+			}
+			resource = new EnotationResource(NOTATION_URI);
+			resource.getContents().add(diagram);
+			xmi = save(resource, false);
+			binary = save(resource, true);
+			System.out.println(String.format("%n# enotation with %d classifiers: xmi %d bytes, binary %d bytes",
+					classifierCount, xmi.length, binary.length));
+		}
+	}
+
+	@Benchmark
+	public byte[] saveXmi(final NotationState state) throws IOException {
+		return save(state.resource, false);
+	}
+
+	@Benchmark
+	public byte[] saveBinary(final NotationState state) throws IOException {
+		return save(state.resource, true);
+	}
+
+	@Benchmark
+	public Resource loadXmi(final NotationState state) throws IOException {
+		return load(state.xmi);
+	}
+
+	@Benchmark
+	public Resource loadBinary(final NotationState state) throws IOException {
+		return load(state.binary);
+	}
+
+	static byte[] save(final Resource resource, final boolean binary) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		resource.save(outputStream, Map.of(EnotationResource.OPTION_BINARY, binary));
+		return outputStream.toByteArray();
+	}
+
+	static Resource load(final byte[] content) throws IOException {
+		Resource resource = new EnotationResource(NOTATION_URI);
+		resource.load(new ByteArrayInputStream(content), null);
+		return resource;
+	}
+
+}
@@ -0,0 +1,126 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreSpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares region and nearest neighbour queries of the {@link EcoreSpatialIndex} with a linear scan over all shapes
+ * of the diagram. The region is a typical viewport in the middle of the diagram.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class SpatialIndexBenchmark {
+
+	private static final double VIEWPORT_WIDTH = 1600;
+	private static final double VIEWPORT_HEIGHT = 900;
+
+	@State(Scope.Benchmark)
+	public static class ShapeState {
+		@Param({ "1000", "10000" })
+		public int classifierCount;
+
+		public List<Shape> shapes;
+		public EcoreSpatialIndex<Shape> index;
+		public double centerX;
+		public double centerY;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			shapes = new ArrayList<>();
+			index = new EcoreSpatialIndex<>();
+			SyntheticEcoreModel.create(classifierCount).getDiagram().getElements().stream() //
+					.filter(Shape.class::isInstance) //
+					.map(Shape.class::cast) //
+					.forEach(shapes::add);
+			double maxX = 0;
+			double maxY = 0;
+			for (Shape shape : shapes) {
+				index.put(shape, shape.getPosition().getX(), shape.getPosition().getY(), shape.getSize().getWidth(),
+						shape.getSize().getHeight());
+				maxX = Math.max(maxX, shape.getPosition().getX());
+				maxY = Math.max(maxY, shape.getPosition().getY());
+			}
+			// between the shapes, so the nearest neighbour is not found in the first cell only
+			centerX = maxX / 2 + 10;
+			centerY = maxY / 2 + 10;
+		}
+	}
+
+	@Benchmark
+	public Set<Shape> regionIndexed(final ShapeState state) {
+		return state.index.findIntersecting(state.centerX - VIEWPORT_WIDTH / 2, state.centerY - VIEWPORT_HEIGHT / 2,
+				VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+	}
+
+	@Benchmark
+	public Set<Shape> regionScanning(final ShapeState state) {
+		double x = state.centerX - VIEWPORT_WIDTH / 2;
+		double y = state.centerY - VIEWPORT_HEIGHT / 2;
+		Set<Shape> result = new HashSet<>();
+		for (Shape shape : state.shapes) {
+			if (shape.getPosition().getX() <= x + VIEWPORT_WIDTH
+					&& x <= shape.getPosition().getX() + shape.getSize().getWidth()
+					&& shape.getPosition().getY() <= y + VIEWPORT_HEIGHT
+					&& y <= shape.getPosition().getY() + shape.getSize().getHeight()) {
+				result.add(shape);
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public Optional<Shape> nearestIndexed(final ShapeState state) {
+		return state.index.findNearest(state.centerX, state.centerY);
+	}
+
+	@Benchmark
+	public Optional<Shape> nearestScanning(final ShapeState state) {
+		Shape nearest = null;
+		double nearestDistance = Double.MAX_VALUE;
+		for (Shape shape : state.shapes) {
+			double dx = Math.max(0, Math.max(shape.getPosition().getX() - state.centerX,
+					state.centerX - shape.getPosition().getX() - shape.getSize().getWidth()));
+			double dy = Math.max(0, Math.max(shape.getPosition().getY() - state.centerY,
+					state.centerY - shape.getPosition().getY() - shape.getSize().getHeight()));
+			double distance = dx * dx + dy * dy;
+			if (distance < nearestDistance) {
+				nearestDistance = distance;
+				nearest = shape;
+			}
+		}
+		return Optional.ofNullable(nearest);
+	}
+
+}
@@ -0,0 +1,211 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EOperation;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
+import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.glsp.graph.util.GraphUtil;
+
+/**
+ * Generates an {@link EPackage} and a matching {@link Diagram} of a given size. The generator uses a fixed seed, so
+ * the same size always results in the same model and measurements of different commits stay comparable.
+ */
+public final class SyntheticEcoreModel {
+
+	private static final long SEED = 42;
+	private static final int COLUMNS = 20;
+	private static final double SHAPE_WIDTH = 175;
+	private static final double SHAPE_HEIGHT = 75;
+	private static final double SPACING = 50;
+
+	private final EPackage ePackage;
+	private final Diagram diagram;
+
+	private SyntheticEcoreModel(final EPackage ePackage, final Diagram diagram) {
+		this.ePackage = ePackage;
+		this.diagram = diagram;
+	}
+
+	public EPackage getEPackage() {
+		return ePackage;
+	}
+
+	public Diagram getDiagram() {
+		return diagram;
+	}
+
+	/**
+	 * Every 10th classifier is an enum and every 25th a data type, all others are classes with three attributes, an
+	 * operation, up to two references and an optional super type.
+	 */
+	public static SyntheticEcoreModel create(final int classifierCount) {
+		Random random = new Random(SEED);
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("benchmark");
+		ePackage.setNsPrefix("benchmark");
+		ePackage.setNsURI("http://www.eclipse.org/emfcloud/ecore/benchmark");
+		// a resource is required to derive stable uri fragments for the semantic proxies
+		Resource resource = new XMIResourceImpl(URI.createFileURI("/tmp/ecore-benchmark.ecore"));
+		resource.getContents().add(ePackage);
+
+		List<EClass> eClasses = new ArrayList<>();
+		List<EClassifier> types = new ArrayList<>();
+		for (int i = 0; i < classifierCount; i++) {
+			EClassifier classifier;
+			if (i % 25 == 24) {
+				classifier = createEDataType(i);
+			} else if (i % 10 == 9) {
+				classifier = createEEnum(i);
+			} else {
+				EClass eClass = createEClass(i);
+				eClasses.add(eClass);
+				classifier = eClass;
+			}
+			ePackage.getEClassifiers().add(classifier);
+			types.add(classifier);
+		}
+
+		for (int i = 0; i < eClasses.size(); i++) {
+			EClass eClass = eClasses.get(i);
+			int referenceCount = random.nextInt(3);
+			for (int r = 0; r < referenceCount; r++) {
+				EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+				eReference.setName("reference" + r);
+				eReference.setEType(eClasses.get(random.nextInt(eClasses.size())));
+				eReference.setContainment(random.nextInt(4) == 0);
+				eReference.setUpperBound(random.nextBoolean() ? 1 : -1);
+				eClass.getEStructuralFeatures().add(eReference);
+			}
+			// only inherit from classes with a lower index to avoid cycles
+			if (i > 0 && random.nextInt(3) == 0) {
+				eClass.getESuperTypes().add(eClasses.get(random.nextInt(i)));
+			}
+			if (random.nextInt(5) == 0) {
+				EClassifier type = types.get(random.nextInt(types.size()));
+				eClass.getEStructuralFeatures().add(createEAttribute("custom",
+						type instanceof EDataType ? (EDataType) type : EcorePackage.Literals.ESTRING));
+			}
+		}
+		return new SyntheticEcoreModel(ePackage, createDiagram(ePackage));
+	}
+
+	private static EClass createEClass(final int index) {
+		EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+		eClass.setName("Class" + index);
+		eClass.getEStructuralFeatures().add(createEAttribute("name", EcorePackage.Literals.ESTRING));
+		eClass.getEStructuralFeatures().add(createEAttribute("count", EcorePackage.Literals.EINT));
+		eClass.getEStructuralFeatures().add(createEAttribute("enabled", EcorePackage.Literals.EBOOLEAN));
+		EOperation eOperation = EcoreFactory.eINSTANCE.createEOperation();
+		eOperation.setName("compute");
+		eOperation.setEType(EcorePackage.Literals.EINT);
+		eClass.getEOperations().add(eOperation);
+		return eClass;
+	}
+
+	private static EAttribute createEAttribute(final String name, final EDataType type) {
+		EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+		eAttribute.setName(name);
+		eAttribute.setEType(type);
+		return eAttribute;
+	}
+
+	private static EEnum createEEnum(final int index) {
+		EEnum eEnum = EcoreFactory.eINSTANCE.createEEnum();
+		eEnum.setName("Enum" + index);
+		for (int i = 0; i < 4; i++) {
+			EEnumLiteral literal = EcoreFactory.eINSTANCE.createEEnumLiteral();
+			literal.setName("LITERAL" + i);
+			literal.setValue(i);
+			eEnum.getELiterals().add(literal);
+		}
+		return eEnum;
+	}
+
+	private static EDataType createEDataType(final int index) {
+		EDataType eDataType = EcoreFactory.eINSTANCE.createEDataType();
+		eDataType.setName("DataType" + index);
+		eDataType.setInstanceClassName("java.lang.String");
+		return eDataType;
+	}
+
+	private static Diagram createDiagram(final EPackage ePackage) {
+		Diagram diagram = EnotationFactory.eINSTANCE.createDiagram();
+		diagram.setSemanticElement(createProxy(ePackage));
+
+		Map<EClassifier, Shape> shapes = new HashMap<>();
+		int index = 0;
+		for (EClassifier classifier : ePackage.getEClassifiers()) {
+			Shape shape = EnotationFactory.eINSTANCE.createShape();
+			shape.setPosition(GraphUtil.point((index % COLUMNS) * (SHAPE_WIDTH + SPACING),
+					(index / COLUMNS) * (SHAPE_HEIGHT + SPACING)));
+			shape.setSize(GraphUtil.dimension(SHAPE_WIDTH, SHAPE_HEIGHT));
+			shape.setSemanticElement(createProxy(classifier));
+			diagram.getElements().add(shape);
+			shapes.put(classifier, shape);
+			index++;
+		}
+
+		for (EClassifier classifier : ePackage.getEClassifiers()) {
+			if (!(classifier instanceof EClass)) {
+				continue;
+			}
+			EClass eClass = (EClass) classifier;
+			for (EReference eReference : eClass.getEReferences()) {
+				Edge edge = EnotationFactory.eINSTANCE.createEdge();
+				edge.setSemanticElement(createProxy(eReference));
+				edge.setSource(shapes.get(eClass));
+				edge.setTarget(shapes.get(eReference.getEReferenceType()));
+				diagram.getElements().add(edge);
+			}
+			for (EClass superType : eClass.getESuperTypes()) {
+				Edge edge = EnotationFactory.eINSTANCE.createEdge();
+				edge.setType(Types.INHERITANCE);
+				edge.setSource(shapes.get(eClass));
+				edge.setTarget(shapes.get(superType));
+				diagram.getElements().add(edge);
+			}
+		}
+		return diagram;
+	}
+
+	private static SemanticProxy createProxy(final EObject semanticElement) {
+		SemanticProxy proxy = EnotationFactory.eINSTANCE.createSemanticProxy();
+		proxy.setUri(EcoreUtil.getURI(semanticElement).fragment());
+		return proxy;
+	}
+
+}
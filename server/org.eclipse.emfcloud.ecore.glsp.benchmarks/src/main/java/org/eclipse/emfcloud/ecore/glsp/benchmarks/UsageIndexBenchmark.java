@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.benchmarks;
+
+import java.net.MalformedURLException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.util.EcoreUtil.UsageCrossReferencer;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the usage lookup of the maintained usage index with a full {@link UsageCrossReferencer} scan, as done
+ * before the index was introduced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class UsageIndexBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class UsageState {
+		@Param({ "1000", "10000" })
+		public int classifierCount;
+
+		public EcoreModelState modelState;
+		public EClass eClass;
+
+		@Setup(Level.Trial)
+		public void setup() throws MalformedURLException {
+			modelState = BenchmarkModelState.createModelState(classifierCount);
+			// the first class is the most likely target of references and super types
+			eClass = (EClass) modelState.getEcoreFacade().getEPackage().getEClassifiers().get(0);
+		}
+	}
+
+	@Benchmark
+	public Collection<Setting> findUsagesIndexed(final UsageState state) {
+		return EcoreModelState.getResourceManager(state.modelState).findUsages(state.eClass);
+	}
+
+	@Benchmark
+	public Collection<Setting> findUsagesScanning(final UsageState state) {
+		return UsageCrossReferencer.find(state.eClass,
+				EcoreModelState.getResourceManager(state.modelState).getEditingDomain().getResourceSet());
+	}
+
+}
@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutEdge;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutNode;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Test;
+
+public class EcoreLayoutCacheTest {
+
+	private static final LayoutNode A = new LayoutNode("a", 0, 0, 100, 50, true);
+	private static final LayoutNode B = new LayoutNode("b", 200, 0, 100, 50, true);
+	private static final LayoutEdge A_TO_B = new LayoutEdge("ab", "a", "b");
+
+	@Test
+	public void keyIgnoresOrderAndPositions() {
+		String key = EcoreLayoutCache.createKey(List.of(A, B), List.of(A_TO_B), "full");
+		LayoutNode movedA = new LayoutNode("a", -300, 700, 100, 50, false);
+
+		assertEquals(key, EcoreLayoutCache.createKey(List.of(B, A), List.of(A_TO_B), "full"));
+		assertEquals(key, EcoreLayoutCache.createKey(List.of(movedA, B), List.of(A_TO_B), "full"));
+	}
+
+	@Test
+	public void keyDependsOnStructure() {
+		String key = EcoreLayoutCache.createKey(List.of(A, B), List.of(A_TO_B), "full");
+		LayoutNode resizedA = new LayoutNode("a", 0, 0, 150, 50, true);
+		LayoutEdge reversed = new LayoutEdge("ab", "b", "a");
+
+		assertNotEquals(key, EcoreLayoutCache.createKey(List.of(resizedA, B), List.of(A_TO_B), "full"));
+		assertNotEquals(key, EcoreLayoutCache.createKey(List.of(A, B), List.of(reversed), "full"));
+		assertNotEquals(key, EcoreLayoutCache.createKey(List.of(A, B), List.of(), "full"));
+		assertNotEquals(key, EcoreLayoutCache.createKey(List.of(A, B), List.of(A_TO_B), "incremental"));
+	}
+
+	@Test
+	public void keySeparatesAdjacentValues() {
+		LayoutNode ab = new LayoutNode("ab", 0, 0, 1, 1, true);
+		LayoutNode a = new LayoutNode("a", 0, 0, 1, 1, true);
+		LayoutNode b = new LayoutNode("b", 0, 0, 1, 1, true);
+
+		assertNotEquals(EcoreLayoutCache.createKey(List.of(ab), List.of(), ""),
+				EcoreLayoutCache.createKey(List.of(a, b), List.of(), ""));
+	}
+
+	@Test
+	public void cachedResultIsReused() {
+		EcoreLayoutCache cache = new EcoreLayoutCache(2);
+		AtomicInteger layouts = new AtomicInteger();
+		EcoreLayoutResult result = cache.get("key", () -> {
+			layouts.incrementAndGet();
+			return createResult();
+		});
+
+		EcoreLayoutResult cached = cache.get("key", () -> {
+			layouts.incrementAndGet();
+			return createResult();
+		});
+		assertEquals(1, layouts.get());
+		assertEquals(result.getPositions().get("a").getX(), cached.getPositions().get("a").getX(), 0);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void cachedResultIsNotShared() {
+		EcoreLayoutCache cache = new EcoreLayoutCache(2);
+		EcoreLayoutResult result = createResult();
+		cache.put("key", result);
+
+		// neither the stored result nor a returned copy reaches the cached points
+		result.getPositions().get("a").setX(1000);
+		cache.get("key").orElseThrow().getPositions().get("a").setX(2000);
+
+		assertEquals(10, cache.get("key").orElseThrow().getPositions().get("a").getX(), 0);
+	}
+
+	@Test
+	public void leastRecentlyUsedResultIsEvicted() {
+		EcoreLayoutCache cache = new EcoreLayoutCache(2);
+		cache.put("first", new EcoreLayoutResult());
+		cache.put("second", new EcoreLayoutResult());
+		// makes second the eldest entry
+		cache.get("first");
+		cache.put("third", new EcoreLayoutResult());
+
+		assertEquals(2, cache.size());
+		assertTrue(cache.get("first").isPresent());
+		assertFalse(cache.get("second").isPresent());
+		assertTrue(cache.get("third").isPresent());
+		assertEquals(1, cache.getEvictions());
+	}
+
+	@Test
+	public void shrinkingEvictsEldestResults() {
+		EcoreLayoutCache cache = new EcoreLayoutCache(3);
+		cache.put("first", new EcoreLayoutResult());
+		cache.put("second", new EcoreLayoutResult());
+		cache.put("third", new EcoreLayoutResult());
+
+		cache.setMaxEntries(1);
+
+		assertEquals(1, cache.size());
+		assertTrue(cache.get("third").isPresent());
+		assertEquals(2, cache.getEvictions());
+	}
+
+	@Test
+	public void zeroEntriesDisableCache() {
+		EcoreLayoutCache cache = new EcoreLayoutCache(0);
+		cache.put("key", new EcoreLayoutResult());
+
+		assertEquals(0, cache.size());
+		assertFalse(cache.get("key").isPresent());
+	}
+
+	@Test
+	public void layoutEngineUsesConfiguredCacheSize() {
+		EcoreServerConfiguration configuration = new EcoreServerConfiguration();
+		configuration.setLayoutCacheSize(5);
+
+		assertEquals(5, new EcoreLayoutEngine(configuration).getLayoutCache().getMaxEntries());
+		assertEquals(EcoreLayoutCache.DEFAULT_MAX_ENTRIES, new EcoreLayoutEngine().getLayoutCache().getMaxEntries());
+	}
+
+	private static EcoreLayoutResult createResult() {
+		EcoreLayoutResult result = new EcoreLayoutResult();
+		result.setBounds("a", GraphUtil.point(10, 20), GraphUtil.dimension(100, 50));
+		return result;
+	}
+
+}
@@ -0,0 +1,236 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.elk.alg.layered.options.LayeredMetaDataProvider;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutEdge;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutNode;
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.layout.ElkLayoutEngine;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class EcoreLayoutEngineTest {
+
+	private EcoreLayoutEngine layoutEngine;
+
+	@BeforeClass
+	public static void initializeElk() {
+		ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
+	}
+
+	@Before
+	public void setUp() {
+		layoutEngine = new EcoreLayoutEngine();
+	}
+
+	@Test
+	public void componentsAreSplitByEdges() {
+		List<LayoutNode> nodes = List.of(node("a"), node("b"), node("c"), node("d"), node("e"));
+		List<LayoutEdge> edges = List.of(edge("a", "b"), edge("d", "c"), edge("b", "missing"));
+
+		List<EcoreLayoutGraph> components = layoutEngine.findComponents(nodes, edges);
+
+		assertEquals(3, components.size());
+		assertEquals(List.of("a", "b"), ids(components.get(0)));
+		assertEquals(List.of("a->b"), edgeIds(components.get(0)));
+		assertEquals(List.of("c", "d"), ids(components.get(1)));
+		assertEquals(List.of("d->c"), edgeIds(components.get(1)));
+		assertEquals(List.of("e"), ids(components.get(2)));
+		assertTrue(components.get(2).getEdges().isEmpty());
+	}
+
+	@Test
+	public void componentsAreJoinedTransitively() {
+		List<LayoutNode> nodes = List.of(node("a"), node("b"), node("c"), node("d"));
+		List<LayoutEdge> edges = List.of(edge("a", "c"), edge("d", "b"), edge("c", "d"));
+
+		List<EcoreLayoutGraph> components = layoutEngine.findComponents(nodes, edges);
+
+		assertEquals(1, components.size());
+		assertEquals(List.of("a", "b", "c", "d"), ids(components.get(0)));
+		assertEquals(3, components.get(0).getEdges().size());
+	}
+
+	@Test
+	public void packedComponentsDoNotOverlap() {
+		List<LayoutNode> nodes = List.of(node("a"), node("b"), node("c"), node("d"), node("e"), node("f"));
+		List<LayoutEdge> edges = List.of(edge("a", "b"), edge("b", "c"), edge("d", "e"));
+
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(nodes, edges));
+
+		assertEquals(nodes.size(), result.getPositions().size());
+		assertEquals(edges.size(), result.getRoutingPoints().size());
+		for (int i = 0; i < nodes.size(); i++) {
+			for (int j = i + 1; j < nodes.size(); j++) {
+				String first = nodes.get(i).getId();
+				String second = nodes.get(j).getId();
+				assertFalse(first + " overlaps " + second, overlap(result, first, second));
+			}
+		}
+		result.getRoutingPoints().values().forEach(points -> assertTrue(points.size() >= 2));
+	}
+
+	@Test
+	public void singleNodeIsPlacedAtPadding() {
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(List.of(node("a")), List.of()));
+
+		GPoint position = result.getPositions().get("a");
+		assertTrue(position.getX() > 0);
+		assertTrue(position.getY() > 0);
+		assertEquals(100, result.getSizes().get("a").getWidth(), 0.001);
+	}
+
+	@Test
+	public void incrementalLayoutPlacesNodesBelowTheirPinnedNeighbour() {
+		List<LayoutNode> nodes = new ArrayList<>();
+		nodes.add(new LayoutNode("pinned", 1000, 30, 100, 50, true));
+		nodes.add(new LayoutNode("other", 0, 500, 100, 50, true));
+		nodes.add(node("a"));
+		nodes.add(node("b"));
+		List<LayoutEdge> edges = List.of(edge("a", "b"), edge("pinned", "a"));
+
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(nodes, edges), List.of("a", "b"));
+
+		assertFalse(result.getPositions().containsKey("pinned"));
+		assertFalse(result.getPositions().containsKey("other"));
+		double minY = 30 + 50 + EcoreLayoutEngine.INCREMENTAL_LAYOUT_SPACING;
+		assertEquals(minY, Math.min(result.getPositions().get("a").getY(), result.getPositions().get("b").getY()),
+				0.001);
+		// the block is centered below its neighbour, not at the left of the diagram
+		assertTrue(result.getPositions().get("a").getX() > 500);
+		assertFalse(result.getRoutingPoints().get("a->b").isEmpty());
+	}
+
+	@Test
+	public void incrementalLayoutKeepsSpacingToPinnedNodes() {
+		List<LayoutNode> nodes = new ArrayList<>();
+		nodes.add(new LayoutNode("pinned", 0, 0, 100, 50, true));
+		// directly below the neighbour, where the block would be placed first
+		nodes.add(new LayoutNode("obstacle", 0, 100, 100, 50, true));
+		nodes.add(node("a"));
+		List<LayoutEdge> edges = List.of(edge("pinned", "a"));
+
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(nodes, edges), List.of("a"));
+
+		assertEquals(100 + 50 + EcoreLayoutEngine.INCREMENTAL_LAYOUT_SPACING,
+				result.getPositions().get("a").getY(), 0.001);
+	}
+
+	@Test
+	public void incrementalLayoutRoutesConnectingEdges() {
+		List<LayoutNode> nodes = new ArrayList<>();
+		nodes.add(new LayoutNode("pinned", 40, 30, 100, 50, true));
+		nodes.add(node("a"));
+		List<LayoutEdge> edges = List.of(edge("pinned", "a"));
+
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(nodes, edges), List.of("a"));
+
+		List<GPoint> route = result.getRoutingPoints().get("pinned->a");
+		GPoint position = result.getPositions().get("a");
+		assertTrue(route.size() >= 2);
+		// leaves the bottom of the pinned node and enters the top of the laid out node
+		assertEquals(30 + 50, route.get(0).getY(), 0.001);
+		assertEquals(position.getY(), route.get(route.size() - 1).getY(), 0.001);
+		for (int i = 1; i < route.size(); i++) {
+			GPoint previous = route.get(i - 1);
+			GPoint current = route.get(i);
+			assertTrue("Segment " + i + " is not orthogonal",
+					previous.getX() == current.getX() || previous.getY() == current.getY());
+		}
+	}
+
+	@Test
+	public void incrementalLayoutWithoutPinnedNodesKeepsLayout() {
+		EcoreLayoutGraph graph = new EcoreLayoutGraph(List.of(node("a"), node("b")), List.of(edge("a", "b")));
+
+		EcoreLayoutResult incremental = layoutEngine.layout(graph, List.of("a", "b"));
+		EcoreLayoutResult full = layoutEngine.layout(graph);
+
+		assertEquals(full.getPositions().get("a").getX(), incremental.getPositions().get("a").getX(), 0.001);
+		assertEquals(full.getPositions().get("a").getY(), incremental.getPositions().get("a").getY(), 0.001);
+	}
+
+	@Test
+	public void repeatedLayoutIsAnsweredFromCache() {
+		EcoreLayoutGraph graph = new EcoreLayoutGraph(List.of(node("a"), node("b")), List.of(edge("a", "b")));
+
+		EcoreLayoutResult result = layoutEngine.layout(graph);
+		EcoreLayoutResult cached = layoutEngine.layout(graph);
+
+		assertEquals(1, layoutEngine.getLayoutCache().getHits());
+		assertNotSame(result, cached);
+		assertEquals(result.getPositions().get("a").getX(), cached.getPositions().get("a").getX(), 0.001);
+	}
+
+	@Test
+	public void modifiedResultDoesNotChangeCache() {
+		EcoreLayoutGraph graph = new EcoreLayoutGraph(List.of(node("a"), node("b")), List.of(edge("a", "b")));
+		EcoreLayoutResult result = layoutEngine.layout(graph);
+		double x = result.getPositions().get("a").getX();
+
+		result.getPositions().get("a").setX(x + 1000);
+		result.getRoutingPoints().get("a->b").get(0).setY(-1000);
+		result.setBounds("a", GraphUtil.point(-1, -1), GraphUtil.dimension(1, 1));
+
+		EcoreLayoutResult cached = layoutEngine.layout(graph);
+		assertEquals(x, cached.getPositions().get("a").getX(), 0.001);
+		assertEquals(100, cached.getSizes().get("a").getWidth(), 0.001);
+		assertTrue(cached.getRoutingPoints().get("a->b").get(0).getY() >= 0);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void resultMapsAreUnmodifiable() {
+		EcoreLayoutResult result = layoutEngine.layout(new EcoreLayoutGraph(List.of(node("a")), List.of()));
+
+		result.getPositions().clear();
+	}
+
+	private static LayoutNode node(final String id) {
+		return new LayoutNode(id, 0, 0, 100, 50, false);
+	}
+
+	private static LayoutEdge edge(final String sourceId, final String targetId) {
+		return new LayoutEdge(sourceId + "->" + targetId, sourceId, targetId);
+	}
+
+	private static List<String> ids(final EcoreLayoutGraph graph) {
+		return graph.getNodes().stream().map(LayoutNode::getId).collect(Collectors.toList());
+	}
+
+	private static List<String> edgeIds(final EcoreLayoutGraph graph) {
+		return graph.getEdges().stream().map(LayoutEdge::getId).collect(Collectors.toList());
+	}
+
+	private static boolean overlap(final EcoreLayoutResult result, final String first, final String second) {
+		GPoint firstPosition = result.getPositions().get(first);
+		GDimension firstSize = result.getSizes().get(first);
+		GPoint secondPosition = result.getPositions().get(second);
+		GDimension secondSize = result.getSizes().get(second);
+		return firstPosition.getX() < secondPosition.getX() + secondSize.getWidth()
+				&& secondPosition.getX() < firstPosition.getX() + firstSize.getWidth()
+				&& firstPosition.getY() < secondPosition.getY() + secondSize.getHeight()
+				&& secondPosition.getY() < firstPosition.getY() + firstSize.getHeight();
+	}
+
+}
@@ -0,0 +1,151 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EcoreTypeCatalogueTest {
+
+	private ResourceSet resourceSet;
+	private EcoreTypeCatalogue catalogue;
+	private EPackage ePackage;
+	private EClass eClass;
+	private EDataType eDataType;
+	private Diagram diagram;
+
+	@Before
+	public void setUp() {
+		ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		eClass = EcoreFactory.eINSTANCE.createEClass();
+		eClass.setName("Person");
+		eDataType = EcoreFactory.eINSTANCE.createEDataType();
+		eDataType.setName("Date");
+		ePackage.getEClassifiers().add(eClass);
+		ePackage.getEClassifiers().add(eDataType);
+		diagram = EnotationFactory.eINSTANCE.createDiagram();
+
+		resourceSet = new ResourceSetImpl();
+		resourceSet.getResources().add(createResource("test.ecore", ePackage));
+		resourceSet.getResources().add(createResource("test.enotation", diagram));
+		catalogue = new EcoreTypeCatalogue(resourceSet);
+		resourceSet.eAdapters().add(catalogue);
+	}
+
+	@Test
+	public void containsEcoreAndLoadedDataTypes() {
+		assertTrue(catalogue.getEDataTypes().contains(EcorePackage.Literals.ESTRING));
+		assertTrue(catalogue.getEDataTypes().contains(eDataType));
+		assertFalse(catalogue.getEDataTypes().contains(eClass));
+		assertSame(eDataType, catalogue.getEDataType("date").get());
+	}
+
+	@Test
+	public void addedClassifierInvalidates() {
+		List<String> names = catalogue.getSortedEDataTypeNames();
+		EDataType newDataType = EcoreFactory.eINSTANCE.createEDataType();
+		newDataType.setName("Duration");
+		ePackage.getEClassifiers().add(newDataType);
+
+		assertNotSame(names, catalogue.getSortedEDataTypeNames());
+		assertTrue(catalogue.getSortedEDataTypeNames().contains("Duration"));
+	}
+
+	@Test
+	public void removedClassifierInvalidates() {
+		catalogue.getEDataTypes();
+		ePackage.getEClassifiers().remove(eDataType);
+
+		assertFalse(catalogue.getEDataTypes().contains(eDataType));
+	}
+
+	@Test
+	public void renamedDataTypeInvalidates() {
+		catalogue.getEDataTypes();
+		eDataType.setName("Timestamp");
+
+		assertTrue(catalogue.getEDataType("Timestamp").isPresent());
+		assertFalse(catalogue.getEDataType("Date").isPresent());
+	}
+
+	@Test
+	public void addedAndRemovedResourceInvalidates() {
+		EPackage otherPackage = EcoreFactory.eINSTANCE.createEPackage();
+		EDataType otherDataType = EcoreFactory.eINSTANCE.createEDataType();
+		otherDataType.setName("Money");
+		otherPackage.getEClassifiers().add(otherDataType);
+		Resource otherResource = createResource("other.ecore", otherPackage);
+
+		catalogue.getEDataTypes();
+		resourceSet.getResources().add(otherResource);
+		assertTrue(catalogue.getEDataTypes().contains(otherDataType));
+
+		resourceSet.getResources().remove(otherResource);
+		assertFalse(catalogue.getEDataTypes().contains(otherDataType));
+	}
+
+	@Test
+	public void otherChangesKeepCatalogue() {
+		List<String> names = catalogue.getSortedEDataTypeNames();
+		eClass.setName("Customer");
+		eClass.getEStructuralFeatures().add(EcoreFactory.eINSTANCE.createEAttribute());
+		eDataType.setInstanceClassName("java.util.Date");
+		diagram.getElements().add(EnotationFactory.eINSTANCE.createShape());
+		resourceSet.getResources().add(createResource("other.enotation", EnotationFactory.eINSTANCE.createDiagram()));
+
+		assertSame(names, catalogue.getSortedEDataTypeNames());
+	}
+
+	@Test
+	public void notationResourcesAreNotObserved() {
+		Resource notationResource = diagram.eResource();
+
+		assertFalse(notationResource.eAdapters().contains(catalogue));
+		assertFalse(diagram.eAdapters().contains(catalogue));
+		assertTrue(ePackage.eAdapters().contains(catalogue));
+	}
+
+	@Test
+	public void unnamedDataTypesAreNotListed() {
+		EDataType unnamed = EcoreFactory.eINSTANCE.createEDataType();
+		ePackage.getEClassifiers().add(unnamed);
+
+		assertTrue(catalogue.getEDataTypes().contains(unnamed));
+		assertFalse(catalogue.getSortedEDataTypeNames().contains(null));
+	}
+
+	private static Resource createResource(final String fileName, final EObject root) {
+		Resource resource = new ResourceImpl(URI.createFileURI("/tmp/ecore-test/" + fileName));
+		resource.getContents().add(root);
+		return resource;
+	}
+
+}
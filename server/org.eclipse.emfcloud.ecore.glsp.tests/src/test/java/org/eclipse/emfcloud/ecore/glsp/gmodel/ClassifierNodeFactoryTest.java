@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.gmodel;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findNode;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getEPackage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Regenerates the classifier nodes for a viewport, as the viewport changed action handler does, and checks which of
+ * them are sent as placeholders.
+ */
+public class ClassifierNodeFactoryTest {
+
+	private EcoreModelState modelState;
+
+	@Before
+	public void setUp() throws MalformedURLException {
+		modelState = new TestModelServerAccess().createModelState();
+		// only the first shape of the row is visible
+		modelState.setViewport(GraphUtil.bounds(0, 0, TestEcoreModel.SHAPE_WIDTH, TestEcoreModel.SHAPE_HEIGHT));
+		regenerate();
+	}
+
+	@Test
+	public void classifiersOutsideOfViewportArePlaceholders() {
+		assertFalse(isPlaceholder(getClassifier(modelState, TestEcoreModel.BASE, EClass.class)));
+		assertTrue(isPlaceholder(getClassifier(modelState, TestEcoreModel.NODE, EClass.class)));
+		assertTrue(isPlaceholder(getClassifier(modelState, TestEcoreModel.KIND, EEnum.class)));
+	}
+
+	@Test
+	public void placeholderKeepsBoundsOfShape() {
+		EClass node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+		GNode placeholder = findNode(modelState, node).orElseThrow();
+
+		assertEquals(TestEcoreModel.SHAPE_WIDTH + TestEcoreModel.SPACING, placeholder.getPosition().getX(), 0);
+		assertEquals(TestEcoreModel.SHAPE_WIDTH, placeholder.getSize().getWidth(), 0);
+		assertEquals(TestEcoreModel.SHAPE_HEIGHT, placeholder.getSize().getHeight(), 0);
+	}
+
+	@Test
+	public void placeholderBoundsAreNotWrittenToShapes() {
+		EClass node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+		GNode placeholder = findNode(modelState, node).orElseThrow();
+		// e.g. the client computed the bounds of the empty node
+		placeholder.setPosition(GraphUtil.point(1, 2));
+		placeholder.setSize(GraphUtil.dimension(10, 10));
+
+		EcoreFacade ecoreFacade = modelState.getEcoreFacade();
+		ecoreFacade.initialize(ecoreFacade.getDiagram(), modelState.getRoot());
+
+		Shape shape = modelState.getIndex().getNotation(node, Shape.class).orElseThrow();
+		assertEquals(TestEcoreModel.SHAPE_WIDTH + TestEcoreModel.SPACING, shape.getPosition().getX(), 0);
+		assertEquals(0, shape.getPosition().getY(), 0);
+		assertEquals(TestEcoreModel.SHAPE_WIDTH, shape.getSize().getWidth(), 0);
+		assertEquals(TestEcoreModel.SHAPE_HEIGHT, shape.getSize().getHeight(), 0);
+		assertFalse(ecoreFacade.isDiverged());
+	}
+
+	@Test
+	public void movedShapeEntersViewport() {
+		EClass node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+		GModelFactory gModelFactory = modelState.getEditorContext().getGModelFactory();
+		assertFalse(gModelFactory.isInViewport(node));
+
+		modelState.getIndex().getNotation(node, Shape.class).orElseThrow()
+				.setPosition(GraphUtil.point(0, TestEcoreModel.SHAPE_HEIGHT));
+
+		assertTrue(gModelFactory.isInViewport(node));
+	}
+
+	@Test
+	public void noViewportCreatesAllNodes() {
+		modelState.setViewport(null);
+		regenerate();
+
+		getEPackage(modelState).getEClassifiers().forEach(classifier -> assertFalse(isPlaceholder(classifier)));
+	}
+
+	private void regenerate() {
+		EcoreFacade ecoreFacade = modelState.getEcoreFacade();
+		EPackage ePackage = ecoreFacade.getEPackage();
+		ecoreFacade.initialize(ecoreFacade.getDiagram(),
+				modelState.getEditorContext().getGModelFactory().update(ePackage, ePackage.getEClassifiers()));
+	}
+
+	private boolean isPlaceholder(EClassifier classifier) {
+		return findNode(modelState, classifier).orElseThrow().getCssClasses().contains(CSS.PLACEHOLDER);
+	}
+
+}
@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.gmodel;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findLabelText;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findNode;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.EcoreServerConfiguration;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.glsp.test.CommandReplay;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.glsp.graph.GNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the classifier nodes cached while loading the test model are reused as long as their classifier is
+ * unchanged, and that renaming and collapsing a classifier are never answered with a stale node.
+ */
+public class GModelFragmentCacheTest {
+
+	private TestModelServerAccess modelServerAccess;
+	private EcoreModelState modelState;
+	private GModelFragmentCache fragmentCache;
+
+	@Before
+	public void setUp() throws MalformedURLException {
+		modelServerAccess = new TestModelServerAccess();
+		modelState = modelServerAccess.createModelState();
+		fragmentCache = modelState.getEditorContext().getGModelFactory().getFragmentCache();
+	}
+
+	@Test
+	public void unchangedClassifiersAreReused() {
+		EEnum kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+		GNode kindNode = findNode(modelState, kind).orElseThrow();
+		long hits = fragmentCache.getHits();
+
+		regenerate();
+
+		assertEquals(hits + 3, fragmentCache.getHits());
+		// the previous node is still part of the graph until it is replaced, so the cache hands out a copy
+		GNode regenerated = findNode(modelState, kind).orElseThrow();
+		assertNotSame(kindNode, regenerated);
+		assertEquals(kindNode.getId(), regenerated.getId());
+	}
+
+	@Test
+	public void renameInvalidatesAllEntries() {
+		EEnum kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+		EClass base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		assertEquals(3, fragmentCache.size());
+		long invalidations = fragmentCache.getInvalidations();
+
+		kind.setName("Renamed");
+
+		// the name of a classifier may be shown by the labels of any other classifier
+		assertEquals(0, fragmentCache.size());
+		assertEquals(invalidations + 3, fragmentCache.getInvalidations());
+		assertEquals(Optional.empty(), fragmentCache.get(base, toId(base), false));
+	}
+
+	@Test
+	public void renamedClassifierIsRegenerated() {
+		EEnum kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+		long hits = fragmentCache.getHits();
+
+		kind.setName("Renamed");
+		regenerate();
+
+		assertEquals(hits, fragmentCache.getHits());
+		assertEquals(Optional.of("Renamed"),
+				findLabelText(findNode(modelState, kind).orElseThrow(), Types.LABEL_NAME));
+	}
+
+	@Test
+	public void collapseIsNotAnsweredFromCache() {
+		EClass base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		EEnum kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+		GNode kindNode = findNode(modelState, kind).orElseThrow();
+		Shape shape = modelState.getIndex().getNotation(base, Shape.class).orElseThrow();
+		assertTrue(fragmentCache.get(base, toId(base), false).isPresent());
+
+		modelServerAccess.setCollapsedAsync(modelState, List.of(shape), true);
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+
+		GNode baseNode = findNode(modelState, base).orElseThrow();
+		assertTrue(baseNode.getCssClasses().contains(CSS.COLLAPSED));
+		// the header is the only child of a collapsed class
+		assertEquals(1, baseNode.getChildren().size());
+		assertSame(kindNode, findNode(modelState, kind).orElseThrow());
+		assertTrue(fragmentCache.get(base, toId(base), true).isPresent());
+		assertFalse(fragmentCache.get(base, toId(base), false).isPresent());
+	}
+
+	@Test
+	public void disabledCacheAlwaysMisses() {
+		EcoreServerConfiguration configuration = new EcoreServerConfiguration();
+		configuration.setGModelCacheEnabled(false);
+		modelState = modelServerAccess.createModelState(configuration);
+		fragmentCache = modelState.getEditorContext().getGModelFactory().getFragmentCache();
+
+		regenerate();
+
+		assertFalse(fragmentCache.isEnabled());
+		assertEquals(0, fragmentCache.size());
+		assertEquals(0, fragmentCache.getHits());
+	}
+
+	private void regenerate() {
+		EcoreFacade ecoreFacade = modelState.getEcoreFacade();
+		EPackage ePackage = ecoreFacade.getEPackage();
+		ecoreFacade.initialize(ecoreFacade.getDiagram(),
+				modelState.getEditorContext().getGModelFactory().update(ePackage, ePackage.getEClassifiers()));
+	}
+
+	private String toId(final EClassifier classifier) {
+		return modelState.getIndex().getSemanticId(classifier).orElseThrow();
+	}
+
+}
@@ -0,0 +1,106 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EcoreModelServerAccessTest {
+
+	private TestModelServerAccess access;
+	private List<String> sent;
+
+	@Before
+	public void setUp() throws Exception {
+		access = new TestModelServerAccess();
+		sent = new ArrayList<>();
+	}
+
+	@Test
+	public void requestIsSentOnlyAfterPreviousRequestCompleted() {
+		CompletableFuture<Boolean> firstResponse = new CompletableFuture<>();
+		CompletableFuture<Boolean> first = access.enqueue(() -> send("first", firstResponse));
+		CompletableFuture<Boolean> second = access
+				.enqueue(() -> send("second", CompletableFuture.completedFuture(true)));
+
+		assertEquals(List.of("first"), sent);
+		assertFalse(second.isDone());
+
+		firstResponse.complete(true);
+		assertTrue(first.join());
+		assertTrue(second.join());
+		assertEquals(List.of("first", "second"), sent);
+	}
+
+	@Test
+	public void failedRequestDoesNotBlockLaterRequests() {
+		CompletableFuture<Boolean> firstResponse = new CompletableFuture<>();
+		CompletableFuture<Boolean> first = access.enqueue(() -> send("first", firstResponse));
+		CompletableFuture<Boolean> second = access
+				.enqueue(() -> send("second", CompletableFuture.completedFuture(true)));
+
+		firstResponse.completeExceptionally(new IllegalStateException("model server unavailable"));
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(second.join());
+		assertEquals(List.of("first", "second"), sent);
+	}
+
+	@Test
+	public void renameKeepsPositionOfLocalShape() {
+		EcoreModelState modelState = access.createModelState();
+		EClass node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+		Shape shape = modelState.getIndex().getNotation(node, Shape.class).orElseThrow();
+
+		assertTrue(access.setName(modelState, node, "Renamed"));
+
+		// the local notation model is only changed by replaying the command, not by creating it
+		assertNotNull(shape.getPosition());
+		assertEquals(TestEcoreModel.SHAPE_WIDTH + TestEcoreModel.SPACING, shape.getPosition().getX(), 0);
+		assertEquals(0, shape.getPosition().getY(), 0);
+	}
+
+	@Test
+	public void renameKeepsBendPointsOfLocalEdge() {
+		EcoreModelState modelState = access.createModelState();
+		EReference parent = (EReference) getClassifier(modelState, TestEcoreModel.NODE, EClass.class)
+				.getEStructuralFeature(TestEcoreModel.PARENT);
+		Edge edge = modelState.getIndex().getNotation(parent, Edge.class).orElseThrow();
+		edge.getBendPoints().add(GraphUtil.point(100, 100));
+
+		assertTrue(access.setEdgeName(modelState, parent, "renamed"));
+
+		assertEquals(1, edge.getBendPoints().size());
+		assertEquals(100, edge.getBendPoints().get(0).getX(), 0);
+	}
+
+	private CompletableFuture<Boolean> send(final String request, final CompletableFuture<Boolean> response) {
+		sent.add(request);
+		return response;
+	}
+
+}
@@ -0,0 +1,35 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class EcoreModelSourceLoaderTest {
+
+	@Test
+	public void parseUpdateWindow() {
+		assertEquals(Optional.of(25L), EcoreModelSourceLoader.parseUpdateWindow("25"));
+		assertEquals(Optional.of(0L), EcoreModelSourceLoader.parseUpdateWindow(" 0 "));
+	}
+
+	@Test
+	public void invalidUpdateWindowIsIgnored() {
+		assertTrue(EcoreModelSourceLoader.parseUpdateWindow("fast").isEmpty());
+		assertTrue(EcoreModelSourceLoader.parseUpdateWindow("").isEmpty());
+		assertTrue(EcoreModelSourceLoader.parseUpdateWindow("1.5").isEmpty());
+	}
+
+}
@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emfcloud.ecore.glsp.test.CommandReplay;
+import org.eclipse.emfcloud.modelserver.command.CCommandExecutionResult;
+import org.eclipse.emfcloud.modelserver.command.CommandExecutionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EcoreModelUpdateSchedulerTest {
+
+	private static final long UPDATE_WINDOW = 50;
+	private static final long TIMEOUT = 2000;
+
+	private final Object modelLock = new Object();
+	private final Semaphore submissions = new Semaphore(0);
+	private RecordingModelState modelState;
+	private EcoreModelUpdateScheduler scheduler;
+
+	@Before
+	public void setUp() {
+		modelState = new RecordingModelState();
+		scheduler = new EcoreModelUpdateScheduler(modelState, submissions::release, modelLock, UPDATE_WINDOW);
+	}
+
+	@After
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Test
+	public void updatesWithinWindowAreSubmittedOnce() throws InterruptedException {
+		List<CCommandExecutionResult> updates = List.of(createUpdate(), createUpdate(), createUpdate());
+		updates.forEach(scheduler::scheduleUpdate);
+
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertFalse(submissions.tryAcquire(UPDATE_WINDOW * 3, TimeUnit.MILLISECONDS));
+		assertEquals(updates, modelState.appliedUpdates);
+		assertEquals(0, modelState.reloads.get());
+		assertEquals(3, scheduler.getReceivedNotifications());
+		assertEquals(0, scheduler.getDroppedNotifications());
+		assertEquals(1, scheduler.getPerformedRebuilds());
+	}
+
+	@Test
+	public void updatesOfSeparateWindowsAreSubmittedSeparately() throws InterruptedException {
+		scheduler.scheduleUpdate(createUpdate());
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+		scheduler.scheduleUpdate(createUpdate());
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+
+		assertEquals(2, modelState.appliedUpdates.size());
+		assertEquals(2, scheduler.getPerformedRebuilds());
+	}
+
+	@Test
+	public void reloadDropsPendingUpdates() throws InterruptedException {
+		scheduler.scheduleUpdate(createUpdate());
+		scheduler.scheduleUpdate(createUpdate());
+		scheduler.scheduleReload();
+		scheduler.scheduleUpdate(createUpdate());
+
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertFalse(submissions.tryAcquire(UPDATE_WINDOW * 3, TimeUnit.MILLISECONDS));
+		assertTrue(modelState.appliedUpdates.isEmpty());
+		assertEquals(1, modelState.reloads.get());
+		assertEquals(4, scheduler.getReceivedNotifications());
+		assertEquals(3, scheduler.getDroppedNotifications());
+	}
+
+	@Test
+	public void failedUpdateFallsBackToReload() throws InterruptedException {
+		modelState.failUpdates = true;
+		scheduler.scheduleUpdate(createUpdate());
+		scheduler.scheduleUpdate(createUpdate());
+		scheduler.scheduleUpdate(createUpdate());
+
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(1, modelState.appliedUpdates.size());
+		assertEquals(1, modelState.reloads.get());
+		assertEquals(2, scheduler.getDroppedNotifications());
+		assertEquals(1, scheduler.getPerformedRebuilds());
+	}
+
+	@Test
+	public void flushWaitsForModelLock() throws InterruptedException {
+		synchronized (modelLock) {
+			scheduler.scheduleUpdate(createUpdate());
+			assertFalse(submissions.tryAcquire(UPDATE_WINDOW * 3, TimeUnit.MILLISECONDS));
+			assertTrue(modelState.appliedUpdates.isEmpty());
+		}
+		assertTrue(submissions.tryAcquire(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(1, modelState.appliedUpdates.size());
+	}
+
+	@Test
+	public void disposedSchedulerIgnoresUpdates() throws InterruptedException {
+		scheduler.dispose();
+		scheduler.scheduleUpdate(createUpdate());
+
+		assertFalse(submissions.tryAcquire(UPDATE_WINDOW * 3, TimeUnit.MILLISECONDS));
+		assertTrue(modelState.appliedUpdates.isEmpty());
+	}
+
+	private static CCommandExecutionResult createUpdate() {
+		return CommandReplay.createResult(CommandExecutionType.EXECUTE, null);
+	}
+
+	private static class RecordingModelState extends EcoreModelState {
+
+		final List<CCommandExecutionResult> appliedUpdates = Collections.synchronizedList(new ArrayList<>());
+		final AtomicInteger reloads = new AtomicInteger();
+		volatile boolean failUpdates;
+
+		@Override
+		public void loadSourceModels() {
+			reloads.incrementAndGet();
+		}
+
+		@Override
+		public boolean updateSourceModels(CCommandExecutionResult commandResult) {
+			appliedUpdates.add(commandResult);
+			return !failUpdates;
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findEdge;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findLabelText;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.findNode;
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
+import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.test.CommandReplay;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Replays the commands created by the {@link EcoreModelServerAccess} on a loaded model state, as the model server
+ * notifies about them, and checks the incrementally updated source models and GModel.
+ */
+public class EcoreModelUpdaterTest {
+
+	private TestModelServerAccess modelServerAccess;
+	private EcoreModelState modelState;
+
+	@Before
+	public void setUp() throws MalformedURLException {
+		modelServerAccess = new TestModelServerAccess();
+		modelState = modelServerAccess.createModelState();
+	}
+
+	@Test
+	public void replaySetOfSemanticFeature() {
+		EReference parent = (EReference) getClassifier(modelState, TestEcoreModel.NODE, EClass.class)
+				.getEStructuralFeature(TestEcoreModel.PARENT);
+		assertEquals(Optional.of("[0..1]"), findEdge(modelState, parent)
+				.flatMap(edge -> findLabelText(edge, Types.LABEL_EDGE_MULTIPLICITY)));
+
+		modelServerAccess.setLowerMultiplicityAsync(modelState, parent, 1);
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+		assertEquals(1, parent.getLowerBound());
+		assertEquals(Optional.of("[1..1]"), findEdge(modelState, parent)
+				.flatMap(edge -> findLabelText(edge, Types.LABEL_EDGE_MULTIPLICITY)));
+	}
+
+	@Test
+	public void replaySetOfNotationFeature() {
+		EClass base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		Shape shape = modelState.getIndex().getNotation(base, Shape.class).orElseThrow();
+
+		modelServerAccess.setCollapsedAsync(modelState, List.of(shape), true);
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+		assertTrue(shape.isCollapsed());
+		assertTrue(findNode(modelState, base).orElseThrow().getCssClasses().contains(CSS.COLLAPSED));
+	}
+
+	@Test
+	public void replayAdd() {
+		int elementCount = getDiagram().getElements().size();
+		EClass added = EcoreFactory.eINSTANCE.createEClass();
+		added.setName("Added");
+
+		modelServerAccess.addEClassifierAsync(modelState, added, createShape(added));
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+		EClassifier localAdded = getClassifier(modelState, "Added", EClass.class);
+		assertSame(added, localAdded);
+		assertEquals(elementCount + 1, getDiagram().getElements().size());
+		assertTrue(modelState.getIndex().getNotation(added, Shape.class).isPresent());
+		GNode node = findNode(modelState, added).orElseThrow();
+		assertEquals(Optional.of("Added"), findLabelText(node, Types.LABEL_NAME));
+		assertEquals(0, node.getPosition().getX(), 0);
+		assertEquals(200, node.getPosition().getY(), 0);
+		assertFalse(modelState.getEcoreFacade().isDiverged());
+	}
+
+	@Test
+	public void replayRemove() {
+		EClass node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+
+		modelServerAccess.removeElementsAsync(modelState, List.of(node));
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+		assertNull(modelState.getEcoreFacade().getEPackage().getEClassifier(TestEcoreModel.NODE));
+		assertTrue(findNode(modelState, node).isEmpty());
+		// the reference and the inheritance edge are removed with their source
+		assertTrue(modelState.getRoot().getChildren().stream().noneMatch(GEdge.class::isInstance));
+		assertEquals(2, getDiagram().getElements().size());
+	}
+
+	@Test
+	public void replayUndoAfterAdd() {
+		int elementCount = getDiagram().getElements().size();
+		EClass added = EcoreFactory.eINSTANCE.createEClass();
+		added.setName("Added");
+		modelServerAccess.addEClassifierAsync(modelState, added, createShape(added));
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+
+		assertTrue(CommandReplay.undo(modelState));
+
+		assertNull(modelState.getEcoreFacade().getEPackage().getEClassifier("Added"));
+		assertEquals(elementCount, getDiagram().getElements().size());
+		assertTrue(findNode(modelState, added).isEmpty());
+
+		assertTrue(CommandReplay.redo(modelState));
+
+		assertEquals(elementCount + 1, getDiagram().getElements().size());
+		assertTrue(findNode(modelState, added).isPresent());
+	}
+
+	@Test
+	public void updateKeepsNodesOfUnchangedClassifiers() {
+		EClass base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		EEnum kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+		GNode baseNode = findNode(modelState, base).orElseThrow();
+		GNode kindNode = findNode(modelState, kind).orElseThrow();
+		Shape shape = modelState.getIndex().getNotation(base, Shape.class).orElseThrow();
+
+		modelServerAccess.setCollapsedAsync(modelState, List.of(shape), true);
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+
+		assertNotSame(baseNode, findNode(modelState, base).orElseThrow());
+		assertSame(kindNode, findNode(modelState, kind).orElseThrow());
+		assertEquals(3, modelState.getRoot().getChildren().stream().filter(GNode.class::isInstance).count());
+	}
+
+	@Test
+	public void divergedNotationFallsBackToFullReload() throws MalformedURLException {
+		// the enum has no shape on the model server, so the loaded diagram gets one that the server does not know
+		modelServerAccess = new TestModelServerAccess(() -> TestEcoreModel.create(Set.of(TestEcoreModel.KIND)));
+		modelState = modelServerAccess.createModelState();
+		assertTrue(modelState.getEcoreFacade().isDiverged());
+		EClass base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		Shape shape = modelState.getIndex().getNotation(base, Shape.class).orElseThrow();
+
+		modelServerAccess.setCollapsedAsync(modelState, List.of(shape), true);
+
+		assertFalse(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+		assertFalse(shape.isCollapsed());
+	}
+
+	@Test
+	public void unchangedNotationDoesNotDiverge() {
+		assertFalse(modelState.getEcoreFacade().isDiverged());
+	}
+
+	private Diagram getDiagram() {
+		return modelState.getEcoreFacade().getDiagram();
+	}
+
+	private static Shape createShape(final EClassifier classifier) {
+		Shape shape = EnotationFactory.eINSTANCE.createShape();
+		shape.setPosition(GraphUtil.point(0, 200));
+		shape.setSize(GraphUtil.dimension(TestEcoreModel.SHAPE_WIDTH, TestEcoreModel.SHAPE_HEIGHT));
+		SemanticProxy proxy = EnotationFactory.eINSTANCE.createSemanticProxy();
+		proxy.setUri("//" + classifier.getName());
+		shape.setSemanticElement(proxy);
+		return shape;
+	}
+
+}
@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.EnotationPackage;
+import org.eclipse.emfcloud.ecore.glsp.test.CommandReplay;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+import org.eclipse.emfcloud.modelserver.command.CCompoundCommand;
+import org.eclipse.emfcloud.modelserver.edit.DefaultCommandCodec;
+import org.eclipse.emfcloud.modelserver.edit.EMFCommandType;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.types.ElementAndRoutingPoints;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the notation commands created by the {@link EcoreModelServerAccess} and their
+ * {@link NotationCommandStatistics}.
+ */
+public class NotationCommandTest {
+
+	private TestModelServerAccess modelServerAccess;
+	private EcoreModelState modelState;
+	private Edge edge;
+
+	@Before
+	public void setUp() throws MalformedURLException {
+		modelServerAccess = new TestModelServerAccess();
+		modelState = modelServerAccess.createModelState();
+		EReference parent = (EReference) getClassifier(modelState, TestEcoreModel.NODE, EClass.class)
+				.getEStructuralFeature(TestEcoreModel.PARENT);
+		edge = modelState.getIndex().getNotation(parent, Edge.class).orElseThrow();
+	}
+
+	@Test
+	public void bendPointsAreReplacedWithOneRemoveAndOneAdd() {
+		setBendPoints(GraphUtil.point(10, 20), GraphUtil.point(30, 40));
+		List<CCommand> commands = takeSubCommands();
+		assertEquals(1, commands.size());
+		assertEquals(EMFCommandType.ADD, commands.get(0).getType());
+		assertEquals(EnotationPackage.Literals.EDGE__BEND_POINTS.getName(), commands.get(0).getFeature());
+		assertEquals(1, modelServerAccess.getCommandStatistics().getEmittedCommands());
+		// two adds would have been sent for the two points
+		assertEquals(1, modelServerAccess.getCommandStatistics().getEliminatedCommands());
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(0)));
+		assertPoints(GraphUtil.point(10, 20), GraphUtil.point(30, 40));
+
+		setBendPoints(GraphUtil.point(50, 60), GraphUtil.point(70, 80));
+		commands = takeSubCommands();
+		assertEquals(2, commands.size());
+		assertEquals(EMFCommandType.REMOVE, commands.get(0).getType());
+		assertEquals(EMFCommandType.ADD, commands.get(1).getType());
+		assertEquals(3, modelServerAccess.getCommandStatistics().getEmittedCommands());
+		// one remove and two adds would have been sent
+		assertEquals(2, modelServerAccess.getCommandStatistics().getEliminatedCommands());
+
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(1)));
+		assertPoints(GraphUtil.point(50, 60), GraphUtil.point(70, 80));
+	}
+
+	@Test
+	public void bendPointsCanBeCleared() {
+		setBendPoints(GraphUtil.point(10, 20));
+		CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(0));
+
+		setBendPoints();
+		List<CCommand> commands = takeSubCommands();
+		assertEquals(1, commands.size());
+		assertEquals(EMFCommandType.REMOVE, commands.get(0).getType());
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(1)));
+		assertPoints();
+	}
+
+	@Test
+	public void bendPointCommandsRoundTripThroughCodec() throws Exception {
+		setBendPoints(GraphUtil.point(10, 20));
+		CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(0));
+		setBendPoints(GraphUtil.point(50, 60), GraphUtil.point(70, 80));
+
+		// decoded and encoded again as the model server does before it notifies the subscribers
+		DefaultCommandCodec codec = new DefaultCommandCodec();
+		EditingDomain editingDomain = modelState.getEditorContext().getResourceManager().getEditingDomain();
+		Command decoded = codec.decode(editingDomain, modelServerAccess.getSentCommands().get(1));
+		assertTrue(decoded.canExecute());
+		CCommand encoded = codec.encode(decoded);
+
+		assertTrue(CommandReplay.execute(modelState, encoded));
+		assertPoints(GraphUtil.point(50, 60), GraphUtil.point(70, 80));
+	}
+
+	@Test
+	public void unchangedBendPointsAreNotSent() {
+		setBendPoints(GraphUtil.point(10, 20));
+		CommandReplay.execute(modelState, modelServerAccess.getSentCommands().get(0));
+		long emitted = modelServerAccess.getCommandStatistics().getEmittedCommands();
+		long eliminated = modelServerAccess.getCommandStatistics().getEliminatedCommands();
+
+		assertTrue(modelServerAccess.setBendPointsAsync(modelState, Map.of(edge,
+				new ElementAndRoutingPoints("edge", List.of(GraphUtil.point(10, 20))))).join());
+
+		assertEquals(1, modelServerAccess.getSentCommands().size());
+		assertEquals(emitted, modelServerAccess.getCommandStatistics().getEmittedCommands());
+		assertEquals(eliminated + 2, modelServerAccess.getCommandStatistics().getEliminatedCommands());
+	}
+
+	private void setBendPoints(final GPoint... points) {
+		modelServerAccess.setBendPointsAsync(modelState,
+				Map.of(edge, new ElementAndRoutingPoints("edge", List.of(points))));
+	}
+
+	private List<CCommand> takeSubCommands() {
+		List<CCommand> sent = modelServerAccess.getSentCommands();
+		return ((CCompoundCommand) sent.get(sent.size() - 1)).getCommands();
+	}
+
+	private void assertPoints(final GPoint... expected) {
+		assertEquals(expected.length, edge.getBendPoints().size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getX(), edge.getBendPoints().get(i).getX(), 0.001);
+			assertEquals(expected[i].getY(), edge.getBendPoints().get(i).getY(), 0.001);
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import static org.eclipse.emfcloud.ecore.glsp.test.TestGModel.getClassifier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.EnotationPackage;
+import org.eclipse.emfcloud.ecore.glsp.test.CommandReplay;
+import org.eclipse.emfcloud.ecore.glsp.test.TestEcoreModel;
+import org.eclipse.emfcloud.ecore.glsp.test.TestModelServerAccess;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+import org.eclipse.emfcloud.modelserver.command.CCompoundCommand;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the compound command that {@link EcoreModelServerAccess#removeElementsAsync} creates for a batch of
+ * removed elements and its replay.
+ */
+public class RemoveCommandBatchTest {
+
+	private TestModelServerAccess modelServerAccess;
+	private EcoreModelState modelState;
+	private EClass base;
+	private EClass node;
+	private EEnum kind;
+
+	@Before
+	public void setUp() throws MalformedURLException {
+		modelServerAccess = new TestModelServerAccess();
+		modelState = modelServerAccess.createModelState();
+		base = getClassifier(modelState, TestEcoreModel.BASE, EClass.class);
+		node = getClassifier(modelState, TestEcoreModel.NODE, EClass.class);
+		kind = getClassifier(modelState, TestEcoreModel.KIND, EEnum.class);
+	}
+
+	@Test
+	public void removingClassRemovesItsUsages() {
+		assertTrue(modelServerAccess.removeElementsAsync(modelState, List.of(base)).join());
+
+		CCompoundCommand command = (CCompoundCommand) modelServerAccess.takeLastCommand();
+		// the class, the reference typed by it, the super type and one remove of all notation elements
+		assertEquals(Set.of(EcorePackage.Literals.EPACKAGE__ECLASSIFIERS.getName(),
+				EcorePackage.Literals.ECLASS__ESTRUCTURAL_FEATURES.getName(),
+				EcorePackage.Literals.ECLASS__EGENERIC_SUPER_TYPES.getName(),
+				EnotationPackage.Literals.DIAGRAM__ELEMENTS.getName()), Set.copyOf(features(command)));
+		assertEquals(4, command.getCommands().size());
+
+		assertTrue(CommandReplay.execute(modelState, command));
+		assertNull(getEPackageClassifier(TestEcoreModel.BASE));
+		assertTrue(node.getEStructuralFeatures().isEmpty());
+		assertTrue(node.getESuperTypes().isEmpty());
+		// only the shapes of Node and Kind are left
+		assertEquals(2, getDiagram().getElements().size());
+	}
+
+	@Test
+	public void contentsOfRemovedClassAreRemovedImplicitly() {
+		modelServerAccess.removeElementsAsync(modelState,
+				List.of(node.getEStructuralFeature(TestEcoreModel.PARENT), node));
+
+		CCompoundCommand command = (CCompoundCommand) modelServerAccess.takeLastCommand();
+		assertEquals(List.of(EcorePackage.Literals.EPACKAGE__ECLASSIFIERS.getName(),
+				EnotationPackage.Literals.DIAGRAM__ELEMENTS.getName()), features(command));
+
+		assertTrue(CommandReplay.execute(modelState, command));
+		assertNull(getEPackageClassifier(TestEcoreModel.NODE));
+		assertEquals(2, getDiagram().getElements().size());
+	}
+
+	@Test
+	public void elementsOfSameOwnerAreRemovedTogether() {
+		modelServerAccess.removeElementsAsync(modelState, List.of(base, node, kind.getELiterals().get(0)));
+
+		CCompoundCommand command = (CCompoundCommand) modelServerAccess.takeLastCommand();
+		// one remove for both classes, one for the literal and one for the notation elements
+		assertEquals(List.of(EcorePackage.Literals.EPACKAGE__ECLASSIFIERS.getName(),
+				EcorePackage.Literals.EENUM__ELITERALS.getName(),
+				EnotationPackage.Literals.DIAGRAM__ELEMENTS.getName()), features(command));
+		assertSame(base.getEPackage(), command.getCommands().get(0).getOwner());
+
+		assertTrue(CommandReplay.execute(modelState, command));
+		assertEquals(List.of(kind), modelState.getEcoreFacade().getEPackage().getEClassifiers());
+		assertEquals(1, kind.getELiterals().size());
+		assertEquals(1, getDiagram().getElements().size());
+	}
+
+	@Test
+	public void removalIsUndoneAsOneStep() {
+		modelServerAccess.removeElementsAsync(modelState, List.of(base));
+		assertTrue(CommandReplay.execute(modelState, modelServerAccess.takeLastCommand()));
+
+		assertTrue(CommandReplay.undo(modelState));
+
+		assertSame(base, getEPackageClassifier(TestEcoreModel.BASE));
+		assertEquals(1, node.getEStructuralFeatures().size());
+		assertEquals(List.of(base), node.getESuperTypes());
+		assertEquals(5, getDiagram().getElements().size());
+	}
+
+	@Test
+	public void nothingToRemoveSendsNoCommand() {
+		assertTrue(modelServerAccess.removeElementsAsync(modelState, List.of(modelState.getEcoreFacade().getEPackage()))
+				.join());
+
+		assertTrue(modelServerAccess.getSentCommands().isEmpty());
+	}
+
+	private static List<String> features(final CCompoundCommand command) {
+		return command.getCommands().stream().map(CCommand::getFeature).collect(Collectors.toList());
+	}
+
+	private Object getEPackageClassifier(final String name) {
+		return modelState.getEcoreFacade().getEPackage().getEClassifier(name);
+	}
+
+	private Diagram getDiagram() {
+		return modelState.getEcoreFacade().getDiagram();
+	}
+
+}
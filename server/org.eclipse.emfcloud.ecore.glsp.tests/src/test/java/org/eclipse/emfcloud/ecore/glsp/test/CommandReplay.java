@@ -0,0 +1,46 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.test;
+
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+import org.eclipse.emfcloud.modelserver.command.CCommandExecutionResult;
+import org.eclipse.emfcloud.modelserver.command.CCommandFactory;
+import org.eclipse.emfcloud.modelserver.command.CommandExecutionType;
+
+/**
+ * Feeds command execution results into a model state the way the subscription listener does, so incremental updates
+ * can be tested against the commands that the model server access has created.
+ */
+public final class CommandReplay {
+
+	private CommandReplay() {}
+
+	public static boolean execute(final EcoreModelState modelState, final CCommand command) {
+		return modelState.updateSourceModels(createResult(CommandExecutionType.EXECUTE, command));
+	}
+
+	public static boolean undo(final EcoreModelState modelState) {
+		return modelState.updateSourceModels(createResult(CommandExecutionType.UNDO, null));
+	}
+
+	public static boolean redo(final EcoreModelState modelState) {
+		return modelState.updateSourceModels(createResult(CommandExecutionType.REDO, null));
+	}
+
+	public static CCommandExecutionResult createResult(final CommandExecutionType type, final CCommand source) {
+		CCommandExecutionResult result = CCommandFactory.eINSTANCE.createCommandExecutionResult();
+		result.setType(type);
+		result.setSource(source);
+		return result;
+	}
+
+}
@@ -0,0 +1,173 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
+import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreDiagramResources;
+import org.eclipse.glsp.graph.util.GraphUtil;
+
+/**
+ * A small package with its diagram as the model server would serve it: the classes <code>Base</code> and
+ * <code>Node</code>, where <code>Node</code> extends <code>Base</code> and references it via <code>parent</code>,
+ * and the enum <code>Kind</code>. Shapes are placed next to each other in one row.
+ */
+public final class TestEcoreModel {
+
+	public static final String BASE = "Base";
+	public static final String NODE = "Node";
+	public static final String KIND = "Kind";
+	public static final String PARENT = "parent";
+
+	public static final double SHAPE_WIDTH = 175;
+	public static final double SHAPE_HEIGHT = 75;
+	public static final double SPACING = 75;
+
+	private final EPackage ePackage;
+	private final Diagram diagram;
+
+	private TestEcoreModel(final EPackage ePackage, final Diagram diagram) {
+		this.ePackage = ePackage;
+		this.diagram = diagram;
+	}
+
+	public EPackage getEPackage() {
+		return ePackage;
+	}
+
+	public Diagram getDiagram() {
+		return diagram;
+	}
+
+	public EcoreDiagramResources toDiagramResources() {
+		return new EcoreDiagramResources(ePackage, diagram, false);
+	}
+
+	public static TestEcoreModel create() {
+		return create(Set.of());
+	}
+
+	/**
+	 * Creates the model, the given classifiers have no shape, e.g. because they were added outside of the diagram.
+	 */
+	public static TestEcoreModel create(final Set<String> classifiersWithoutShape) {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("test");
+		ePackage.setNsPrefix("test");
+		ePackage.setNsURI("http://www.eclipse.org/emfcloud/ecore/test");
+		// a resource is required to derive the uri fragments of the semantic proxies
+		Resource resource = new XMIResourceImpl(URI.createFileURI(TestModelServerAccess.SOURCE_URI));
+		resource.getContents().add(ePackage);
+
+		EClass base = EcoreFactory.eINSTANCE.createEClass();
+		base.setName(BASE);
+		base.getEStructuralFeatures().add(createEAttribute("name"));
+		ePackage.getEClassifiers().add(base);
+
+		EClass node = EcoreFactory.eINSTANCE.createEClass();
+		node.setName(NODE);
+		node.getESuperTypes().add(base);
+		EReference parent = EcoreFactory.eINSTANCE.createEReference();
+		parent.setName(PARENT);
+		parent.setEType(base);
+		node.getEStructuralFeatures().add(parent);
+		ePackage.getEClassifiers().add(node);
+
+		EEnum kind = EcoreFactory.eINSTANCE.createEEnum();
+		kind.setName(KIND);
+		for (int i = 0; i < 2; i++) {
+			EEnumLiteral literal = EcoreFactory.eINSTANCE.createEEnumLiteral();
+			literal.setName("LITERAL" + i);
+			literal.setValue(i);
+			kind.getELiterals().add(literal);
+		}
+		ePackage.getEClassifiers().add(kind);
+
+		return new TestEcoreModel(ePackage, createDiagram(ePackage, classifiersWithoutShape));
+	}
+
+	private static EAttribute createEAttribute(final String name) {
+		EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+		eAttribute.setName(name);
+		eAttribute.setEType(EcorePackage.Literals.ESTRING);
+		return eAttribute;
+	}
+
+	private static Diagram createDiagram(final EPackage ePackage, final Set<String> classifiersWithoutShape) {
+		Diagram diagram = EnotationFactory.eINSTANCE.createDiagram();
+		diagram.setSemanticElement(createProxy(ePackage));
+
+		Map<EClassifier, Shape> shapes = new HashMap<>();
+		int index = 0;
+		for (EClassifier classifier : ePackage.getEClassifiers()) {
+			if (!classifiersWithoutShape.contains(classifier.getName())) {
+				Shape shape = EnotationFactory.eINSTANCE.createShape();
+				shape.setPosition(GraphUtil.point(index * (SHAPE_WIDTH + SPACING), 0));
+				shape.setSize(GraphUtil.dimension(SHAPE_WIDTH, SHAPE_HEIGHT));
+				shape.setSemanticElement(createProxy(classifier));
+				diagram.getElements().add(shape);
+				shapes.put(classifier, shape);
+			}
+			index++;
+		}
+
+		for (EClassifier classifier : ePackage.getEClassifiers()) {
+			if (!(classifier instanceof EClass) || !shapes.containsKey(classifier)) {
+				continue;
+			}
+			EClass eClass = (EClass) classifier;
+			for (EReference eReference : eClass.getEReferences()) {
+				Edge edge = EnotationFactory.eINSTANCE.createEdge();
+				edge.setSemanticElement(createProxy(eReference));
+				edge.setSource(shapes.get(eClass));
+				edge.setTarget(shapes.get(eReference.getEReferenceType()));
+				diagram.getElements().add(edge);
+			}
+			for (EClass superType : eClass.getESuperTypes()) {
+				Edge edge = EnotationFactory.eINSTANCE.createEdge();
+				edge.setType(Types.INHERITANCE);
+				edge.setSource(shapes.get(eClass));
+				edge.setTarget(shapes.get(superType));
+				diagram.getElements().add(edge);
+			}
+		}
+		return diagram;
+	}
+
+	private static SemanticProxy createProxy(final EObject semanticElement) {
+		SemanticProxy proxy = EnotationFactory.eINSTANCE.createSemanticProxy();
+		proxy.setUri(EcoreUtil.getURI(semanticElement).fragment());
+		return proxy;
+	}
+
+}
@@ -0,0 +1,71 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.test;
+
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.graph.GLabel;
+import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GNode;
+
+/**
+ * Lookups of semantic elements and their GModel elements in a loaded model state.
+ */
+public final class TestGModel {
+
+	private TestGModel() {}
+
+	public static EPackage getEPackage(final EcoreModelState modelState) {
+		return modelState.getEcoreFacade().getEPackage();
+	}
+
+	public static <T extends EClassifier> T getClassifier(final EcoreModelState modelState, final String name,
+			final Class<T> clazz) {
+		return clazz.cast(getEPackage(modelState).getEClassifier(name));
+	}
+
+	public static Optional<GNode> findNode(final EcoreModelState modelState, final EObject semanticElement) {
+		return findChild(modelState, semanticElement, GNode.class);
+	}
+
+	public static Optional<GEdge> findEdge(final EcoreModelState modelState, final EObject semanticElement) {
+		return findChild(modelState, semanticElement, GEdge.class);
+	}
+
+	private static <T extends GModelElement> Optional<T> findChild(final EcoreModelState modelState,
+			final EObject semanticElement, final Class<T> clazz) {
+		String id = modelState.getIndex().getOrCreateSemanticId(semanticElement);
+		return modelState.getRoot().getChildren().stream() //
+				.filter(clazz::isInstance) //
+				.map(clazz::cast) //
+				.filter(child -> id.equals(child.getId())) //
+				.findFirst();
+	}
+
+	/**
+	 * Returns the text of the first label of the given type within the given element.
+	 */
+	public static Optional<String> findLabelText(final GModelElement element, final String labelType) {
+		if (element instanceof GLabel && labelType.equals(element.getType())) {
+			return Optional.of(((GLabel) element).getText());
+		}
+		return element.getChildren().stream() //
+				.map(child -> findLabelText(child, labelType)) //
+				.flatMap(Optional::stream) //
+				.findFirst();
+	}
+
+}
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.test;
+
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.eclipse.emfcloud.ecore.glsp.EcoreServerConfiguration;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreDiagramResources;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelServerClient;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+import org.eclipse.glsp.server.utils.ClientOptions;
+
+/**
+ * Model server access that serves a {@link TestEcoreModel} and records the commands that would be sent to the model
+ * server instead of sending them.
+ */
+public class TestModelServerAccess extends EcoreModelServerAccess {
+
+	public static final String SOURCE_URI = "/tmp/ecore-test/test.ecore";
+
+	private final Supplier<TestEcoreModel> modelSupplier;
+	private final List<CCommand> sentCommands = new ArrayList<>();
+
+	public TestModelServerAccess() throws MalformedURLException {
+		this(TestEcoreModel::create);
+	}
+
+	public TestModelServerAccess(final Supplier<TestEcoreModel> modelSupplier) throws MalformedURLException {
+		super(SOURCE_URI, new EcoreModelServerClient("http://localhost:8081/api/v1/"));
+		this.modelSupplier = modelSupplier;
+	}
+
+	@Override
+	public CompletableFuture<EcoreDiagramResources> getDiagramResourcesAsync() {
+		// loading moves the models into the resource set of the model state, so every load needs fresh ones
+		return CompletableFuture.completedFuture(modelSupplier.get().toDiagramResources());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> editAsync(final CCommand command) {
+		sentCommands.add(command);
+		return CompletableFuture.completedFuture(true);
+	}
+
+	public List<CCommand> getSentCommands() {
+		return sentCommands;
+	}
+
+	/**
+	 * Returns the most recently sent command and forgets about it.
+	 */
+	public CCommand takeLastCommand() {
+		if (sentCommands.isEmpty()) {
+			throw new IllegalStateException("No command has been sent");
+		}
+		return sentCommands.remove(sentCommands.size() - 1);
+	}
+
+	/**
+	 * Creates a model state for this access and loads the source models, like the source model loader does for a new
+	 * client session.
+	 */
+	public EcoreModelState createModelState() {
+		return createModelState(new EcoreServerConfiguration());
+	}
+
+	public EcoreModelState createModelState(final EcoreServerConfiguration configuration) {
+		EcoreModelState modelState = new EcoreModelState(configuration);
+		modelState.setClientOptions(Map.of(ClientOptions.SOURCE_URI, SOURCE_URI));
+		modelState.setModelServerAccess(this);
+		modelState.loadSourceModels();
+		return modelState;
+	}
+
+}
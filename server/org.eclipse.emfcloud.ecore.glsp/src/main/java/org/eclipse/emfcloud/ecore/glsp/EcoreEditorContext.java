@@ -13,16 +13,25 @@ package org.eclipse.emfcloud.ecore.glsp;
 import org.eclipse.emfcloud.ecore.glsp.gmodel.GModelFactory;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelUpdater;
 
 public class EcoreEditorContext {
 	private final ResourceManager resourceManager;
 	private final GModelFactory gModelFactory;
+	private final EcoreModelUpdater modelUpdater;
 	private final EcoreModelState modelState;
 
 	public EcoreEditorContext(EcoreModelState modelState, EcoreModelServerAccess modelServerAccess) {
 		this.modelState = modelState;
 		gModelFactory = new GModelFactory(modelState);
 		resourceManager = new ResourceManager(modelState, modelServerAccess);
+		modelUpdater = new EcoreModelUpdater(modelState);
+	}
+
+	public EcoreFacade reload(EcoreModelServerAccess modelServerAccess) {
+		// the cached nodes use the ids of the previously loaded source models
+		gModelFactory.getFragmentCache().clear();
+		return resourceManager.reload(modelState, modelServerAccess);
 	}
 
 	public EcoreFacade getEcoreFacade() {
@@ -37,6 +46,10 @@ public class EcoreEditorContext {
 		return gModelFactory;
 	}
 
+	public EcoreModelUpdater getModelUpdater() {
+		return modelUpdater;
+	}
+
 	public EcoreModelState getModelState() {
 		return modelState;
 	}
@@ -11,6 +11,7 @@
 package org.eclipse.emfcloud.ecore.glsp;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +26,8 @@ import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
 import org.eclipse.emfcloud.ecore.enotation.NotationElement;
 import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
 import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
+import org.eclipse.glsp.graph.GDimension;
 import org.eclipse.glsp.graph.GEdge;
 import org.eclipse.glsp.graph.GModelElement;
 import org.eclipse.glsp.graph.GModelRoot;
@@ -45,6 +48,7 @@ public class EcoreFacade {
 
 	private Diagram diagram;
 	private EcoreModelIndex modelIndex;
+	private boolean diverged;
 
 	public EcoreFacade(Resource semanticResource, Resource notationResource, EcoreModelIndex modelIndex,
 			boolean needsAutoLayout) {
@@ -94,22 +98,59 @@ public class EcoreFacade {
 			throw new GLSPServerException("Error during initilization of EcoreFace - no notation resource found!");
 		}
 		diagram = existingDiagram.get();
-		findUnresolvedElements(diagram).forEach(e -> e.setSemanticElement(resolved(e.getSemanticElement())));
-		modelIndex.indexNotation(diagram);
+		indexDiagram(diagram);
 		return diagram;
 
 	}
 
+	/**
+	 * Re-indexes the notation elements of the already loaded diagram, e.g. after notation elements have been added
+	 * or their semantic proxies have been replaced.
+	 */
+	public void reindexDiagram() {
+		indexDiagram(getDiagram());
+	}
+
+	private void indexDiagram(Diagram diagram) {
+		findUnresolvedElements(diagram).forEach(e -> e.setSemanticElement(resolved(e.getSemanticElement())));
+		modelIndex.indexNotation(diagram);
+	}
+
 	public Diagram initialize(Diagram diagram, GModelRoot gRoot) {
 		Preconditions.checkArgument(diagram.getSemanticElement().getResolvedElement() == ePackage);
-		gRoot.getChildren().forEach(child -> {
+		return initialize(diagram, gRoot.getChildren());
+	}
+
+	/**
+	 * Applies the bounds of the given GModel elements to their notation elements and creates the missing ones.
+	 * Placeholders are skipped, their bounds are copied from the shape and must not be written back, e.g. after the
+	 * client resized the empty node.
+	 */
+	public Diagram initialize(Diagram diagram, Collection<? extends GModelElement> gModelElements) {
+		gModelElements.stream().filter(child -> !isPlaceholder(child)).forEach(child -> {
 			modelIndex.getNotation(child).ifPresentOrElse(n -> updateNotationElement(n, child),
-					() -> initializeNotationElement(child).ifPresent(diagram.getElements()::add));
+					() -> initializeNotationElement(child).ifPresent(notation -> {
+						diagram.getElements().add(notation);
+						diverged = true;
+					}));
 
 		});
 		return diagram;
 	}
 
+	private static boolean isPlaceholder(GModelElement gModelElement) {
+		return gModelElement instanceof GNode && gModelElement.getCssClasses().contains(CSS.PLACEHOLDER);
+	}
+
+	/**
+	 * Returns whether notation elements of the loaded diagram have been added or changed outside of the command
+	 * stack. The notation resource then no longer matches the one of the model server, so commands that address
+	 * notation elements by index cannot be replayed on it.
+	 */
+	public boolean isDiverged() {
+		return diverged;
+	}
+
 	public Optional<? extends NotationElement> initializeNotationElement(GModelElement gModelElement) {
 		Optional<? extends NotationElement> result = Optional.empty();
 		if (gModelElement instanceof GNode) {
@@ -208,23 +249,57 @@ public class EcoreFacade {
 	}
 
 	public void updateShape(Shape shape, GShapeElement shapeElement) {
-		if (shapeElement.getSize() != null) {
+		if (shapeElement.getSize() != null && !sameSize(shape.getSize(), shapeElement.getSize())) {
 			shape.setSize(GraphUtil.copy(shapeElement.getSize()));
+			markChanged(shape);
 		}
 		if (shapeElement.getPosition() != null) {
-			shape.setPosition(GraphUtil.copy(shapeElement.getPosition()));
+			if (!samePoint(shape.getPosition(), shapeElement.getPosition())) {
+				shape.setPosition(GraphUtil.copy(shapeElement.getPosition()));
+				markChanged(shape);
+			}
 		} else if (shape.getPosition() != null) {
 			shapeElement.setPosition(GraphUtil.copy(shape.getPosition()));
 		}
 	}
 
 	public void updateEdge(Edge edge, GEdge gEdge) {
+		List<GPoint> routingPoints = gEdge.getRoutingPoints() != null ? gEdge.getRoutingPoints() : List.of();
+		if (samePoints(edge.getBendPoints(), routingPoints)) {
+			return;
+		}
 		edge.getBendPoints().clear();
-		if (gEdge.getRoutingPoints() != null) {
-			ArrayList<GPoint> gPoints = new ArrayList<>();
-			gEdge.getRoutingPoints().forEach(p -> gPoints.add(GraphUtil.copy(p)));
-			edge.getBendPoints().addAll(gPoints);
+		ArrayList<GPoint> gPoints = new ArrayList<>();
+		routingPoints.forEach(p -> gPoints.add(GraphUtil.copy(p)));
+		edge.getBendPoints().addAll(gPoints);
+		markChanged(edge);
+	}
+
+	private void markChanged(NotationElement notation) {
+		// elements that are not contained in the diagram yet are added by the caller
+		if (notation.eResource() != null) {
+			diverged = true;
+		}
+	}
+
+	private static boolean sameSize(GDimension a, GDimension b) {
+		return a != null && a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight();
+	}
+
+	private static boolean samePoint(GPoint a, GPoint b) {
+		return a != null && a.getX() == b.getX() && a.getY() == b.getY();
+	}
+
+	private static boolean samePoints(List<GPoint> a, List<GPoint> b) {
+		if (a.size() != b.size()) {
+			return false;
+		}
+		for (int i = 0; i < a.size(); i++) {
+			if (!samePoint(a.get(i), b.get(i))) {
+				return false;
+			}
 		}
+		return true;
 	}
 
 	private Optional<Diagram> findDiagram() {
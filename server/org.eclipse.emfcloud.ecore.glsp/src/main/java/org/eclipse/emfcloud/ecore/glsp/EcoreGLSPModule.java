@@ -18,6 +18,7 @@ import org.eclipse.emfcloud.ecore.glsp.handler.EcoreOperationActionHandler;
 import org.eclipse.emfcloud.ecore.glsp.handler.EcoreSaveModelActionHandler;
 import org.eclipse.emfcloud.ecore.glsp.handler.EcoreUndoRedoActionHandler;
 import org.eclipse.emfcloud.ecore.glsp.handler.RequestSemanticUriActionHandler;
+import org.eclipse.emfcloud.ecore.glsp.handler.ViewportChangedActionHandler;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelFactory;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelSourceLoader;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelStateProvider;
@@ -29,6 +30,7 @@ import org.eclipse.emfcloud.ecore.glsp.operationhandler.EcoreChangeRoutingPoints
 import org.eclipse.emfcloud.ecore.glsp.operationhandler.EcoreDeleteOperationHandler;
 import org.eclipse.emfcloud.ecore.glsp.operationhandler.EcoreLabelEditOperationHandler;
 import org.eclipse.emfcloud.ecore.glsp.operationhandler.EcoreLayoutOperationHandler;
+import org.eclipse.emfcloud.ecore.glsp.operationhandler.EcoreSetCollapsedOperationHandler;
 import org.eclipse.emfcloud.ecore.glsp.palette.EcoreToolPaletteItemProvider;
 import org.eclipse.emfcloud.ecore.glsp.registry.EcoreDIOperationHandlerRegistry;
 import org.eclipse.glsp.server.actions.Action;
@@ -55,8 +57,20 @@ import org.eclipse.glsp.server.operations.gmodel.LayoutOperationHandler;
 import org.eclipse.glsp.server.protocol.GLSPServer;
 import org.eclipse.glsp.server.utils.MultiBinding;
 
+import com.google.inject.Singleton;
+
 public class EcoreGLSPModule extends DefaultGLSPModule {
 
+	private final EcoreServerConfiguration configuration;
+
+	public EcoreGLSPModule() {
+		this(new EcoreServerConfiguration());
+	}
+
+	public EcoreGLSPModule(EcoreServerConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
 	@Override
 	protected void configureActionHandlers(MultiBinding<ActionHandler> bindings) {
 		super.configureActionHandlers(bindings);
@@ -66,6 +80,7 @@ public class EcoreGLSPModule extends DefaultGLSPModule {
 		bindings.rebind(OperationActionHandler.class, EcoreOperationActionHandler.class);
 		bindings.rebind(UndoRedoActionHandler.class, EcoreUndoRedoActionHandler.class);
 		bindings.add(RequestSemanticUriActionHandler.class);
+		bindings.add(ViewportChangedActionHandler.class);
 	}
 
 	@Override
@@ -112,6 +127,7 @@ public class EcoreGLSPModule extends DefaultGLSPModule {
 		bindings.rebind(ApplyLabelEditOperationHandler.class, EcoreLabelEditOperationHandler.class);
 		bindings.rebind(ChangeRoutingPointsHandler.class, EcoreChangeRoutingPointsOperationHandler.class);
 		bindings.rebind(LayoutOperationHandler.class, EcoreLayoutOperationHandler.class);
+		bindings.add(EcoreSetCollapsedOperationHandler.class);
 	}
 
 	@Override
@@ -132,7 +148,9 @@ public class EcoreGLSPModule extends DefaultGLSPModule {
 	@Override
 	public void configure() {
 		super.configure();
+		bind(EcoreServerConfiguration.class).toInstance(configuration);
 		bind(ModelServerClientProvider.class).asEagerSingleton();
+		bind(EcoreLayoutScheduler.class).in(Singleton.class);
 	}
 
 }
@@ -38,6 +38,9 @@ public class EcoreGLSPServer extends DefaultGLSPServer {
 	@Inject
 	private ModelServerClientProvider modelServerClientProvider;
 
+	@Inject
+	private EcoreLayoutScheduler layoutScheduler;
+
 	public EcoreGLSPServer() {
 		super();
 	}
@@ -82,7 +85,18 @@ public class EcoreGLSPServer extends DefaultGLSPServer {
 		if (modelServerClient.isPresent() && modelUri.isPresent()) {
 			modelServerClient.get().unsubscribe(modelUri.get());
 		}
+		// a layout result of a closed session must not be sent to the model server anymore
+		layoutScheduler.cancel(params.getClientId());
 		return super.disposeClientSession(params);
 	}
 
+	@Override
+	public CompletableFuture<Void> shutdown() {
+		LOGGER.debug(String.format("Layouts: %d scheduled, %d cancelled, %d stale",
+				layoutScheduler.getScheduledLayouts(), layoutScheduler.getCancelledLayouts(),
+				layoutScheduler.getStaleLayouts()));
+		layoutScheduler.dispose();
+		return super.shutdown();
+	}
+
 }
@@ -0,0 +1,168 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutEdge;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutNode;
+
+/**
+ * Bounded LRU cache of layout results, keyed by a structural hash of the laid out nodes, their sizes and the edges
+ * between them. Node positions are not part of the key as the layered algorithm does not depend on them, so a
+ * repeated layout of the same or an undo-restored topology is answered without running ELK again. The cache keeps
+ * its own copy of each result and hands out copies, so callers are free to modify the results they get.
+ */
+public class EcoreLayoutCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 32;
+
+	private final Map<String, EcoreLayoutResult> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, EcoreLayoutResult> eldest) {
+			if (size() > maxEntries) {
+				evictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	};
+	private int maxEntries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public EcoreLayoutCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	public EcoreLayoutCache(int maxEntries) {
+		this.maxEntries = Math.max(0, maxEntries);
+	}
+
+	/**
+	 * Returns a copy of the cached result for the given key or computes and caches it.
+	 */
+	public EcoreLayoutResult get(String key, Supplier<EcoreLayoutResult> layout) {
+		Optional<EcoreLayoutResult> cached = get(key);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		// computed outside of the lock, concurrent layouts of the same graph simply compute twice
+		EcoreLayoutResult result = layout.get();
+		put(key, result);
+		return result;
+	}
+
+	public synchronized Optional<EcoreLayoutResult> get(String key) {
+		EcoreLayoutResult result = entries.get(key);
+		(result != null ? hits : misses).incrementAndGet();
+		return Optional.ofNullable(result).map(EcoreLayoutResult::copy);
+	}
+
+	public synchronized void put(String key, EcoreLayoutResult result) {
+		if (maxEntries > 0) {
+			entries.put(key, result.copy());
+		}
+	}
+
+	/**
+	 * Changes the number of cached results, a value of <code>0</code> disables the cache.
+	 */
+	public synchronized void setMaxEntries(int maxEntries) {
+		this.maxEntries = Math.max(0, maxEntries);
+		while (entries.size() > this.maxEntries) {
+			entries.remove(entries.keySet().iterator().next());
+			evictions.incrementAndGet();
+		}
+	}
+
+	public synchronized int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Computes the structural key of the given nodes and edges. Elements are sorted by id, so the key does not
+	 * depend on the order of the diagram elements.
+	 *
+	 * @param discriminator additional input that influences the layout, e.g. the kind of layout
+	 */
+	public static String createKey(Collection<LayoutNode> nodes, Collection<LayoutEdge> edges,
+			String discriminator) {
+		MessageDigest digest = createDigest();
+		update(digest, discriminator);
+		nodes.stream().sorted(Comparator.comparing(LayoutNode::getId)).forEach(node -> {
+			update(digest, "n");
+			update(digest, node.getId());
+			update(digest, Double.toString(node.getWidth()));
+			update(digest, Double.toString(node.getHeight()));
+		});
+		edges.stream().sorted(Comparator.comparing(LayoutEdge::getId)).forEach(edge -> {
+			update(digest, "e");
+			update(digest, edge.getId());
+			update(digest, edge.getSourceId());
+			update(digest, edge.getTargetId());
+		});
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b));
+		}
+		return key.toString();
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		// separator, so adjacent values cannot be confused
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
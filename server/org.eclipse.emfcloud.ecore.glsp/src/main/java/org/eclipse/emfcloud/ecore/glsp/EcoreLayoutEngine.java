@@ -10,49 +10,439 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp;
 
-import org.eclipse.elk.alg.layered.options.EdgeLabelSideSelection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
-import org.eclipse.elk.core.options.EdgeLabelPlacement;
-import org.eclipse.elk.graph.ElkGraphElement;
-import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.glsp.graph.DefaultTypes;
-import org.eclipse.glsp.graph.GEdge;
-import org.eclipse.glsp.graph.GGraph;
-import org.eclipse.glsp.graph.GLabel;
+import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
+import org.eclipse.elk.core.math.ElkPadding;
+import org.eclipse.elk.core.options.BoxLayouterOptions;
+import org.eclipse.elk.core.options.CoreOptions;
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+import org.eclipse.elk.core.util.BoxLayoutProvider;
+import org.eclipse.elk.graph.ElkBendPoint;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkEdgeSection;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.util.ElkGraphUtil;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutEdge;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph.LayoutNode;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreSpatialIndex;
+import org.eclipse.glsp.graph.GBounds;
+import org.eclipse.glsp.graph.GDimension;
 import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
 import org.eclipse.glsp.layout.ElkLayoutEngine;
-import org.eclipse.glsp.layout.GLSPLayoutConfigurator;
 import org.eclipse.glsp.server.model.GModelState;
 
+import com.google.inject.Inject;
+
+/**
+ * Lays out the top-level shapes and edges of an ecore diagram with ELK layered. The ELK graph is built directly from
+ * an {@link EcoreLayoutGraph} snapshot instead of a copy of the GModel, and the result is keyed by element id.
+ * Disconnected parts of the diagram are laid out in parallel and packed afterwards.
+ */
 public class EcoreLayoutEngine extends ElkLayoutEngine {
 
+	public static final double INCREMENTAL_LAYOUT_SPACING = 50;
+
+	private final EcoreLayoutCache layoutCache;
+
+	public EcoreLayoutEngine() {
+		this(new EcoreServerConfiguration());
+	}
+
+	@Inject
+	public EcoreLayoutEngine(EcoreServerConfiguration configuration) {
+		this.layoutCache = new EcoreLayoutCache(configuration.getLayoutCacheSize());
+	}
+
 	@Override
 	public void layout(GModelState modelState) {
 		// no-op
 	}
 
-	public GModelElement layoutRoot(GModelState modelState) {
-		GModelElement newRoot = EcoreUtil.copy(modelState.getRoot());
-		if (newRoot instanceof GGraph) {
-			GLSPLayoutConfigurator configurator = new GLSPLayoutConfigurator();
-			configurator.configureByType(DefaultTypes.GRAPH)
-					.setProperty(LayeredOptions.EDGE_LABELS_PLACEMENT, EdgeLabelPlacement.CENTER)
-					.setProperty(LayeredOptions.EDGE_LABELS_SIDE_SELECTION, EdgeLabelSideSelection.ALWAYS_UP);
-			this.layout((GGraph) newRoot, configurator);
+	public EcoreLayoutResult layoutRoot(GModelState modelState) {
+		return layout(EcoreLayoutGraph.of(EcoreModelState.getModelState(modelState)));
+	}
+
+	/**
+	 * Lays out all nodes and edges of the given graph. The graph is not accessed after the ELK graph has been built,
+	 * so this can be used on a worker thread.
+	 */
+	public EcoreLayoutResult layout(EcoreLayoutGraph graph) {
+		Set<String> nodeIds = graph.getNodes().stream().map(LayoutNode::getId).collect(Collectors.toSet());
+		List<LayoutEdge> edges = graph.getEdges().stream()
+				.filter(edge -> nodeIds.contains(edge.getSourceId()) && nodeIds.contains(edge.getTargetId()))
+				.collect(Collectors.toList());
+		String key = EcoreLayoutCache.createKey(graph.getNodes(), edges, "full");
+		return layoutCache.get(key, () -> {
+			EcoreLayoutResult result = new EcoreLayoutResult();
+			layout(graph.getNodes(), edges, GraphUtil.point(0, 0), result);
+			return result;
+		});
+	}
+
+	/**
+	 * Lays out the given nodes only and keeps all other nodes at their current position. The given nodes are laid
+	 * out as a block, which is placed below the pinned nodes they are connected to and moved further down until it
+	 * keeps the spacing to all pinned nodes. Edges between a laid out and a pinned node are routed orthogonally
+	 * between the final bounds, these routes are not checked against other nodes.
+	 *
+	 * @return the bounds of the given nodes and the routing points of their edges
+	 */
+	public EcoreLayoutResult layout(EcoreLayoutGraph graph, Collection<String> elementIds) {
+		Set<String> movedIds = new HashSet<>(elementIds);
+		List<LayoutNode> movedNodes = graph.getNodes().stream().filter(node -> movedIds.contains(node.getId()))
+				.collect(Collectors.toList());
+		if (movedNodes.isEmpty()) {
+			return new EcoreLayoutResult();
+		}
+		movedIds.retainAll(movedNodes.stream().map(LayoutNode::getId).collect(Collectors.toSet()));
+
+		Map<String, LayoutNode> pinnedNodes = new LinkedHashMap<>();
+		graph.getNodes().stream().filter(node -> node.isPlaced() && !movedIds.contains(node.getId()))
+				.forEach(node -> pinnedNodes.put(node.getId(), node));
+		List<LayoutEdge> movedEdges = new ArrayList<>();
+		List<LayoutEdge> connectingEdges = new ArrayList<>();
+		Set<LayoutNode> neighbours = new LinkedHashSet<>();
+		for (LayoutEdge edge : graph.getEdges()) {
+			boolean sourceMoved = movedIds.contains(edge.getSourceId());
+			boolean targetMoved = movedIds.contains(edge.getTargetId());
+			if (sourceMoved && targetMoved) {
+				movedEdges.add(edge);
+			} else if (sourceMoved || targetMoved) {
+				connectingEdges.add(edge);
+				LayoutNode neighbour = pinnedNodes.get(sourceMoved ? edge.getTargetId() : edge.getSourceId());
+				if (neighbour != null) {
+					neighbours.add(neighbour);
+				}
+			}
 		}
-		return newRoot;
+
+		// the arrangement of the block does not depend on the pinned nodes, so it is cached on its own
+		String key = EcoreLayoutCache.createKey(movedNodes, movedEdges, "incremental");
+		EcoreLayoutResult blockLayout = layoutCache.get(key, () -> {
+			EcoreLayoutResult result = new EcoreLayoutResult();
+			layout(movedNodes, movedEdges, GraphUtil.point(0, 0), result);
+			return result;
+		});
+		GBounds blockBounds = computeBounds(blockLayout);
+		GPoint blockPosition = computeBlockPosition(new ArrayList<>(pinnedNodes.values()),
+				new ArrayList<>(neighbours), blockBounds);
+
+		EcoreLayoutResult result = new EcoreLayoutResult();
+		result.addAll(blockLayout, blockPosition.getX() - blockBounds.getX(),
+				blockPosition.getY() - blockBounds.getY());
+		for (LayoutEdge edge : connectingEdges) {
+			Optional<GBounds> source = getBounds(edge.getSourceId(), result, pinnedNodes);
+			Optional<GBounds> target = getBounds(edge.getTargetId(), result, pinnedNodes);
+			// nodes without a position are laid out later, their edges are routed by that layout
+			result.setRoutingPoints(edge.getId(), source.isPresent() && target.isPresent()
+					? routeOrthogonally(source.get(), target.get())
+					: List.of());
+		}
+		return result;
 	}
 
-	@Override
-	protected boolean shouldInclude(GModelElement element, GModelElement parent, ElkGraphElement elkParent,
-			LayoutContext context) {
+	public EcoreLayoutCache getLayoutCache() {
+		return layoutCache;
+	}
+
+	/**
+	 * Returns the ids of all top-level nodes that have no notation or whose shape has no position yet.
+	 */
+	public Set<String> findUnplacedElements(GModelState modelState) {
+		EcoreModelState ecoreModelState = EcoreModelState.getModelState(modelState);
+		return modelState.getRoot().getChildren().stream() //
+				.filter(GNode.class::isInstance) //
+				.filter(node -> ecoreModelState.getIndex().getNotation(node, Shape.class)
+						.map(shape -> shape.getPosition() == null).orElse(true)) //
+				.map(GModelElement::getId) //
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Lays out the given nodes and edges and translates the result by the given offset. Weakly connected components
+	 * are laid out independently on the common fork-join pool and then packed with the ELK box layouter, so the
+	 * layout time depends on the largest component rather than on the size of the diagram.
+	 */
+	protected void layout(List<LayoutNode> nodes, List<LayoutEdge> edges, GPoint offset, EcoreLayoutResult result) {
+		if (nodes.isEmpty()) {
+			return;
+		}
+		List<EcoreLayoutGraph> components = findComponents(nodes, edges);
+		if (components.size() == 1) {
+			layoutComponent(nodes, edges, offset, result);
+			return;
+		}
+		List<ComponentLayout> componentLayouts = components.parallelStream().map(component -> {
+			EcoreLayoutResult componentResult = new EcoreLayoutResult();
+			GDimension size = layoutComponent(component.getNodes(), component.getEdges(), GraphUtil.point(0, 0),
+					componentResult);
+			return new ComponentLayout(componentResult, size);
+		}).collect(Collectors.toList());
+
+		ElkNode packGraph = ElkGraphUtil.createGraph();
+		packGraph.setProperty(BoxLayouterOptions.PADDING, new ElkPadding(0));
+		// each component already carries the padding of its own layout
+		packGraph.setProperty(BoxLayouterOptions.SPACING_NODE_NODE, 0d);
+		List<ElkNode> packNodes = new ArrayList<>();
+		for (ComponentLayout componentLayout : componentLayouts) {
+			ElkNode packNode = ElkGraphUtil.createNode(packGraph);
+			packNode.setDimensions(componentLayout.size.getWidth(), componentLayout.size.getHeight());
+			packNodes.add(packNode);
+		}
+		new BoxLayoutProvider().layout(packGraph, new BasicProgressMonitor());
+
+		for (int i = 0; i < componentLayouts.size(); i++) {
+			ElkNode packNode = packNodes.get(i);
+			result.addAll(componentLayouts.get(i).result, packNode.getX() + offset.getX(),
+					packNode.getY() + offset.getY());
+		}
+	}
+
+	/**
+	 * Lays out a single connected component with ELK.
+	 *
+	 * @return the size of the laid out component including its padding
+	 */
+	protected GDimension layoutComponent(List<LayoutNode> nodes, List<LayoutEdge> edges, GPoint offset,
+			EcoreLayoutResult result) {
+		ElkPadding padding = LayeredOptions.PADDING.getDefault();
+		if (nodes.size() == 1 && edges.isEmpty()) {
+			// nothing to arrange, place the node at the padding as ELK would do
+			LayoutNode node = nodes.get(0);
+			result.setBounds(node.getId(),
+					GraphUtil.point(padding.getLeft() + offset.getX(), padding.getTop() + offset.getY()),
+					GraphUtil.dimension(node.getWidth(), node.getHeight()));
+			return GraphUtil.dimension(node.getWidth() + padding.getHorizontal(),
+					node.getHeight() + padding.getVertical());
+		}
+		ElkNode elkGraph = ElkGraphUtil.createGraph();
+		configure(elkGraph);
+		Map<String, ElkNode> elkNodes = new HashMap<>();
+		for (LayoutNode node : nodes) {
+			ElkNode elkNode = ElkGraphUtil.createNode(elkGraph);
+			elkNode.setLocation(node.getX(), node.getY());
+			elkNode.setDimensions(node.getWidth(), node.getHeight());
+			elkNodes.put(node.getId(), elkNode);
+		}
+		Map<String, ElkEdge> elkEdges = new HashMap<>();
+		for (LayoutEdge edge : edges) {
+			ElkEdge elkEdge = ElkGraphUtil.createEdge(elkGraph);
+			elkEdge.getSources().add(elkNodes.get(edge.getSourceId()));
+			elkEdge.getTargets().add(elkNodes.get(edge.getTargetId()));
+			elkEdges.put(edge.getId(), elkEdge);
+		}
+
+		new RecursiveGraphLayoutEngine().layout(elkGraph, new BasicProgressMonitor());
+
+		// node and edge coordinates are both relative to the graph, as all edges are contained in the graph
+		elkNodes.forEach((id, elkNode) -> result.setBounds(id,
+				GraphUtil.point(elkNode.getX() + offset.getX(), elkNode.getY() + offset.getY()),
+				GraphUtil.dimension(elkNode.getWidth(), elkNode.getHeight())));
+		elkEdges.forEach((id, elkEdge) -> result.setRoutingPoints(id, toRoutingPoints(elkEdge, offset)));
+		return GraphUtil.dimension(elkGraph.getWidth(), elkGraph.getHeight());
+	}
+
+	/**
+	 * Splits the given nodes into weakly connected components. Components keep the order of their first node, so
+	 * the packed layout is stable for the same input.
+	 */
+	protected List<EcoreLayoutGraph> findComponents(List<LayoutNode> nodes, List<LayoutEdge> edges) {
+		Map<String, Integer> indices = new HashMap<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			indices.put(nodes.get(i).getId(), i);
+		}
+		int[] parents = new int[nodes.size()];
+		for (int i = 0; i < parents.length; i++) {
+			parents[i] = i;
+		}
+		List<LayoutEdge> componentEdges = new ArrayList<>();
+		for (LayoutEdge edge : edges) {
+			Integer source = indices.get(edge.getSourceId());
+			Integer target = indices.get(edge.getTargetId());
+			if (source == null || target == null) {
+				continue;
+			}
+			componentEdges.add(edge);
+			int sourceRoot = findRoot(parents, source);
+			int targetRoot = findRoot(parents, target);
+			if (sourceRoot != targetRoot) {
+				parents[Math.max(sourceRoot, targetRoot)] = Math.min(sourceRoot, targetRoot);
+			}
+		}
+
+		Map<Integer, List<LayoutNode>> componentNodes = new LinkedHashMap<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			componentNodes.computeIfAbsent(findRoot(parents, i), root -> new ArrayList<>()).add(nodes.get(i));
+		}
+		Map<Integer, List<LayoutEdge>> edgesByRoot = new HashMap<>();
+		for (LayoutEdge edge : componentEdges) {
+			edgesByRoot.computeIfAbsent(findRoot(parents, indices.get(edge.getSourceId())), root -> new ArrayList<>())
+					.add(edge);
+		}
+		return componentNodes.entrySet().stream()
+				.map(entry -> new EcoreLayoutGraph(entry.getValue(),
+						edgesByRoot.getOrDefault(entry.getKey(), new ArrayList<>())))
+				.collect(Collectors.toList());
+	}
+
+	private static int findRoot(int[] parents, int index) {
+		int root = index;
+		while (parents[root] != root) {
+			root = parents[root];
+		}
+		// path compression
+		while (parents[index] != root) {
+			int next = parents[index];
+			parents[index] = root;
+			index = next;
+		}
+		return root;
+	}
+
+	protected void configure(ElkNode elkGraph) {
+		elkGraph.setProperty(CoreOptions.ALGORITHM, LayeredOptions.ALGORITHM_ID);
+	}
+
+	/**
+	 * Computes the position of the block of laid out nodes. The block is centered below the pinned nodes it is
+	 * connected to, or placed below all pinned nodes if it has no pinned neighbours, and then moved down until it
+	 * keeps the {@link #INCREMENTAL_LAYOUT_SPACING} to all pinned nodes.
+	 */
+	protected GPoint computeBlockPosition(List<LayoutNode> pinnedNodes, List<LayoutNode> neighbours,
+			GBounds blockBounds) {
+		if (pinnedNodes.isEmpty()) {
+			// nothing is pinned, keep the layout as computed
+			return GraphUtil.point(blockBounds.getX(), blockBounds.getY());
+		}
+		double x;
+		double y;
+		if (neighbours.isEmpty()) {
+			x = pinnedNodes.stream().mapToDouble(LayoutNode::getX).min().getAsDouble();
+			y = pinnedNodes.stream().mapToDouble(node -> node.getY() + node.getHeight()).max().getAsDouble();
+		} else {
+			double centerX = neighbours.stream().mapToDouble(node -> node.getX() + node.getWidth() / 2).average()
+					.getAsDouble();
+			x = centerX - blockBounds.getWidth() / 2;
+			y = neighbours.stream().mapToDouble(node -> node.getY() + node.getHeight()).max().getAsDouble();
+		}
+		y += INCREMENTAL_LAYOUT_SPACING;
+
+		EcoreSpatialIndex<LayoutNode> pinnedIndex = new EcoreSpatialIndex<>();
+		pinnedNodes.forEach(node -> pinnedIndex.put(node, node.getX(), node.getY(), node.getWidth(),
+				node.getHeight()));
+		double spacing = INCREMENTAL_LAYOUT_SPACING;
+		while (true) {
+			Set<LayoutNode> obstacles = pinnedIndex.findIntersecting(x - spacing, y - spacing,
+					blockBounds.getWidth() + 2 * spacing, blockBounds.getHeight() + 2 * spacing);
+			double belowObstacles = obstacles.stream().mapToDouble(node -> node.getY() + node.getHeight() + spacing)
+					.max().orElse(y);
+			if (belowObstacles <= y) {
+				// all remaining obstacles are at least the spacing away
+				return GraphUtil.point(x, y);
+			}
+			y = belowObstacles;
+		}
+	}
+
+	/**
+	 * Routes an edge between the given bounds with up to two bends, leaving the source on the side that faces the
+	 * target and entering the target on the opposite side.
+	 */
+	protected List<GPoint> routeOrthogonally(GBounds source, GBounds target) {
+		double sourceCenterX = source.getX() + source.getWidth() / 2;
+		double sourceCenterY = source.getY() + source.getHeight() / 2;
+		double targetCenterX = target.getX() + target.getWidth() / 2;
+		double targetCenterY = target.getY() + target.getHeight() / 2;
+		GPoint start;
+		GPoint end;
+		boolean vertical = true;
+		if (target.getY() >= source.getY() + source.getHeight()) {
+			start = GraphUtil.point(sourceCenterX, source.getY() + source.getHeight());
+			end = GraphUtil.point(targetCenterX, target.getY());
+		} else if (target.getY() + target.getHeight() <= source.getY()) {
+			start = GraphUtil.point(sourceCenterX, source.getY());
+			end = GraphUtil.point(targetCenterX, target.getY() + target.getHeight());
+		} else {
+			vertical = false;
+			boolean targetRight = targetCenterX >= sourceCenterX;
+			start = GraphUtil.point(targetRight ? source.getX() + source.getWidth() : source.getX(), sourceCenterY);
+			end = GraphUtil.point(targetRight ? target.getX() : target.getX() + target.getWidth(), targetCenterY);
+		}
+		if (vertical ? start.getX() == end.getX() : start.getY() == end.getY()) {
+			return List.of(start, end);
+		}
+		if (vertical) {
+			double middleY = (start.getY() + end.getY()) / 2;
+			return List.of(start, GraphUtil.point(start.getX(), middleY), GraphUtil.point(end.getX(), middleY), end);
+		}
+		double middleX = (start.getX() + end.getX()) / 2;
+		return List.of(start, GraphUtil.point(middleX, start.getY()), GraphUtil.point(middleX, end.getY()), end);
+	}
+
+	private static GBounds computeBounds(EcoreLayoutResult result) {
+		double minX = Double.MAX_VALUE;
+		double minY = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE;
+		double maxY = -Double.MAX_VALUE;
+		for (Map.Entry<String, GPoint> entry : result.getPositions().entrySet()) {
+			GPoint position = entry.getValue();
+			GDimension size = result.getSizes().get(entry.getKey());
+			minX = Math.min(minX, position.getX());
+			minY = Math.min(minY, position.getY());
+			maxX = Math.max(maxX, position.getX() + size.getWidth());
+			maxY = Math.max(maxY, position.getY() + size.getHeight());
+		}
+		return GraphUtil.bounds(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	private static Optional<GBounds> getBounds(String nodeId, EcoreLayoutResult result,
+			Map<String, LayoutNode> pinnedNodes) {
+		GPoint position = result.getPositions().get(nodeId);
+		if (position != null) {
+			GDimension size = result.getSizes().get(nodeId);
+			return Optional.of(GraphUtil.bounds(position.getX(), position.getY(), size.getWidth(), size.getHeight()));
+		}
+		return Optional.ofNullable(pinnedNodes.get(nodeId))
+				.map(node -> GraphUtil.bounds(node.getX(), node.getY(), node.getWidth(), node.getHeight()));
+	}
+
+	private List<GPoint> toRoutingPoints(ElkEdge elkEdge, GPoint offset) {
+		List<GPoint> points = new ArrayList<>();
+		for (ElkEdgeSection section : elkEdge.getSections()) {
+			points.add(GraphUtil.point(section.getStartX() + offset.getX(), section.getStartY() + offset.getY()));
+			for (ElkBendPoint bendPoint : section.getBendPoints()) {
+				points.add(GraphUtil.point(bendPoint.getX() + offset.getX(), bendPoint.getY() + offset.getY()));
+			}
+			points.add(GraphUtil.point(section.getEndX() + offset.getX(), section.getEndY() + offset.getY()));
+		}
+		return points;
+	}
+
+	private static class ComponentLayout {
+		private final EcoreLayoutResult result;
+		private final GDimension size;
 
-		if (element.getType().equals("label:icon")) {
-			return false;
-		} else if (element instanceof GLabel && parent instanceof GEdge) {
-			return false;
+		ComponentLayout(EcoreLayoutResult result, GDimension size) {
+			this.result = result;
+			this.size = size;
 		}
-		return super.shouldInclude(element, parent, elkParent, context);
 	}
 
 }
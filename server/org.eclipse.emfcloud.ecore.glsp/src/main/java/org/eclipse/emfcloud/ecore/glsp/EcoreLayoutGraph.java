@@ -0,0 +1,142 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GEdge;
+import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.GPoint;
+
+/**
+ * Snapshot of the diagram elements that take part in a layout: the top-level shapes with their current position and
+ * computed size and the edges between them. Labels, compartments and icons are not part of the layout, so the
+ * snapshot only holds what is needed to build the ELK graph and can be laid out on any thread.
+ */
+public class EcoreLayoutGraph {
+
+	private final List<LayoutNode> nodes;
+	private final List<LayoutEdge> edges;
+
+	public EcoreLayoutGraph(List<LayoutNode> nodes, List<LayoutEdge> edges) {
+		this.nodes = Collections.unmodifiableList(nodes);
+		this.edges = Collections.unmodifiableList(edges);
+	}
+
+	/**
+	 * Creates the snapshot from the top-level elements of the current GModel that have a notation element. The
+	 * GModel carries the bounds computed by the client, so no deep copy of the model is needed.
+	 */
+	public static EcoreLayoutGraph of(EcoreModelState modelState) {
+		EcoreModelIndex index = modelState.getIndex();
+		List<LayoutNode> nodes = new ArrayList<>();
+		List<LayoutEdge> edges = new ArrayList<>();
+		for (GModelElement child : modelState.getRoot().getChildren()) {
+			if (child instanceof GNode && index.getNotation(child, Shape.class).isPresent()) {
+				GNode node = (GNode) child;
+				GPoint position = node.getPosition();
+				GDimension size = node.getSize();
+				nodes.add(new LayoutNode(node.getId(), position != null ? position.getX() : 0,
+						position != null ? position.getY() : 0, size != null ? size.getWidth() : 0,
+						size != null ? size.getHeight() : 0, position != null));
+			} else if (child instanceof GEdge && index.getNotation(child, Edge.class).isPresent()) {
+				GEdge edge = (GEdge) child;
+				edges.add(new LayoutEdge(edge.getId(), edge.getSourceId(), edge.getTargetId()));
+			}
+		}
+		return new EcoreLayoutGraph(nodes, edges);
+	}
+
+	public List<LayoutNode> getNodes() {
+		return nodes;
+	}
+
+	public List<LayoutEdge> getEdges() {
+		return edges;
+	}
+
+	public static class LayoutNode {
+		private final String id;
+		private final double x;
+		private final double y;
+		private final double width;
+		private final double height;
+		private final boolean placed;
+
+		public LayoutNode(String id, double x, double y, double width, double height, boolean placed) {
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.placed = placed;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public double getX() {
+			return x;
+		}
+
+		public double getY() {
+			return y;
+		}
+
+		public double getWidth() {
+			return width;
+		}
+
+		public double getHeight() {
+			return height;
+		}
+
+		/**
+		 * @return <code>false</code> if the element has no position yet
+		 */
+		public boolean isPlaced() {
+			return placed;
+		}
+	}
+
+	public static class LayoutEdge {
+		private final String id;
+		private final String sourceId;
+		private final String targetId;
+
+		public LayoutEdge(String id, String sourceId, String targetId) {
+			this.id = id;
+			this.sourceId = sourceId;
+			this.targetId = targetId;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getSourceId() {
+			return sourceId;
+		}
+
+		public String getTargetId() {
+			return targetId;
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+
+/**
+ * The bounds and routing points computed by the {@link EcoreLayoutEngine}, keyed by the id of the laid out element.
+ * The ids are the ones of the {@link EcoreModelIndex}, so the result can be mapped to the notation elements
+ * directly.
+ */
+public class EcoreLayoutResult {
+
+	private final Map<String, GPoint> positions = new LinkedHashMap<>();
+	private final Map<String, GDimension> sizes = new LinkedHashMap<>();
+	private final Map<String, List<GPoint>> routingPoints = new LinkedHashMap<>();
+
+	public void setBounds(String nodeId, GPoint position, GDimension size) {
+		positions.put(nodeId, position);
+		sizes.put(nodeId, size);
+	}
+
+	public void setRoutingPoints(String edgeId, List<GPoint> points) {
+		routingPoints.put(edgeId, Collections.unmodifiableList(new ArrayList<>(points)));
+	}
+
+	/**
+	 * Adds the bounds and routing points of the given result, translated by the given distance.
+	 */
+	public void addAll(EcoreLayoutResult other, double dx, double dy) {
+		other.positions.forEach((id, position) -> positions.put(id,
+				GraphUtil.point(position.getX() + dx, position.getY() + dy)));
+		other.sizes.forEach((id, size) -> sizes.put(id, GraphUtil.copy(size)));
+		other.routingPoints.forEach((id, points) -> routingPoints.put(id, Collections.unmodifiableList(points.stream()
+				.map(point -> GraphUtil.point(point.getX() + dx, point.getY() + dy)).collect(Collectors.toList()))));
+	}
+
+	/**
+	 * Returns a copy of this result that does not share any points or dimensions with it.
+	 */
+	public EcoreLayoutResult copy() {
+		EcoreLayoutResult copy = new EcoreLayoutResult();
+		positions.forEach((id, position) -> copy.positions.put(id, GraphUtil.copy(position)));
+		sizes.forEach((id, size) -> copy.sizes.put(id, GraphUtil.copy(size)));
+		routingPoints.forEach((id, points) -> copy.routingPoints.put(id,
+				points.stream().map(GraphUtil::copy).collect(Collectors.toList())));
+		return copy;
+	}
+
+	/**
+	 * @return an unmodifiable view of the positions, use {@link #setBounds(String, GPoint, GDimension)} to change them
+	 */
+	public Map<String, GPoint> getPositions() {
+		return Collections.unmodifiableMap(positions);
+	}
+
+	/**
+	 * @return an unmodifiable view of the sizes
+	 */
+	public Map<String, GDimension> getSizes() {
+		return Collections.unmodifiableMap(sizes);
+	}
+
+	/**
+	 * @return an unmodifiable view of the routing points, use {@link #setRoutingPoints(String, List)} to change them
+	 */
+	public Map<String, List<GPoint>> getRoutingPoints() {
+		return Collections.unmodifiableMap(routingPoints);
+	}
+
+	public boolean isEmpty() {
+		return positions.isEmpty() && routingPoints.isEmpty();
+	}
+
+}
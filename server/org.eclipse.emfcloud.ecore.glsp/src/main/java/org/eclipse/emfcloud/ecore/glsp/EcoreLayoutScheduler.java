@@ -0,0 +1,206 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.graph.GModelRoot;
+
+/**
+ * Computes layouts on a bounded pool of worker threads, so the action dispatch of a client is not blocked while ELK
+ * is running. Each client has at most one layout in flight: scheduling a new layout cancels the previous one. A
+ * layout is dropped instead of applied if the model has changed since the layout was requested.
+ */
+public class EcoreLayoutScheduler {
+
+	public static final int DEFAULT_WORKER_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+	private static Logger LOGGER = Logger.getLogger(EcoreLayoutScheduler.class);
+
+	private final ThreadPoolExecutor executor;
+	private final Map<String, LayoutJob<?, ?>> currentJobs = new ConcurrentHashMap<>();
+
+	private final AtomicLong scheduledLayouts = new AtomicLong();
+	private final AtomicLong cancelledLayouts = new AtomicLong();
+	private final AtomicLong staleLayouts = new AtomicLong();
+
+	public EcoreLayoutScheduler() {
+		this(DEFAULT_WORKER_COUNT, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public EcoreLayoutScheduler(int workerCount, int queueCapacity) {
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "ecore-layout-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Schedules a layout of the given model state. The snapshot of the model is taken on the calling thread while
+	 * holding the given model lock, the layout function is applied to that snapshot on a worker thread and its
+	 * result is passed to the apply function while holding the model lock again.
+	 *
+	 * @return a future that completes with the result of the apply function or with <code>false</code> if the
+	 *         layout has been cancelled or dropped
+	 */
+	public <S, R> CompletableFuture<Boolean> schedule(EcoreModelState modelState, Object modelLock,
+			Supplier<S> snapshot, Function<S, R> layout, Function<R, CompletableFuture<Boolean>> apply) {
+		LayoutJob<S, R> job = new LayoutJob<>(modelState, modelLock, snapshot, layout, apply);
+		LayoutJob<?, ?> previousJob = currentJobs.put(modelState.getClientId(), job);
+		if (previousJob != null) {
+			previousJob.cancel();
+		}
+		scheduledLayouts.incrementAndGet();
+		try {
+			job.future = executor.submit(job);
+		} catch (RejectedExecutionException e) {
+			LOGGER.warn("Layout queue is full, dropping layout of client " + modelState.getClientId());
+			currentJobs.remove(modelState.getClientId(), job);
+			job.result.complete(false);
+		}
+		return job.result;
+	}
+
+	/**
+	 * Cancels the layout of the given client that is queued or in progress, if any.
+	 */
+	public void cancel(String clientId) {
+		LayoutJob<?, ?> job = currentJobs.remove(clientId);
+		if (job != null) {
+			job.cancel();
+		}
+	}
+
+	public boolean isLayoutInProgress(String clientId) {
+		return currentJobs.containsKey(clientId);
+	}
+
+	public long getScheduledLayouts() {
+		return scheduledLayouts.get();
+	}
+
+	public long getCancelledLayouts() {
+		return cancelledLayouts.get();
+	}
+
+	public long getStaleLayouts() {
+		return staleLayouts.get();
+	}
+
+	public void dispose() {
+		currentJobs.values().forEach(LayoutJob::cancel);
+		currentJobs.clear();
+		executor.shutdownNow();
+	}
+
+	private class LayoutJob<S, R> implements Runnable {
+
+		private final EcoreModelState modelState;
+		private final Object modelLock;
+		private final Function<S, R> layout;
+		private final Function<R, CompletableFuture<Boolean>> apply;
+		private final GModelRoot sourceRoot;
+		private final long sourceRevision;
+		private final S snapshot;
+		private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+		private volatile boolean cancelled;
+		private volatile Future<?> future;
+
+		LayoutJob(EcoreModelState modelState, Object modelLock, Supplier<S> snapshot, Function<S, R> layout,
+				Function<R, CompletableFuture<Boolean>> apply) {
+			this.modelState = modelState;
+			this.modelLock = modelLock;
+			this.layout = layout;
+			this.apply = apply;
+			synchronized (modelLock) {
+				this.sourceRoot = modelState.getRoot();
+				this.sourceRevision = sourceRoot.getRevision();
+				// the worker must not read the live model, it is modified by the dispatch thread
+				this.snapshot = snapshot.get();
+			}
+		}
+
+		void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				cancelledLayouts.incrementAndGet();
+				if (future != null) {
+					future.cancel(false);
+				}
+				result.complete(false);
+			}
+		}
+
+		boolean isStale() {
+			return modelState.getRoot() != sourceRoot || sourceRoot.getRevision() != sourceRevision;
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (cancelled || isStale()) {
+					drop();
+					return;
+				}
+				long start = System.currentTimeMillis();
+				R layoutResult = layout.apply(snapshot);
+				LOGGER.debug(String.format("Layout of client %s computed in %d ms", modelState.getClientId(),
+						System.currentTimeMillis() - start));
+				synchronized (modelLock) {
+					if (cancelled || isStale()) {
+						drop();
+						return;
+					}
+					apply.apply(layoutResult).whenComplete((applied, error) -> {
+						if (error != null) {
+							result.completeExceptionally(error);
+						} else {
+							result.complete(applied);
+						}
+					});
+				}
+			} catch (RuntimeException e) {
+				LOGGER.error("Error while computing the layout of client " + modelState.getClientId(), e);
+				result.completeExceptionally(e);
+			} finally {
+				currentJobs.remove(modelState.getClientId(), this);
+			}
+		}
+
+		private void drop() {
+			if (!cancelled) {
+				staleLayouts.incrementAndGet();
+				LOGGER.debug("Dropping stale layout of client " + modelState.getClientId());
+			}
+			result.complete(false);
+		}
+
+	}
+
+}
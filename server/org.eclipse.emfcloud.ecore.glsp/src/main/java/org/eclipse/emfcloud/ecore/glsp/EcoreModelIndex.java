@@ -15,15 +15,22 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emfcloud.ecore.enotation.Diagram;
 import org.eclipse.emfcloud.ecore.enotation.Edge;
 import org.eclipse.emfcloud.ecore.enotation.NotationElement;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreEdgeUtil;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreSpatialIndex;
+import org.eclipse.glsp.graph.GBounds;
 import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.GPoint;
 import org.eclipse.glsp.graph.impl.GModelIndexImpl;
 
 import com.google.common.collect.BiMap;
@@ -34,6 +41,8 @@ public class EcoreModelIndex extends GModelIndexImpl {
 	private BiMap<EObject, NotationElement> notationIndex;
 	private Set<String> bidirectionalReferences;
 	private BiMap<String, Edge> inheritanceEdges;
+	private EcoreSpatialIndex<Shape> shapeIndex;
+	private ShapeBoundsAdapter shapeBoundsAdapter;
 
 	private EcoreModelIndex(EObject target) {
 		super(target);
@@ -41,6 +50,8 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		notationIndex = HashBiMap.create();
 		bidirectionalReferences = new HashSet<>();
 		inheritanceEdges = HashBiMap.create();
+		shapeIndex = new EcoreSpatialIndex<>();
+		shapeBoundsAdapter = new ShapeBoundsAdapter();
 	}
 
 	public static EcoreModelIndex get(GModelElement element) {
@@ -66,7 +77,10 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		if (notationElement.getSemanticElement() != null) {
 			EObject semanticElement = notationElement.getSemanticElement().getResolvedElement();
 			notationIndex.put(semanticElement, notationElement);
-			semanticIndex.inverse().putIfAbsent(semanticElement, UUID.randomUUID().toString());
+			getOrCreateSemanticId(semanticElement);
+			if (notationElement instanceof Shape) {
+				indexShape((Shape) notationElement);
+			}
 		} else if (notationElement.getType() != null && notationElement.getType().equals(Types.INHERITANCE)) {
 			indexInheritanceEdge((Edge) notationElement);
 		}
@@ -76,6 +90,32 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		}
 	}
 
+	/**
+	 * Returns the id of the given semantic element and assigns one if the element is not indexed yet. The id is
+	 * derived from the URI fragment of the element, so the same element keeps its id across reloads and the client
+	 * is able to compute minimal model updates.
+	 */
+	public String getOrCreateSemanticId(EObject semanticElement) {
+		return getSemanticId(semanticElement).orElseGet(() -> {
+			String id = createSemanticId(semanticElement);
+			indexSemantic(id, semanticElement);
+			return id;
+		});
+	}
+
+	protected String createSemanticId(EObject semanticElement) {
+		Resource resource = semanticElement.eResource();
+		if (resource != null) {
+			// derived ids append '_' suffixes to the element id, see EcoreEdgeUtil#getEdgeId
+			String id = resource.getURIFragment(semanticElement).replace("_", "%5F");
+			if (!semanticIndex.containsKey(id)) {
+				return id;
+			}
+		}
+		// elements that are not contained in a resource yet or whose fragment is still taken by a stale element
+		return UUID.randomUUID().toString();
+	}
+
 	public Optional<EObject> getSemantic(String id) {
 		return Optional.ofNullable(semanticIndex.get(id));
 	}
@@ -133,13 +173,11 @@ public class EcoreModelIndex extends GModelIndexImpl {
 			EObject semanticElement = ((NotationElement) eObject).getSemanticElement().getResolvedElement();
 			id = add(semanticElement);
 			notationIndex.putIfAbsent(semanticElement, (NotationElement) eObject);
-		} else {
-			id = getSemanticId(eObject).orElse(null);
-			if (id == null) {
-				id = UUID.randomUUID().toString();
-				indexSemantic(id, eObject);
+			if (eObject instanceof Shape) {
+				indexShape((Shape) eObject);
 			}
-
+		} else {
+			id = getOrCreateSemanticId(eObject);
 		}
 		return id;
 
@@ -149,6 +187,9 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		if (eObject instanceof NotationElement) {
 			EObject semanticElement = ((NotationElement) eObject).getSemanticElement().getResolvedElement();
 			notationIndex.remove(semanticElement);
+			if (eObject instanceof Shape) {
+				unindexShape((Shape) eObject);
+			}
 			remove(semanticElement);
 			return;
 		} else if (eObject instanceof GModelElement) {
@@ -158,6 +199,63 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		semanticIndex.inverse().remove(eObject);
 	}
 
+	/**
+	 * Forgets all semantic and notation elements, e.g. before the source models are replaced by a reload.
+	 */
+	public void clearSourceModels() {
+		notationIndex.values().stream().filter(Shape.class::isInstance)
+				.forEach(shape -> shape.eAdapters().remove(shapeBoundsAdapter));
+		shapeIndex.clear();
+		semanticIndex.clear();
+		notationIndex.clear();
+		bidirectionalReferences.clear();
+		inheritanceEdges.clear();
+	}
+
+	/**
+	 * Returns the shapes whose bounds intersect the given region. Shapes without a position are not contained.
+	 */
+	public Set<Shape> findShapes(GBounds region) {
+		return shapeIndex.findIntersecting(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+	}
+
+	/**
+	 * Returns the shape whose bounds are closest to the given point.
+	 */
+	public Optional<Shape> findNearestShape(GPoint point) {
+		return shapeIndex.findNearest(point.getX(), point.getY());
+	}
+
+	/**
+	 * Returns the spatial index of all shapes with a position. The index is maintained by this model index and must
+	 * not be modified.
+	 */
+	public EcoreSpatialIndex<Shape> getShapeIndex() {
+		return shapeIndex;
+	}
+
+	protected void indexShape(Shape shape) {
+		if (!shape.eAdapters().contains(shapeBoundsAdapter)) {
+			shape.eAdapters().add(shapeBoundsAdapter);
+		}
+		updateShapeBounds(shape);
+	}
+
+	protected void unindexShape(Shape shape) {
+		shape.eAdapters().remove(shapeBoundsAdapter);
+		shapeIndex.remove(shape);
+	}
+
+	protected void updateShapeBounds(Shape shape) {
+		if (shape.getPosition() == null) {
+			shapeIndex.remove(shape);
+			return;
+		}
+		double width = shape.getSize() != null ? shape.getSize().getWidth() : 0;
+		double height = shape.getSize() != null ? shape.getSize().getHeight() : 0;
+		shapeIndex.put(shape, shape.getPosition().getX(), shape.getPosition().getY(), width, height);
+	}
+
 	public Set<String> getBidirectionalReferences() {
 		return bidirectionalReferences;
 	}
@@ -185,4 +283,25 @@ public class EcoreModelIndex extends GModelIndexImpl {
 		return Optional.of(semanticIndex.inverse().get(semantic));
 	}
 
+	/**
+	 * Keeps the spatial index up to date when the position or size of an indexed shape changes, no matter whether
+	 * the change has been applied by a layout, an incremental update of the model server or the GModel bounds.
+	 */
+	private class ShapeBoundsAdapter extends EContentAdapter {
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (notification.isTouch()) {
+				return;
+			}
+			EObject notifier = (EObject) notification.getNotifier();
+			while (notifier != null && !(notifier instanceof Shape)) {
+				notifier = notifier.eContainer();
+			}
+			if (notifier != null) {
+				updateShapeBounds((Shape) notifier);
+			}
+		}
+	}
+
 }
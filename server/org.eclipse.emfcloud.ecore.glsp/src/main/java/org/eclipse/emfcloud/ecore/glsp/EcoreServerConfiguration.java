@@ -0,0 +1,57 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+/**
+ * Options of the ecore GLSP server, usually given as launch arguments to the {@link EcoreServerLauncher}. The
+ * configuration is bound by the {@link EcoreGLSPModule}, so all client sessions of a server share it.
+ */
+public class EcoreServerConfiguration {
+
+	private int layoutCacheSize = EcoreLayoutCache.DEFAULT_MAX_ENTRIES;
+	private boolean initialAutoLayout;
+	private boolean gModelCacheEnabled = true;
+
+	/**
+	 * @return the number of layout results each layout engine keeps, <code>0</code> disables the cache
+	 */
+	public int getLayoutCacheSize() {
+		return layoutCacheSize;
+	}
+
+	public void setLayoutCacheSize(int layoutCacheSize) {
+		this.layoutCacheSize = Math.max(0, layoutCacheSize);
+	}
+
+	/**
+	 * @return whether newly created notation models are laid out automatically once the client has computed the
+	 *         bounds. New notation models are created without overlapping shapes, so this is disabled by default.
+	 */
+	public boolean isInitialAutoLayout() {
+		return initialAutoLayout;
+	}
+
+	public void setInitialAutoLayout(boolean initialAutoLayout) {
+		this.initialAutoLayout = initialAutoLayout;
+	}
+
+	/**
+	 * @return whether the GModel factory of each client session reuses the nodes of unchanged classifiers
+	 */
+	public boolean isGModelCacheEnabled() {
+		return gModelCacheEnabled;
+	}
+
+	public void setGModelCacheEnabled(boolean gModelCacheEnabled) {
+		this.gModelCacheEnabled = gModelCacheEnabled;
+	}
+
+}
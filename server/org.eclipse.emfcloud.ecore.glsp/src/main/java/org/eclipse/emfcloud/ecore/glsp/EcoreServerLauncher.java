@@ -10,6 +10,9 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.apache.log4j.ConsoleAppender;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -31,20 +34,30 @@ public class EcoreServerLauncher {
 	public static void main(String[] args) {
 		int port = getPort(args);
 		configureLogger();
+		EcoreServerConfiguration configuration = new EcoreServerConfiguration();
+		getIntArgument(args, "--layoutCacheSize").ifPresent(configuration::setLayoutCacheSize);
+		configuration.setInitialAutoLayout(Arrays.asList(args).contains("--initialLayout"));
+		configuration.setGModelCacheEnabled(!Arrays.asList(args).contains("--noGModelCache"));
 		registerEPackages();
 		ElkLayoutEngine.initialize(new LayeredMetaDataProvider());
-		GLSPServerLauncher launcher = new DefaultGLSPServerLauncher(new EcoreGLSPModule());
+		GLSPServerLauncher launcher = new DefaultGLSPServerLauncher(new EcoreGLSPModule(configuration));
 		launcher.start("localhost", port);
 	}
 
 	private static int getPort(String[] args) {
-		for (int i = 0; i < args.length; i++) {
-			if ("--port".contentEquals(args[i])) {
-				return Integer.parseInt(args[i + 1]);
+		return getIntArgument(args, "--port").orElseGet(() -> {
+			LOG.info("The server port was not specified; using default port 5007");
+			return DEFAULT_PORT;
+		});
+	}
+
+	private static Optional<Integer> getIntArgument(String[] args, String name) {
+		for (int i = 0; i < args.length - 1; i++) {
+			if (name.contentEquals(args[i])) {
+				return Optional.of(Integer.parseInt(args[i + 1]));
 			}
 		}
-		LOG.info("The server port was not specified; using default port 5007");
-		return DEFAULT_PORT;
+		return Optional.empty();
 	}
 
 	public static void configureLogger() {
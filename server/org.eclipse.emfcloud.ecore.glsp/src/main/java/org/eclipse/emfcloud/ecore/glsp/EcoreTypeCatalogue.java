@@ -0,0 +1,161 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelResourceManager;
+
+/**
+ * Catalogue of the classifiers that can be used as types within a resource set, i.e. all classifiers of the ecore
+ * package and all data types of the loaded semantic resources. The catalogue is built on first access and only
+ * invalidated if classifiers of a package are added or removed, a data type is renamed or a semantic resource or
+ * its root package is added or removed, so repeated type lookups neither walk the resource set nor scan the type list.
+ * Notation resources are neither observed nor searched.
+ */
+public class EcoreTypeCatalogue extends EContentAdapter {
+
+	private final ResourceSet resourceSet;
+
+	private List<EClassifier> eClassifiers;
+	private List<EDataType> eDataTypes;
+	private Map<String, EDataType> eDataTypesByName;
+	private List<String> sortedEDataTypeNames;
+
+	public EcoreTypeCatalogue(ResourceSet resourceSet) {
+		this.resourceSet = resourceSet;
+	}
+
+	public synchronized List<EClassifier> getEClassifiers() {
+		ensureBuilt();
+		return eClassifiers;
+	}
+
+	public synchronized List<EDataType> getEDataTypes() {
+		ensureBuilt();
+		return eDataTypes;
+	}
+
+	/**
+	 * Returns the data type with the given name, ignoring case. If several data types share a name, the ecore data
+	 * types take precedence over the ones of the loaded resources.
+	 */
+	public synchronized Optional<EDataType> getEDataType(String name) {
+		ensureBuilt();
+		return Optional.ofNullable(eDataTypesByName.get(name.toLowerCase()));
+	}
+
+	public synchronized List<String> getSortedEDataTypeNames() {
+		ensureBuilt();
+		return sortedEDataTypeNames;
+	}
+
+	public synchronized void invalidate() {
+		eClassifiers = null;
+		eDataTypes = null;
+		eDataTypesByName = null;
+		sortedEDataTypeNames = null;
+	}
+
+	private void ensureBuilt() {
+		if (eClassifiers != null) {
+			return;
+		}
+		List<EClassifier> classifiers = new ArrayList<>(EcorePackage.eINSTANCE.getEClassifiers());
+		for (Resource resource : List.copyOf(resourceSet.getResources())) {
+			if (isNotationResource(resource)) {
+				continue;
+			}
+			TreeIterator<EObject> resourceContent = resource.getAllContents();
+			while (resourceContent.hasNext()) {
+				EObject content = resourceContent.next();
+				if (content instanceof EDataType) {
+					classifiers.add((EDataType) content);
+				}
+			}
+		}
+
+		List<EDataType> dataTypes = classifiers.stream().filter(EDataType.class::isInstance)
+				.map(EDataType.class::cast).collect(Collectors.toList());
+		Map<String, EDataType> dataTypesByName = new HashMap<>();
+		dataTypes.stream().filter(dataType -> dataType.getName() != null)
+				.forEach(dataType -> dataTypesByName.putIfAbsent(dataType.getName().toLowerCase(), dataType));
+
+		eClassifiers = Collections.unmodifiableList(classifiers);
+		eDataTypes = Collections.unmodifiableList(dataTypes);
+		eDataTypesByName = dataTypesByName;
+		sortedEDataTypeNames = dataTypes.stream().map(ENamedElement::getName).filter(Objects::nonNull).sorted()
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (!notification.isTouch() && affectsCatalogue(notification)) {
+			invalidate();
+		}
+	}
+
+	protected boolean affectsCatalogue(Notification notification) {
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof ResourceSet) {
+			return notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES
+					&& !isNotationResource(notification.getOldValue())
+					&& !isNotationResource(notification.getNewValue());
+		} else if (notifier instanceof Resource) {
+			// a reload replaces the root package of the kept semantic resource
+			return notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+		}
+		Object feature = notification.getFeature();
+		if (feature == EcorePackage.Literals.EPACKAGE__ECLASSIFIERS) {
+			return true;
+		}
+		return feature == EcorePackage.Literals.ENAMED_ELEMENT__NAME && notifier instanceof EDataType;
+	}
+
+	@Override
+	protected void addAdapter(Notifier notifier) {
+		// notation resources never contain data types, observing them would only slow down notation changes
+		if (!isNotationResource(notifier)) {
+			super.addAdapter(notifier);
+		}
+	}
+
+	protected boolean isNotationResource(Object object) {
+		return object instanceof Resource && ((Resource) object).getURI() != null
+				&& EcoreModelResourceManager.NOTATION_EXTENSION.equals(((Resource) object).getURI().fileExtension());
+	}
+
+	@Override
+	protected boolean resolve() {
+		// never demand-load referenced resources just to observe them
+		return false;
+	}
+
+}
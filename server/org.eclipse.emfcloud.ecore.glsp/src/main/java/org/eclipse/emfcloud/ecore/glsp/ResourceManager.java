@@ -13,21 +13,21 @@ package org.eclipse.emfcloud.ecore.glsp;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.command.BasicCommandStack;
-import org.eclipse.emf.common.notify.Notifier;
-import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreAdapterFactory;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
@@ -36,6 +36,9 @@ import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emfcloud.ecore.enotation.EnotationPackage;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreDiagramResources;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelResourceManager;
+import org.eclipse.emfcloud.ecore.modelserver.EnotationResourceFactory;
 import org.eclipse.glsp.server.protocol.GLSPServerException;
 import org.eclipse.glsp.server.utils.ClientOptions;
 import org.eclipse.glsp.server.utils.MapUtil;
@@ -50,6 +53,8 @@ public class ResourceManager {
 	private String baseSourceUri;
 	private EcoreFacade ecoreFacade;
 	private EditingDomain editingDomain;
+	private ECrossReferenceAdapter usageIndex;
+	private EcoreTypeCatalogue typeCatalogue;
 
 	public ResourceManager(EcoreModelState modelState, EcoreModelServerAccess modelServerAccess) {
 		String sourceURI = MapUtil.getValue(modelState.getClientOptions(), ClientOptions.SOURCE_URI)
@@ -69,9 +74,26 @@ public class ResourceManager {
 		resourceSet.getPackageRegistry().put(EcorePackage.eINSTANCE.getNsURI(), EcorePackage.eINSTANCE);
 		resourceSet.getPackageRegistry().put(EnotationPackage.eINSTANCE.getNsURI(), EnotationPackage.eINSTANCE);
 		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+				.put(EcoreModelResourceManager.NOTATION_EXTENSION, new EnotationResourceFactory());
+		// maintains the inverse references of all loaded objects, see findUsages
+		usageIndex = new ECrossReferenceAdapter();
+		resourceSet.eAdapters().add(usageIndex);
+		typeCatalogue = new EcoreTypeCatalogue(resourceSet);
+		resourceSet.eAdapters().add(typeCatalogue);
 		return resourceSet;
 	}
 
+	/**
+	 * Fetches the latest revision of the semantic and notation model and replaces the contents of the already loaded
+	 * resources. The resource set, its registries and the editing domain are kept for the whole client session, only
+	 * the command history is discarded as it refers to the replaced model elements.
+	 */
+	public EcoreFacade reload(EcoreModelState modelState, EcoreModelServerAccess modelServerAccess) {
+		editingDomain.getCommandStack().flush();
+		return createEcoreFacade(modelState, modelServerAccess);
+	}
+
 	public EditingDomain getEditingDomain() {
 		return editingDomain;
 	}
@@ -82,16 +104,14 @@ public class ResourceManager {
 
 	protected EcoreFacade createEcoreFacade(EcoreModelState modelState, EcoreModelServerAccess modelServerAccess) {
 		try {
-			EObject semanticRoot = modelServerAccess.getModel();
-			Resource semanticResource = loadResource(convertToFile(getSemanticURI()), semanticRoot);
-
-			boolean needsInitialAutoLayout = false;
-			EObject notationRoot = modelServerAccess.getNotationModel();
-			if (notationRoot == null) {
-				needsInitialAutoLayout = true;
-				notationRoot = modelServerAccess.createEcoreNotation();
-			}
-			Resource notationResource = loadResource(convertToFile(getNotationURI()), notationRoot);
+			EcoreDiagramResources diagramResources = modelServerAccess.getDiagramResources();
+			Resource semanticResource = loadResource(convertToFile(getSemanticURI()),
+					diagramResources.getSemanticModel());
+			Resource notationResource = loadResource(convertToFile(getNotationURI()),
+					diagramResources.getNotationModel());
+			// a freshly created notation model only contains placed shapes without routed edges
+			boolean needsInitialAutoLayout = modelState.getConfiguration().isInitialAutoLayout()
+					&& diagramResources.isNotationCreated();
 			ecoreFacade = new EcoreFacade(semanticResource, notationResource, modelState.getIndex(), needsInitialAutoLayout);
 			return ecoreFacade;
 		} catch (IOException e) {
@@ -133,33 +153,33 @@ public class ResourceManager {
 	}
 
 	private Resource createResource(String path) {
-		return resourceSet.createResource(URI.createFileURI(path));
+		URI uri = URI.createFileURI(path);
+		Resource existingResource = resourceSet.getResource(uri, false);
+		return existingResource != null ? existingResource : resourceSet.createResource(uri);
+	}
+
+	/**
+	 * Returns all cross references to the given object within the loaded resources. The inverse references are
+	 * maintained incrementally, so the lookup is proportional to the number of usages instead of the model size.
+	 */
+	public Collection<Setting> findUsages(EObject eObject) {
+		return new ArrayList<>(usageIndex.getNonNavigableInverseReferences(eObject, false));
 	}
 
 	public List<EClassifier> getAllEClassifiers() {
-		List<EClassifier> listOfClassifiers = new ArrayList<>(EcorePackage.eINSTANCE.getEClassifiers());
-		TreeIterator<Notifier> resourceSetContent = editingDomain.getResourceSet().getAllContents();
-		while (resourceSetContent.hasNext()) {
-			Notifier res = resourceSetContent.next();
-			if (res instanceof EDataType) {
-				listOfClassifiers.add((EDataType) res);
-			}
-		}
-		return listOfClassifiers;
+		return typeCatalogue.getEClassifiers();
 	}
 
 	public List<EDataType> getAllETypes() {
-		return getAllEClassifiers().stream().filter(EDataType.class::isInstance).map(EDataType.class::cast)
-				.collect(Collectors.toList());
+		return typeCatalogue.getEDataTypes();
+	}
+
+	public List<String> getSortedETypeNames() {
+		return typeCatalogue.getSortedEDataTypeNames();
 	}
 
 	public Optional<EDataType> getETypeFromString(String eTypeName) {
-		for (EDataType type : getAllETypes()) {
-			if (type.getName().toLowerCase().equals(eTypeName.toLowerCase())) {
-				return Optional.ofNullable(type);
-			}
-		}
-		return Optional.empty();
+		return typeCatalogue.getEDataType(eTypeName);
 	}
 
 }
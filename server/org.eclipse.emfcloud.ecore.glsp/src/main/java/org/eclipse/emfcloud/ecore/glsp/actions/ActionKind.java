@@ -6,5 +6,7 @@ public class ActionKind {
 
 	public static final String REQUEST_SEMANTIC_URI = "requestSemanticUri";
 	public static final String SET_SEMANTIC_URI = "setSemanticUri";
+	public static final String VIEWPORT_CHANGED = "ecoreViewportChanged";
+	public static final String SET_COLLAPSED = "ecoreSetCollapsed";
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.glsp.server.operations.Operation;
+
+/**
+ * Collapses or expands the given class nodes. The state is stored in the notation model, collapsed classes are sent
+ * without their attribute and operation labels.
+ */
+public class SetCollapsedOperation extends Operation {
+
+	private List<String> elementIds = new ArrayList<>();
+	private boolean collapsed;
+
+	public SetCollapsedOperation() {
+		super(ActionKind.SET_COLLAPSED);
+	}
+
+	public SetCollapsedOperation(final List<String> elementIds, final boolean collapsed) {
+		this();
+		this.elementIds = elementIds;
+		this.collapsed = collapsed;
+	}
+
+	public List<String> getElementIds() {
+		return elementIds;
+	}
+
+	public void setElementIds(List<String> elementIds) {
+		this.elementIds = elementIds;
+	}
+
+	public boolean isCollapsed() {
+		return collapsed;
+	}
+
+	public void setCollapsed(boolean collapsed) {
+		this.collapsed = collapsed;
+	}
+
+}
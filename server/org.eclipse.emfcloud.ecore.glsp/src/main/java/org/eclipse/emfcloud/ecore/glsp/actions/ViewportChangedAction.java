@@ -0,0 +1,75 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.actions;
+
+import org.eclipse.glsp.server.actions.Action;
+
+/**
+ * Sent by the client when its visible region changes, in diagram coordinates. Classifiers outside of this region are
+ * sent as lightweight placeholders. A width or height of <code>0</code> disables the viewport mode, so the full
+ * diagram is sent again.
+ */
+public class ViewportChangedAction extends Action {
+
+	private double x;
+	private double y;
+	private double width;
+	private double height;
+
+	public ViewportChangedAction() {
+		super(ActionKind.VIEWPORT_CHANGED);
+	}
+
+	public ViewportChangedAction(final double x, final double y, final double width, final double height) {
+		this();
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public void setX(double x) {
+		this.x = x;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+	public void setY(double y) {
+		this.y = y;
+	}
+
+	public double getWidth() {
+		return width;
+	}
+
+	public void setWidth(double width) {
+		this.width = width;
+	}
+
+	public double getHeight() {
+		return height;
+	}
+
+	public void setHeight(double height) {
+		this.height = height;
+	}
+
+	public boolean isEmpty() {
+		return width <= 0 || height <= 0;
+	}
+
+}
@@ -11,7 +11,6 @@
 package org.eclipse.emfcloud.ecore.glsp.gmodel;
 
 import java.util.Optional;
-import java.util.UUID;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
@@ -32,12 +31,6 @@ public abstract class AbstractGModelFactory<T extends EObject, E extends GModelE
 	}
 
 	protected String toId(EObject semanticElement) {
-		String id = modelState.getIndex().getSemanticId(semanticElement).orElse(null);
-		if (id == null) {
-			id = UUID.randomUUID().toString();
-			modelState.getIndex().indexSemantic(id, semanticElement);
-		}
-		return id;
-
+		return modelState.getIndex().getOrCreateSemanticId(semanticElement);
 	}
 }
@@ -11,6 +11,8 @@
 package org.eclipse.emfcloud.ecore.glsp.gmodel;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EClass;
@@ -19,9 +21,11 @@ import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.glsp.graph.GBounds;
 import org.eclipse.glsp.graph.GCompartment;
 import org.eclipse.glsp.graph.GNode;
 import org.eclipse.glsp.graph.builder.impl.GCompartmentBuilder;
@@ -35,6 +39,11 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 
 	private GModelFactory parentFactory;
 
+	private Set<Shape> visibleShapes;
+	private EcoreModelIndex visibleShapesIndex;
+	private GBounds visibleShapesViewport;
+	private long visibleShapesModificationCount;
+
 	public ClassifierNodeFactory(EcoreModelState modelState, GModelFactory parentFactory) {
 		super(modelState);
 		this.parentFactory = parentFactory;
@@ -42,15 +51,29 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 
 	@Override
 	public GNode create(EClassifier classifier) {
-
+		if (!isInViewport(classifier)) {
+			return createPlaceholder(classifier);
+		}
+		GModelFragmentCache fragmentCache = parentFactory.getFragmentCache();
+		boolean collapsed = isCollapsed(classifier);
+		Optional<GNode> cachedNode = fragmentCache.get(classifier, toId(classifier), collapsed);
+		if (cachedNode.isPresent()) {
+			// the shape is not part of the cache key, it may have been moved or resized since
+			applyShapeData(classifier, cachedNode.get());
+			return cachedNode.get();
+		}
+		GNode node = null;
 		if (classifier instanceof EClass) {
-			return create((EClass) classifier);
+			node = create((EClass) classifier);
 		} else if (classifier instanceof EEnum) {
-			return create((EEnum) classifier);
+			node = create((EEnum) classifier);
 		} else if (classifier instanceof EDataType) {
-			return create((EDataType) classifier);
+			node = create((EDataType) classifier);
 		}
-		return null;
+		if (node != null) {
+			fragmentCache.put(classifier, collapsed, node);
+		}
+		return node;
 	}
 
 	public GNode create(EClass eClass) {
@@ -58,8 +81,13 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 				.id(toId(eClass)) //
 				.layout(GConstants.Layout.VBOX) //
 				.addCssClass(CSS.NODE) //
-				.add(buildHeader(eClass))//
-				.add(createLabeledChildrenCompartment(eClass.getEAttributes(), eClass.getEOperations(), eClass));
+				.add(buildHeader(eClass));
+		// the labels of collapsed classes are not created at all, not only hidden by the client
+		if (isCollapsed(eClass)) {
+			b.addCssClass(CSS.COLLAPSED);
+		} else {
+			b.add(createLabeledChildrenCompartment(eClass.getEAttributes(), eClass.getEOperations(), eClass));
+		}
 
 		if (eClass.isAbstract()) {
 			b.addCssClass(CSS.ABSTRACT);
@@ -108,6 +136,55 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 
 	}
 
+	/**
+	 * Creates a node without content that keeps the type, id and bounds of the classifier, so edges can still be
+	 * attached and routed. The node has no layout, so the client does not change its size.
+	 */
+	public GNode createPlaceholder(EClassifier classifier) {
+		GNodeBuilder b = new GNodeBuilder(getNodeType(classifier)) //
+				.id(toId(classifier)) //
+				.addCssClass(CSS.NODE) //
+				.addCssClass(CSS.PLACEHOLDER);
+		applyShapeData(classifier, b);
+		return b.build();
+	}
+
+	/**
+	 * Returns whether the shape of the given classifier intersects the viewport of the client. Classifiers without a
+	 * viewport, without a shape or without bounds yet are always considered to be visible.
+	 */
+	public boolean isInViewport(EClassifier classifier) {
+		Optional<GBounds> viewport = modelState.getViewport();
+		if (viewport.isEmpty()) {
+			return true;
+		}
+		return modelState.getIndex().getNotation(classifier, Shape.class)
+				.map(shape -> shape.getPosition() == null || shape.getSize() == null
+						|| getVisibleShapes(viewport.get()).contains(shape))
+				.orElse(true);
+	}
+
+	/**
+	 * Queries the shapes in the viewport once for all classifiers of a GModel update, the result is reused until the
+	 * viewport or the bounds of a shape change.
+	 */
+	private Set<Shape> getVisibleShapes(GBounds viewport) {
+		EcoreModelIndex index = modelState.getIndex();
+		long modificationCount = index.getShapeIndex().getModificationCount();
+		if (visibleShapes == null || visibleShapesIndex != index || visibleShapesViewport != viewport
+				|| visibleShapesModificationCount != modificationCount) {
+			visibleShapes = index.findShapes(viewport);
+			visibleShapesIndex = index;
+			visibleShapesViewport = viewport;
+			visibleShapesModificationCount = modificationCount;
+		}
+		return visibleShapes;
+	}
+
+	public boolean isCollapsed(EClassifier classifier) {
+		return modelState.getIndex().getNotation(classifier, Shape.class).map(Shape::isCollapsed).orElse(false);
+	}
+
 	private void applyShapeData(EClassifier classifier, GNodeBuilder builder) {
 		modelState.getIndex().getNotation(classifier, Shape.class).ifPresent(shape -> {
 			if (shape.getPosition() != null) {
@@ -119,6 +196,17 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 		});
 	}
 
+	private void applyShapeData(EClassifier classifier, GNode node) {
+		modelState.getIndex().getNotation(classifier, Shape.class).ifPresent(shape -> {
+			if (shape.getPosition() != null) {
+				node.setPosition(GraphUtil.copy(shape.getPosition()));
+			}
+			if (shape.getSize() != null) {
+				node.setSize(GraphUtil.copy(shape.getSize()));
+			}
+		});
+	}
+
 	private GCompartment buildHeader(EClassifier classifier) {
 		return new GCompartmentBuilder(Types.COMP_HEADER) //
 				.layout("hbox") //
@@ -158,6 +246,15 @@ public class ClassifierNodeFactory extends AbstractGModelFactory<EClassifier, GN
 				.build();
 	}
 
+	private static String getNodeType(EClassifier classifier) {
+		if (classifier instanceof EEnum) {
+			return Types.ENUM;
+		} else if (classifier instanceof EClass) {
+			return Types.ECLASS;
+		}
+		return Types.DATATYPE;
+	}
+
 	public static String getType(EClassifier classifier) {
 		if (classifier instanceof EClass) {
 			EClass eClass = (EClass) classifier;
@@ -11,11 +11,16 @@
 package org.eclipse.emfcloud.ecore.glsp.gmodel;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.ENamedElement;
@@ -23,6 +28,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.CSS;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
@@ -32,6 +38,7 @@ import org.eclipse.glsp.graph.GGraph;
 import org.eclipse.glsp.graph.GLabel;
 import org.eclipse.glsp.graph.GModelElement;
 import org.eclipse.glsp.graph.GModelRoot;
+import org.eclipse.glsp.graph.GNode;
 import org.eclipse.glsp.graph.GPoint;
 import org.eclipse.glsp.graph.builder.impl.GEdgeBuilder;
 import org.eclipse.glsp.graph.builder.impl.GEdgePlacementBuilder;
@@ -43,11 +50,15 @@ import org.eclipse.glsp.server.protocol.GLSPServerException;
 
 public class GModelFactory extends AbstractGModelFactory<EObject, GModelElement> {
 
+	private static Logger LOGGER = Logger.getLogger(GModelFactory.class);
+
 	private ClassifierNodeFactory classifierNodeFactory;
 	private LabelFactory labelFactory;
+	private final GModelFragmentCache fragmentCache;
 
 	public GModelFactory(EcoreModelState modelState) {
 		super(modelState);
+		fragmentCache = new GModelFragmentCache(modelState.getConfiguration().isGModelCacheEnabled());
 		classifierNodeFactory = new ClassifierNodeFactory(modelState, this);
 		labelFactory = new LabelFactory(modelState);
 		getOrCreateRoot();
@@ -80,19 +91,152 @@ public class GModelFactory extends AbstractGModelFactory<EObject, GModelElement>
 		GGraph graph = getOrCreateRoot();
 		graph.setId(toId(ePackage));
 
+		fragmentCache.track(ePackage);
 		graph.getChildren().addAll(ePackage.getEClassifiers().stream()//
 				.map(this::create)//
 				.collect(Collectors.toList()));
+		fragmentCache.retainAll(ePackage.getEClassifiers());
 
 		graph.getChildren().addAll(ePackage.getEClassifiers().stream() //
 				.filter(EClass.class::isInstance) //
 				.map(EClass.class::cast) //
 				.flatMap(eClass -> createEdges(eClass).stream()) //
 				.collect(Collectors.toList()));
+		removeHiddenEdgeLabels(graph, graph.getChildren());
+		logFragmentCacheStatistics();
 		return graph;
 
 	}
 
+	/**
+	 * Updates the existing graph for the given package instead of rebuilding it. Nodes of removed classifiers are
+	 * removed, nodes of added and changed classifiers are (re-)created and all edges connected to one of these nodes
+	 * are regenerated. All other elements of the graph are kept as they are.
+	 *
+	 * @return the newly created nodes and edges
+	 */
+	public List<GModelElement> update(EPackage ePackage, Collection<? extends EClassifier> changedClassifiers) {
+		GGraph graph = getRoot();
+		EcoreModelIndex index = modelState.getIndex();
+		List<GModelElement> createdElements = new ArrayList<>();
+		Set<String> affectedIds = new HashSet<>();
+		Set<EClassifier> existingClassifiers = new HashSet<>();
+		fragmentCache.track(ePackage);
+
+		int nodeCount = 0;
+		ListIterator<GModelElement> children = graph.getChildren().listIterator();
+		while (children.hasNext()) {
+			GModelElement child = children.next();
+			if (!(child instanceof GNode)) {
+				continue;
+			}
+			Optional<EClassifier> classifier = index.getSemantic(child, EClassifier.class);
+			if (classifier.isEmpty() || classifier.get().getEPackage() != ePackage) {
+				affectedIds.add(child.getId());
+				children.remove();
+				classifier.ifPresent(index::remove);
+				continue;
+			}
+			existingClassifiers.add(classifier.get());
+			if (changedClassifiers.contains(classifier.get())) {
+				GModelElement node = create(classifier.get());
+				affectedIds.add(node.getId());
+				children.set(node);
+				createdElements.add(node);
+			}
+			nodeCount++;
+		}
+
+		for (EClassifier classifier : ePackage.getEClassifiers()) {
+			if (!existingClassifiers.contains(classifier)) {
+				GModelElement node = create(classifier);
+				affectedIds.add(node.getId());
+				graph.getChildren().add(nodeCount++, node);
+				createdElements.add(node);
+			}
+		}
+		fragmentCache.retainAll(ePackage.getEClassifiers());
+
+		graph.getChildren().removeIf(child -> child instanceof GEdge
+				&& (affectedIds.contains(((GEdge) child).getSourceId())
+						|| affectedIds.contains(((GEdge) child).getTargetId())));
+
+		List<EReference> affectedReferences = new ArrayList<>();
+		ePackage.getEClassifiers().stream() //
+				.filter(EClass.class::isInstance) //
+				.map(EClass.class::cast) //
+				.flatMap(eClass -> eClass.getEReferences().stream()) //
+				.filter(eReference -> affectedIds.contains(toId(eReference.getEContainingClass()))
+						|| affectedIds.contains(toId(eReference.getEReferenceType()))) //
+				.forEach(affectedReferences::add);
+		// bidirectional references are only drawn once, so forget about the previously drawn ones
+		Set<String> bidirectionalReferences = index.getBidirectionalReferences();
+		affectedReferences.forEach(eReference -> {
+			bidirectionalReferences.remove(EcoreEdgeUtil.getStringId(eReference));
+			if (eReference.getEOpposite() != null) {
+				bidirectionalReferences.remove(EcoreEdgeUtil.getStringId(eReference.getEOpposite()));
+			}
+		});
+		affectedReferences.stream().map(this::create).filter(Objects::nonNull).forEach(createdElements::add);
+
+		ePackage.getEClassifiers().stream() //
+				.filter(EClass.class::isInstance) //
+				.map(EClass.class::cast) //
+				.forEach(eClass -> eClass.getESuperTypes().stream() //
+						.filter(superType -> affectedIds.contains(toId(eClass))
+								|| affectedIds.contains(toId(superType))) //
+						.map(superType -> createInheritanceEdge(eClass, superType)) //
+						.forEach(createdElements::add));
+
+		graph.getChildren().addAll(createdElements.stream().filter(GEdge.class::isInstance)
+				.collect(Collectors.toList()));
+		removeHiddenEdgeLabels(graph, createdElements);
+		logFragmentCacheStatistics();
+		return createdElements;
+	}
+
+	/**
+	 * Returns whether the given classifier is created with its full content for the current viewport of the client.
+	 */
+	public boolean isInViewport(EClassifier classifier) {
+		return classifierNodeFactory.isInViewport(classifier);
+	}
+
+	/**
+	 * Returns the cache of classifier nodes that is used by this factory, e.g. to query its hit rate.
+	 */
+	public GModelFragmentCache getFragmentCache() {
+		return fragmentCache;
+	}
+
+	private void logFragmentCacheStatistics() {
+		if (LOGGER.isDebugEnabled() && fragmentCache.isEnabled()) {
+			LOGGER.debug(String.format("GModel fragment cache: %d hits, %d misses, %d stale, %d entries",
+					fragmentCache.getHits(), fragmentCache.getMisses(), fragmentCache.getInvalidations(),
+					fragmentCache.size()));
+		}
+	}
+
+	/**
+	 * Edges between two placeholders are entirely outside of the viewport, so their labels are not sent.
+	 */
+	private void removeHiddenEdgeLabels(GGraph graph, Collection<? extends GModelElement> elements) {
+		if (modelState.getViewport().isEmpty()) {
+			return;
+		}
+		Set<String> placeholderIds = graph.getChildren().stream() //
+				.filter(GNode.class::isInstance) //
+				.filter(node -> node.getCssClasses().contains(CSS.PLACEHOLDER)) //
+				.map(GModelElement::getId) //
+				.collect(Collectors.toSet());
+		elements.stream() //
+				.filter(GEdge.class::isInstance) //
+				.map(GEdge.class::cast) //
+				.filter(edge -> placeholderIds.contains(edge.getSourceId())
+						&& placeholderIds.contains(edge.getTargetId())) //
+				.forEach(edge -> edge.getChildren().clear());
+	}
+
 	private List<GModelElement> createEdges(EClass eClass) {
 		List<GModelElement> children = new ArrayList<>();
 		// create reference edges
@@ -166,8 +310,9 @@ public class GModelFactory extends AbstractGModelFactory<EObject, GModelElement>
 	}
 
 	private String createMultiplicity(EReference eReference) {
-		return String.format("[%s..%s]", eReference.getLowerBound(),
-				eReference.getUpperBound() == -1 ? "*" : eReference.getUpperBound());
+		// plain concatenation, this is called for every reference edge on each rebuild
+		return "[" + eReference.getLowerBound() + ".."
+				+ (eReference.getUpperBound() == -1 ? "*" : String.valueOf(eReference.getUpperBound())) + "]";
 	}
 
 	private GLabel createEdgeMultiplicityLabel(String value, String id, double position) {
@@ -221,6 +366,14 @@ public class GModelFactory extends AbstractGModelFactory<EObject, GModelElement>
 				"No matching GModelElement found for the semanticElement of type: " + semanticElement.getClass()));
 	}
 
+	private GGraph getRoot() {
+		GModelRoot existingRoot = modelState.getRoot();
+		if (!(existingRoot instanceof GGraph)) {
+			throw new GLSPServerException("Cannot update a GModel without an existing graph");
+		}
+		return (GGraph) existingRoot;
+	}
+
 	private GGraph getOrCreateRoot() {
 		GModelRoot existingRoot = modelState.getRoot();
 		if (existingRoot != null && existingRoot instanceof GGraph) {
@@ -0,0 +1,216 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.gmodel;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.glsp.graph.GNode;
+
+/**
+ * Caches the classifier nodes created by the {@link GModelFactory}, so rebuilding the graph reuses the nodes of all
+ * classifiers that have not changed since they were created. A content adapter on the package increments the
+ * modification stamp of the classifier that contains a changed element, an entry is only used as long as the stamp
+ * it has been created with is current. Renaming a classifier drops all entries, as the name of a classifier is also
+ * shown by the labels of other classifiers.
+ */
+public class GModelFragmentCache {
+
+	private final Map<EClassifier, Entry> entries = new HashMap<>();
+	private final Map<EClassifier, Long> stamps = new HashMap<>();
+	private final ModificationAdapter modificationAdapter = new ModificationAdapter();
+	private final boolean enabled;
+	private EPackage trackedPackage;
+	private long modificationCount;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public GModelFragmentCache() {
+		this(true);
+	}
+
+	/**
+	 * @param enabled whether the cache keeps nodes at all, a disabled cache always misses
+	 */
+	public GModelFragmentCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts tracking the modifications of the given package. Tracking another package, e.g. after a reload, drops
+	 * all entries of the previous one.
+	 */
+	public synchronized void track(EPackage ePackage) {
+		if (!enabled || trackedPackage == ePackage) {
+			return;
+		}
+		if (trackedPackage != null) {
+			trackedPackage.eAdapters().remove(modificationAdapter);
+		}
+		clear();
+		trackedPackage = ePackage;
+		if (ePackage != null) {
+			ePackage.eAdapters().add(modificationAdapter);
+		}
+	}
+
+	/**
+	 * Returns the cached node of the given classifier if it has been created with the same id and collapsed state
+	 * and the classifier has not been modified since. A cached node that is still part of a graph is copied.
+	 */
+	public synchronized Optional<GNode> get(EClassifier classifier, String id, boolean collapsed) {
+		Entry entry = entries.get(classifier);
+		if (entry == null || entry.stamp != getStamp(classifier) || entry.collapsed != collapsed
+				|| !id.equals(entry.node.getId())) {
+			misses.incrementAndGet();
+			return Optional.empty();
+		}
+		hits.incrementAndGet();
+		if (entry.node.eContainer() != null) {
+			entry.node = EcoreUtil.copy(entry.node);
+		}
+		return Optional.of(entry.node);
+	}
+
+	public synchronized void put(EClassifier classifier, boolean collapsed, GNode node) {
+		// modifications are only tracked for the classifiers of the tracked package
+		if (enabled && trackedPackage != null && classifier.getEPackage() == trackedPackage) {
+			entries.put(classifier, new Entry(getStamp(classifier), collapsed, node));
+		}
+	}
+
+	/**
+	 * Drops the entries and stamps of all classifiers that are not contained in the given ones, e.g. of removed
+	 * classifiers.
+	 */
+	public synchronized void retainAll(Collection<? extends EClassifier> classifiers) {
+		Set<EClassifier> retained = new HashSet<>(classifiers);
+		entries.keySet().retainAll(retained);
+		stamps.keySet().retainAll(retained);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		stamps.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries that have been dropped because their classifier has been modified.
+	 */
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Returns the share of lookups that have been answered by the cache, or <code>0</code> without any lookup.
+	 */
+	public double getHitRate() {
+		long hitCount = hits.get();
+		long lookupCount = hitCount + misses.get();
+		return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+	}
+
+	private long getStamp(EClassifier classifier) {
+		return stamps.getOrDefault(classifier, 0L);
+	}
+
+	private synchronized void stamp(EClassifier classifier) {
+		stamps.put(classifier, ++modificationCount);
+		if (entries.remove(classifier) != null) {
+			invalidations.incrementAndGet();
+		}
+	}
+
+	private synchronized void invalidateAll() {
+		invalidations.addAndGet(entries.size());
+		entries.clear();
+	}
+
+	private static Optional<EClassifier> getContainingClassifier(Object notifier) {
+		EObject current = notifier instanceof EObject ? (EObject) notifier : null;
+		while (current != null && !(current instanceof EClassifier)) {
+			current = current.eContainer();
+		}
+		return Optional.ofNullable((EClassifier) current);
+	}
+
+	private static class Entry {
+		private final long stamp;
+		private final boolean collapsed;
+		private GNode node;
+
+		Entry(long stamp, boolean collapsed, GNode node) {
+			this.stamp = stamp;
+			this.collapsed = collapsed;
+			this.node = node;
+		}
+	}
+
+	private class ModificationAdapter extends EContentAdapter {
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (notification.isTouch()) {
+				return;
+			}
+			if (notification.getNotifier() instanceof EClassifier
+					&& notification.getFeature() == EcorePackage.Literals.ENAMED_ELEMENT__NAME) {
+				invalidateAll();
+			}
+			if (notification.getNotifier() instanceof EPackage) {
+				// classifiers that are removed or (re-)added are not tracked while they are outside of the package
+				stampClassifiers(notification.getOldValue());
+				stampClassifiers(notification.getNewValue());
+				return;
+			}
+			getContainingClassifier(notification.getNotifier()).ifPresent(GModelFragmentCache.this::stamp);
+		}
+
+		private void stampClassifiers(Object value) {
+			if (value instanceof EClassifier) {
+				stamp((EClassifier) value);
+			} else if (value instanceof Collection<?>) {
+				((Collection<?>) value).forEach(this::stampClassifiers);
+			}
+		}
+	}
+
+}
@@ -10,15 +10,20 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.handler;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutEngine;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutScheduler;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
 import org.eclipse.glsp.graph.GModelRoot;
 import org.eclipse.glsp.server.actions.Action;
 import org.eclipse.glsp.server.actions.ActionDispatcher;
 import org.eclipse.glsp.server.features.core.model.ComputedBoundsAction;
 import org.eclipse.glsp.server.features.core.model.ComputedBoundsActionHandler;
+import org.eclipse.glsp.server.layout.ILayoutEngine;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.LayoutOperation;
 import org.eclipse.glsp.server.utils.LayoutUtil;
@@ -29,6 +34,10 @@ public class EcoreComputedBoundsActionHandler extends ComputedBoundsActionHandle
 
 	@Inject
 	private ActionDispatcher actionDispatcher;
+	@Inject
+	private ILayoutEngine layoutEngine;
+	@Inject
+	private EcoreLayoutScheduler layoutScheduler;
 
 	@Override
 	public List<Action> executeAction(ComputedBoundsAction computedBoundsAction, GModelState graphicalModelState) {
@@ -43,6 +52,16 @@ public class EcoreComputedBoundsActionHandler extends ComputedBoundsActionHandle
 				if (ecoreFacade.diagramNeedsAutoLayout()) {
 					actionDispatcher.dispatch(ecoreModelState.getClientId(), new LayoutOperation());
 					ecoreFacade.setNeedsInitialAutoLayout(false);
+				} else if (layoutEngine instanceof EcoreLayoutEngine
+						&& !layoutScheduler.isLayoutInProgress(ecoreModelState.getClientId())) {
+					// place elements that have been added without a position, e.g. by another client. A running
+					// layout is not replaced, the bounds computed after its result was applied are checked again.
+					Set<String> unplacedElements = ((EcoreLayoutEngine) layoutEngine)
+							.findUnplacedElements(ecoreModelState);
+					if (!unplacedElements.isEmpty()) {
+						actionDispatcher.dispatch(ecoreModelState.getClientId(),
+								new LayoutOperation(new ArrayList<>(unplacedElements)));
+					}
 				}
 				return submissionHandler.submitModelDirectly(ecoreModelState);
 			}
@@ -10,11 +10,8 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.handler;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.eclipse.emf.ecore.ENamedElement;
 import org.eclipse.emfcloud.ecore.glsp.actions.AttributeTypesAction;
 import org.eclipse.emfcloud.ecore.glsp.actions.ReturnAttributeTypesAction;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
@@ -26,9 +23,7 @@ public class EcoreGetAttributeTypesActionHandler extends BasicActionHandler<Attr
 
 	@Override
 	protected List<Action> executeAction(AttributeTypesAction action, GModelState modelState) {
-		List<String> types = EcoreModelState.getResourceManager(modelState).getAllETypes().stream()
-				.map(ENamedElement::getName).collect(Collectors.toList());
-		Collections.sort(types);
+		List<String> types = EcoreModelState.getResourceManager(modelState).getSortedETypeNames();
 		return List.of(new ReturnAttributeTypesAction(types));
 	}
 
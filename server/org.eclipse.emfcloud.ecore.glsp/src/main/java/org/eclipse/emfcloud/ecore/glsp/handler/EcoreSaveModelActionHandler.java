@@ -12,23 +12,35 @@ package org.eclipse.emfcloud.ecore.glsp.handler;
 
 import java.util.List;
 
+import org.apache.log4j.Logger;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
 import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
 import org.eclipse.glsp.server.actions.BasicActionHandler;
 import org.eclipse.glsp.server.actions.SaveModelAction;
 import org.eclipse.glsp.server.model.GModelState;
-import org.eclipse.glsp.server.protocol.GLSPServerException;
+import org.eclipse.glsp.server.utils.ServerStatusUtil;
+
+import com.google.inject.Inject;
 
 public class EcoreSaveModelActionHandler extends BasicActionHandler<SaveModelAction> {
 
+	private static Logger LOGGER = Logger.getLogger(EcoreSaveModelActionHandler.class);
+
+	@Inject
+	private ActionDispatcher actionDispatcher;
+
 	@Override
 	protected List<Action> executeAction(SaveModelAction action, GModelState modelState) {
 
 		EcoreModelServerAccess modelServerAccess = EcoreModelState.getModelServerAccess(modelState);
-		if (!modelServerAccess.save()) {
-			throw new GLSPServerException("Could not execute save action: " + action.toString());
-		}
+		modelServerAccess.saveAsync().whenComplete((success, error) -> {
+			if (error != null || !Boolean.TRUE.equals(success)) {
+				LOGGER.error("Could not execute save action: " + action.toString(), error);
+				actionDispatcher.dispatch(modelState.getClientId(), ServerStatusUtil.error("Could not save the model"));
+			}
+		});
 		return none();
 	}
 
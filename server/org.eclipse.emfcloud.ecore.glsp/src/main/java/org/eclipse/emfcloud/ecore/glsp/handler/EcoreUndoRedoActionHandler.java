@@ -11,6 +11,7 @@
 package org.eclipse.emfcloud.ecore.glsp.handler;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
@@ -30,20 +31,21 @@ public class EcoreUndoRedoActionHandler implements ActionHandler {
 	@Override
 	public List<Action> execute(Action action, GModelState modelState) {
 		EcoreModelServerAccess modelServerAccess = EcoreModelState.getModelServerAccess(modelState);
-		boolean success = executeOperation(action, modelServerAccess);
-		if (!success) {
-			LOG.warn("Cannot undo or redo");
-		}
+		executeOperation(action, modelServerAccess).whenComplete((success, error) -> {
+			if (error != null || !Boolean.TRUE.equals(success)) {
+				LOG.warn("Cannot undo or redo");
+			}
+		});
 		return List.of();
 	}
 
-	private boolean executeOperation(Action action, EcoreModelServerAccess modelServerAccess) {
+	private CompletableFuture<Boolean> executeOperation(Action action, EcoreModelServerAccess modelServerAccess) {
 		if (action instanceof UndoAction) {
-			return modelServerAccess.undo();
+			return modelServerAccess.undoAsync();
 		} else if (action instanceof RedoAction) {
-			return modelServerAccess.redo();
+			return modelServerAccess.redoAsync();
 		}
-		return false;
+		return CompletableFuture.completedFuture(false);
 	}
 
 	@Override
@@ -0,0 +1,105 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.handler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
+import org.eclipse.emfcloud.ecore.glsp.actions.ViewportChangedAction;
+import org.eclipse.emfcloud.ecore.glsp.gmodel.GModelFactory;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.graph.GBounds;
+import org.eclipse.glsp.graph.GModelElement;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.eclipse.glsp.server.actions.Action;
+import org.eclipse.glsp.server.actions.BasicActionHandler;
+import org.eclipse.glsp.server.features.core.model.ModelSubmissionHandler;
+import org.eclipse.glsp.server.model.GModelState;
+
+import com.google.inject.Inject;
+
+/**
+ * Stores the viewport reported by the client and regenerates the nodes of all classifiers that entered or left it,
+ * all other elements of the GModel are kept.
+ */
+public class ViewportChangedActionHandler extends BasicActionHandler<ViewportChangedAction> {
+
+	private static Logger LOGGER = Logger.getLogger(ViewportChangedActionHandler.class);
+
+	@Inject
+	private ModelSubmissionHandler submissionHandler;
+
+	@Override
+	protected List<Action> executeAction(ViewportChangedAction action, GModelState graphicalModelState) {
+		EcoreModelState modelState = EcoreModelState.getModelState(graphicalModelState);
+
+		synchronized (submissionHandler.getModelLock()) {
+			if (modelState.getEditorContext() == null || modelState.getRoot() == null) {
+				// no model loaded yet, the viewport is applied when the model is created
+				modelState.setViewport(toViewport(action));
+				return none();
+			}
+			EcoreFacade ecoreFacade = modelState.getEcoreFacade();
+			GModelFactory gModelFactory = modelState.getEditorContext().getGModelFactory();
+			EPackage ePackage = ecoreFacade.getEPackage();
+
+			Optional<GBounds> oldViewport = modelState.getViewport();
+			GBounds newViewport = toViewport(action);
+			// only classifiers within one of the viewports can change, unless the viewport mode is switched
+			Collection<EClassifier> candidates = oldViewport.isPresent() && newViewport != null
+					? findClassifiers(modelState.getIndex(), ePackage, oldViewport.get(), newViewport)
+					: ePackage.getEClassifiers();
+			Set<EClassifier> visibleBefore = candidates.stream() //
+					.filter(gModelFactory::isInViewport) //
+					.collect(Collectors.toSet());
+			modelState.setViewport(newViewport);
+			List<EClassifier> changedClassifiers = candidates.stream() //
+					.filter(classifier -> gModelFactory.isInViewport(classifier) != visibleBefore.contains(classifier))
+					.collect(Collectors.toList());
+			if (changedClassifiers.isEmpty()) {
+				return none();
+			}
+
+			LOGGER.debug(String.format("Viewport of client %s changed, regenerating %d classifiers",
+					modelState.getClientId(), changedClassifiers.size()));
+			List<GModelElement> createdElements = gModelFactory.update(ePackage, changedClassifiers);
+			ecoreFacade.initialize(ecoreFacade.getDiagram(), createdElements);
+			modelState.markGModelUpToDate();
+			return submissionHandler.submitModel(modelState);
+		}
+	}
+
+	private static List<EClassifier> findClassifiers(EcoreModelIndex index, EPackage ePackage, GBounds... regions) {
+		return Stream.of(regions) //
+				.flatMap(region -> index.findShapes(region).stream()) //
+				.map(shape -> shape.getSemanticElement().getResolvedElement()) //
+				.filter(EClassifier.class::isInstance) //
+				.map(EClassifier.class::cast) //
+				.filter(classifier -> classifier.getEPackage() == ePackage) //
+				.distinct() //
+				.collect(Collectors.toList());
+	}
+
+	private static GBounds toViewport(ViewportChangedAction action) {
+		return action.isEmpty() ? null
+				: GraphUtil.bounds(action.getX(), action.getY(), action.getWidth(), action.getHeight());
+	}
+
+}
@@ -35,6 +35,11 @@ public class EcoreModelFactory implements GModelFactory {
 			return;
 		}
 
+		if (modelState.consumeGModelUpToDate() && modelState.getRoot() != null) {
+			// the GModel has already been (re-)built while updating the source models
+			return;
+		}
+
 		Diagram diagram = ecoreFacade.getDiagram();
 		GModelRoot gmodelRoot = EcoreModelState.getEditorContext(modelState).getGModelFactory()
 				.create(ecoreFacade.getEPackage());
@@ -10,10 +10,18 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EAttribute;
@@ -32,7 +40,6 @@ import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.emf.ecore.util.EcoreUtil.UsageCrossReferencer;
 import org.eclipse.emf.edit.command.AddCommand;
 import org.eclipse.emf.edit.command.RemoveCommand;
 import org.eclipse.emf.edit.command.SetCommand;
@@ -45,6 +52,9 @@ import org.eclipse.emfcloud.ecore.enotation.NotationElement;
 import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
 import org.eclipse.emfcloud.ecore.enotation.Shape;
 import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutResult;
+import org.eclipse.emfcloud.ecore.glsp.ResourceManager;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreDiagramResources;
 import org.eclipse.emfcloud.ecore.modelserver.EcoreModelServerClient;
 import org.eclipse.emfcloud.modelserver.client.ModelServerClientApi;
 import org.eclipse.emfcloud.modelserver.command.CCommand;
@@ -54,17 +64,21 @@ import org.eclipse.emfcloud.modelserver.edit.EMFCommandType;
 import org.eclipse.emfcloud.modelserver.edit.command.AddCommandContribution;
 import org.eclipse.emfcloud.modelserver.edit.command.RemoveCommandContribution;
 import org.eclipse.emfcloud.modelserver.edit.command.SetCommandContribution;
-import org.eclipse.glsp.graph.GEdge;
-import org.eclipse.glsp.graph.GModelElement;
-import org.eclipse.glsp.graph.GNode;
+import org.eclipse.glsp.graph.GDimension;
 import org.eclipse.glsp.graph.GPoint;
 import org.eclipse.glsp.graph.GraphPackage;
+import org.eclipse.glsp.graph.util.GraphUtil;
 import org.eclipse.glsp.server.protocol.GLSPServerException;
 import org.eclipse.glsp.server.types.ElementAndBounds;
 import org.eclipse.glsp.server.types.ElementAndRoutingPoints;
 
 import com.google.common.base.Preconditions;
 
+/**
+ * Gives access to the model server for one client session. Every request is available in a blocking variant and an
+ * asynchronous <code>...Async</code> variant. The commands of the asynchronous variants are created eagerly on the
+ * calling thread, only the round trip to the model server is left to the returned {@link CompletableFuture}.
+ */
 public class EcoreModelServerAccess {
 
 	private static Logger LOGGER = Logger.getLogger(EcoreModelServerAccess.class);
@@ -77,6 +91,10 @@ public class EcoreModelServerAccess {
 
 	private EcoreModelServerClient modelServerClient;
 
+	private final NotationCommandStatistics commandStatistics = new NotationCommandStatistics();
+
+	private CompletableFuture<?> lastRequest = CompletableFuture.completedFuture(null);
+
 	public EcoreModelServerAccess(final String sourceURI, final EcoreModelServerClient modelServerClient) {
 		Preconditions.checkNotNull(modelServerClient);
 		this.baseSourceUri = sourceURI.substring(0, sourceURI.lastIndexOf('.'));
@@ -97,22 +115,74 @@ public class EcoreModelServerAccess {
 
 	public EObject getModel() {
 		try {
-			return modelServerClient.get(getSemanticURI(), FORMAT_XMI).thenApply(res -> res.body()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			LOGGER.error(e);
-			throw new GLSPServerException("Error during model loading", e);
+			return getModelAsync().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted during model loading", e);
+			throw new GLSPServerException("Interrupted during model loading", e);
+		} catch (ExecutionException e) {
+			LOGGER.error("Error during model loading", e.getCause());
+			throw new GLSPServerException("Error during model loading", e.getCause());
 		}
 	}
 
+	public CompletableFuture<EObject> getModelAsync() {
+		return modelServerClient.get(getSemanticURI(), FORMAT_XMI).thenApply(res -> res.body());
+	}
+
 	public EObject getNotationModel() {
 		try {
-			return modelServerClient.get(getNotationURI(), FORMAT_XMI).thenApply(res -> res.body()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			LOGGER.error("Error during model loading", e);
+			return getNotationModelAsync().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted during model loading", e);
+		} catch (ExecutionException e) {
+			LOGGER.error("Error during model loading", e.getCause());
 		}
 		return null;
 	}
 
+	public CompletableFuture<EObject> getNotationModelAsync() {
+		return modelServerClient.get(getNotationURI(), FORMAT_XMI).thenApply(res -> res.body());
+	}
+
+	public EcoreDiagramResources getDiagramResources() {
+		try {
+			return getDiagramResourcesAsync().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted during model loading", e);
+			throw new GLSPServerException("Interrupted during model loading", e);
+		} catch (ExecutionException e) {
+			LOGGER.error("Error during model loading", e.getCause());
+			throw new GLSPServerException("Error during model loading", e.getCause());
+		}
+	}
+
+	/**
+	 * Fetches the semantic and the notation model in a single round trip. If the model server does not offer the
+	 * combined endpoint, both models are requested concurrently instead and a missing notation model is created.
+	 */
+	public CompletableFuture<EcoreDiagramResources> getDiagramResourcesAsync() {
+		return modelServerClient.getEcoreDiagram(getSemanticURI(), FORMAT_XMI).thenApply(res -> res.body())
+				.handle((resources, error) -> {
+					if (error == null && resources != null) {
+						return CompletableFuture.completedFuture(resources);
+					}
+					LOGGER.debug("Combined diagram request failed, requesting the models separately", error);
+					return getDiagramResourcesSeparatelyAsync();
+				}).thenCompose(Function.identity());
+	}
+
+	protected CompletableFuture<EcoreDiagramResources> getDiagramResourcesSeparatelyAsync() {
+		CompletableFuture<EObject> semanticModel = getModelAsync();
+		CompletableFuture<EObject> notationModel = getNotationModelAsync().exceptionally(error -> null);
+		return semanticModel.thenCombine(notationModel, (semantic, notation) -> notation != null
+				? CompletableFuture.completedFuture(new EcoreDiagramResources(semantic, notation, false))
+				: createEcoreNotationAsync().thenApply(created -> new EcoreDiagramResources(semantic, created, true)))
+				.thenCompose(Function.identity());
+	}
+
 	private EPackage getEPackage(EcoreModelState modelState) {
 		EcoreFacade facade = EcoreModelState.getEcoreFacade(modelState);
 		return facade.getEPackage();
@@ -124,6 +194,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean addEClassifier(EcoreModelState modelState, EClassifier newEClassifier, Shape newShape) {
+		return join(addEClassifierAsync(modelState, newEClassifier, newShape));
+	}
+
+	public CompletableFuture<Boolean> addEClassifierAsync(EcoreModelState modelState, EClassifier newEClassifier,
+			Shape newShape) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -135,11 +210,16 @@ public class EcoreModelServerAccess {
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addEClassifier));
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addShape));
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean addEReference(EcoreModelState modelState, EReference newEReference, EClassifier source,
 			Edge newEdge) {
+		return join(addEReferenceAsync(modelState, newEReference, source, newEdge));
+	}
+
+	public CompletableFuture<Boolean> addEReferenceAsync(EcoreModelState modelState, EReference newEReference,
+			EClassifier source, Edge newEdge) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -151,12 +231,19 @@ public class EcoreModelServerAccess {
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addEReference));
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addEdge));
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean addEReferenceBidirectional(EcoreModelState modelState, EReference newEReference,
 			EReference newOpposite, EClassifier source, EClassifier target, Edge newEReferenceEdge,
 			Edge newOppositeEdge, boolean setOpposites) {
+		return join(addEReferenceBidirectionalAsync(modelState, newEReference, newOpposite, source, target,
+				newEReferenceEdge, newOppositeEdge, setOpposites));
+	}
+
+	public CompletableFuture<Boolean> addEReferenceBidirectionalAsync(EcoreModelState modelState,
+			EReference newEReference, EReference newOpposite, EClassifier source, EClassifier target,
+			Edge newEReferenceEdge, Edge newOppositeEdge, boolean setOpposites) {
 
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
@@ -185,11 +272,16 @@ public class EcoreModelServerAccess {
 			compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setOppositeOpposite));
 		}
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean addESuperType(EcoreModelState modelState, EClassifier newESuperType, EClassifier parent,
 			Edge newEdge) {
+		return join(addESuperTypeAsync(modelState, newESuperType, parent, newEdge));
+	}
+
+	public CompletableFuture<Boolean> addESuperTypeAsync(EcoreModelState modelState, EClassifier newESuperType,
+			EClassifier parent, Edge newEdge) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -201,7 +293,7 @@ public class EcoreModelServerAccess {
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addESuperType));
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addEdge));
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	private AddCommand createAddAttributeCommand(EcoreModelState modelState, EAttribute newEAttribute, EClass parent) {
@@ -209,12 +301,22 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean addEAttribute(EcoreModelState modelState, EAttribute newEAttribute, EClass parent) {
-		return this.edit(
+		return join(addEAttributeAsync(modelState, newEAttribute, parent));
+	}
+
+	public CompletableFuture<Boolean> addEAttributeAsync(EcoreModelState modelState, EAttribute newEAttribute,
+			EClass parent) {
+		return this.editAsync(
 				AddCommandContribution.clientCommand(createAddAttributeCommand(modelState, newEAttribute, parent)));
 	}
 
 	public boolean addEEnumLiteral(EcoreModelState modelState, EEnumLiteral newEEnumLiteral, EEnum parent) {
-		return this.add(modelState, parent, EcorePackage.Literals.EENUM__ELITERALS, newEEnumLiteral);
+		return join(addEEnumLiteralAsync(modelState, newEEnumLiteral, parent));
+	}
+
+	public CompletableFuture<Boolean> addEEnumLiteralAsync(EcoreModelState modelState, EEnumLiteral newEEnumLiteral,
+			EEnum parent) {
+		return this.addAsync(modelState, parent, EcorePackage.Literals.EENUM__ELITERALS, newEEnumLiteral);
 	}
 
 	private AddCommand createAddOperationCommand(EcoreModelState modelState, EOperation newEOperation, EClass parent) {
@@ -222,7 +324,12 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean addEOperation(EcoreModelState modelState, EOperation newEOperation, EClass parent) {
-		return this.edit(
+		return join(addEOperationAsync(modelState, newEOperation, parent));
+	}
+
+	public CompletableFuture<Boolean> addEOperationAsync(EcoreModelState modelState, EOperation newEOperation,
+			EClass parent) {
+		return this.editAsync(
 				AddCommandContribution.clientCommand(createAddOperationCommand(modelState, newEOperation, parent)));
 	}
 
@@ -233,16 +340,35 @@ public class EcoreModelServerAccess {
 				addObject);
 	}
 
-	private boolean add(EcoreModelState modelState, EObject owner, EReference feature, EObject addObject) {
-		return this.edit(AddCommandContribution.clientCommand(createAddCommand(modelState, owner, feature, addObject)));
+	private AddCommand createAddCommand(EcoreModelState modelState, EObject owner, EReference feature,
+			Collection<? extends EObject> addObjects) {
+		return (AddCommand) AddCommand.create(
+				EcoreModelState.getEditorContext(modelState).getResourceManager().getEditingDomain(), owner, feature,
+				addObjects);
+	}
+
+	private CompletableFuture<Boolean> addAsync(EcoreModelState modelState, EObject owner, EReference feature,
+			EObject addObject) {
+		return this.editAsync(
+				AddCommandContribution.clientCommand(createAddCommand(modelState, owner, feature, addObject)));
 	}
 
 	public boolean setOpposite(EcoreModelState modelState, EReference eReference, EReference opposite) {
-		return this.set(modelState, eReference, EcorePackage.Literals.EREFERENCE__EOPPOSITE, opposite);
+		return join(setOppositeAsync(modelState, eReference, opposite));
+	}
+
+	public CompletableFuture<Boolean> setOppositeAsync(EcoreModelState modelState, EReference eReference,
+			EReference opposite) {
+		return this.setAsync(modelState, eReference, EcorePackage.Literals.EREFERENCE__EOPPOSITE, opposite);
 	}
 
 	public boolean setInstanceName(EcoreModelState modelState, EClassifier eClassifier, String name) {
-		return this.set(modelState, eClassifier, EcorePackage.Literals.ECLASSIFIER__INSTANCE_CLASS_NAME, name);
+		return join(setInstanceNameAsync(modelState, eClassifier, name));
+	}
+
+	public CompletableFuture<Boolean> setInstanceNameAsync(EcoreModelState modelState, EClassifier eClassifier,
+			String name) {
+		return this.setAsync(modelState, eClassifier, EcorePackage.Literals.ECLASSIFIER__INSTANCE_CLASS_NAME, name);
 	}
 
 	private SemanticProxy createProxyFromOldElement(NotationElement oldElement, String oldName, String newName) {
@@ -252,6 +378,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean setName(EcoreModelState modelState, EClassifier eClassifier, String newName) {
+		return join(setNameAsync(modelState, eClassifier, newName));
+	}
+
+	public CompletableFuture<Boolean> setNameAsync(EcoreModelState modelState, EClassifier eClassifier,
+			String newName) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -261,7 +392,11 @@ public class EcoreModelServerAccess {
 		Shape shape = (Shape) getNotationElement(modelState, eClassifier);
 		RemoveCommand removeOldShape = createRemoveNotationElementCommand(modelState, shape);
 		Shape newShape = EnotationFactory.eINSTANCE.createShape();
-		newShape.setPosition(shape.getPosition());
+		// the shape stays in the local notation model until the command is replayed, so its points are copied
+		if (shape.getPosition() != null) {
+			newShape.setPosition(GraphUtil.copy(shape.getPosition()));
+		}
+		newShape.setCollapsed(shape.isCollapsed());
 		newShape.setSemanticElement(createProxyFromOldElement(shape, eClassifier.getName(), newName));
 		AddCommand addNewShape = createAddCommand(modelState, getDiagram(modelState),
 				EnotationPackage.Literals.DIAGRAM__ELEMENTS, newShape);
@@ -296,7 +431,7 @@ public class EcoreModelServerAccess {
 		}
 
 		// Update usages
-		Collection<Setting> usages = UsageCrossReferencer.find(eClassifier, eClassifier.eResource().getResourceSet());
+		Collection<Setting> usages = EcoreModelState.getResourceManager(modelState).findUsages(eClassifier);
 		if (!usages.isEmpty()) {
 			for (Setting setting : usages) {
 				EObject eObject = setting.getEObject();
@@ -325,7 +460,7 @@ public class EcoreModelServerAccess {
 			}
 		}
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	private SetCommand createSetAttributeTypeCommand(EcoreModelState modelState, EAttribute eAttribute,
@@ -334,6 +469,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean setAttribute(EcoreModelState modelState, EAttribute eAttribute, String newName, EDataType newType) {
+		return join(setAttributeAsync(modelState, eAttribute, newName, newType));
+	}
+
+	public CompletableFuture<Boolean> setAttributeAsync(EcoreModelState modelState, EAttribute eAttribute,
+			String newName, EDataType newType) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -356,13 +496,18 @@ public class EcoreModelServerAccess {
 		}
 
 		if (compoundCommand.getCommands().isEmpty()) {
-			return false;
+			return CompletableFuture.completedFuture(true);
 		}
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean setLiteralName(EcoreModelState modelState, EEnumLiteral eEnumLiteral, String newName) {
-		return this.set(modelState, eEnumLiteral, EcorePackage.Literals.ENAMED_ELEMENT__NAME, newName);
+		return join(setLiteralNameAsync(modelState, eEnumLiteral, newName));
+	}
+
+	public CompletableFuture<Boolean> setLiteralNameAsync(EcoreModelState modelState, EEnumLiteral eEnumLiteral,
+			String newName) {
+		return this.setAsync(modelState, eEnumLiteral, EcorePackage.Literals.ENAMED_ELEMENT__NAME, newName);
 	}
 
 	private SetCommand createSetOperationTypeCommand(EcoreModelState modelState, EOperation eOperation,
@@ -371,6 +516,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean setOperation(EcoreModelState modelState, EOperation eOperation, String newName, EDataType newType) {
+		return join(setOperationAsync(modelState, eOperation, newName, newType));
+	}
+
+	public CompletableFuture<Boolean> setOperationAsync(EcoreModelState modelState, EOperation eOperation,
+			String newName, EDataType newType) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -393,12 +543,17 @@ public class EcoreModelServerAccess {
 		}
 
 		if (compoundCommand.getCommands().isEmpty()) {
-			return false;
+			return CompletableFuture.completedFuture(true);
 		}
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean setEdgeName(EcoreModelState modelState, EReference eReference, String newName) {
+		return join(setEdgeNameAsync(modelState, eReference, newName));
+	}
+
+	public CompletableFuture<Boolean> setEdgeNameAsync(EcoreModelState modelState, EReference eReference,
+			String newName) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -408,7 +563,7 @@ public class EcoreModelServerAccess {
 		Edge edge = (Edge) getNotationElement(modelState, eReference);
 		RemoveCommand removeOldEdge = createRemoveNotationElementCommand(modelState, edge);
 		Edge newEdge = EnotationFactory.eINSTANCE.createEdge();
-		newEdge.getBendPoints().addAll(edge.getBendPoints());
+		newEdge.getBendPoints().addAll(EcoreUtil.copyAll(edge.getBendPoints()));
 		newEdge.setSemanticElement(createProxyFromOldElement(edge, eReference.getName(), newName));
 		newEdge.setSource(edge.getSource());
 		newEdge.setTarget(edge.getTarget());
@@ -419,18 +574,28 @@ public class EcoreModelServerAccess {
 		compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeOldEdge));
 		compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addNewEdge));
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean setLowerMultiplicity(EcoreModelState modelState, EStructuralFeature eStructuralFeature,
 			int multiplicity) {
-		return this.set(modelState, eStructuralFeature, EcorePackage.Literals.ETYPED_ELEMENT__LOWER_BOUND,
+		return join(setLowerMultiplicityAsync(modelState, eStructuralFeature, multiplicity));
+	}
+
+	public CompletableFuture<Boolean> setLowerMultiplicityAsync(EcoreModelState modelState,
+			EStructuralFeature eStructuralFeature, int multiplicity) {
+		return this.setAsync(modelState, eStructuralFeature, EcorePackage.Literals.ETYPED_ELEMENT__LOWER_BOUND,
 				multiplicity);
 	}
 
 	public boolean setUpperMultiplicity(EcoreModelState modelState, EStructuralFeature eStructuralFeature,
 			int multiplicity) {
-		return this.set(modelState, eStructuralFeature, EcorePackage.Literals.ETYPED_ELEMENT__UPPER_BOUND,
+		return join(setUpperMultiplicityAsync(modelState, eStructuralFeature, multiplicity));
+	}
+
+	public CompletableFuture<Boolean> setUpperMultiplicityAsync(EcoreModelState modelState,
+			EStructuralFeature eStructuralFeature, int multiplicity) {
+		return this.setAsync(modelState, eStructuralFeature, EcorePackage.Literals.ETYPED_ELEMENT__UPPER_BOUND,
 				multiplicity);
 	}
 
@@ -441,119 +606,199 @@ public class EcoreModelServerAccess {
 		return (SetCommand) SetCommand.create(editingDomain, owner, feature, setObject);
 	}
 
-	private boolean set(EcoreModelState modelState, EObject owner, EStructuralFeature feature, Object setObject) {
-		return this.edit(SetCommandContribution.clientCommand(createSetCommand(modelState, owner, feature, setObject)));
+	private CompletableFuture<Boolean> setAsync(EcoreModelState modelState, EObject owner, EStructuralFeature feature,
+			Object setObject) {
+		return this.editAsync(
+				SetCommandContribution.clientCommand(createSetCommand(modelState, owner, feature, setObject)));
 	}
 
 	public boolean setBounds(EcoreModelState modelState, Map<Shape, ElementAndBounds> changeBoundsMap) {
+		return join(setBoundsAsync(modelState, changeBoundsMap));
+	}
+
+	public CompletableFuture<Boolean> setBoundsAsync(EcoreModelState modelState,
+			Map<Shape, ElementAndBounds> changeBoundsMap) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
-		changeBoundsMap.forEach((Shape shape, ElementAndBounds newBounds) -> {
-
-			if (newBounds.getNewPosition() != null) {
-				SetCommand setXPosition = createSetCommand(modelState, shape.getPosition(),
-						GraphPackage.Literals.GPOINT__X, newBounds.getNewPosition().getX());
-				SetCommand setYPosition = createSetCommand(modelState, shape.getPosition(),
-						GraphPackage.Literals.GPOINT__Y, newBounds.getNewPosition().getY());
-				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setXPosition));
-				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setYPosition));
-			}
+		changeBoundsMap.forEach((Shape shape, ElementAndBounds newBounds) -> addBoundsCommands(modelState,
+				compoundCommand, shape, newBounds.getNewPosition(), newBounds.getNewSize()));
+		if (compoundCommand.getCommands().isEmpty()) {
+			return CompletableFuture.completedFuture(true);
+		}
+		return this.editAsync(compoundCommand);
+	}
 
-			if (newBounds.getNewSize() != null) {
-				SetCommand setHeight = createSetCommand(modelState, shape.getSize(),
-						GraphPackage.Literals.GBOUNDS__HEIGHT, newBounds.getNewSize().getHeight());
-				SetCommand setWidth = createSetCommand(modelState, shape.getSize(),
-						GraphPackage.Literals.GBOUNDS__WIDTH, newBounds.getNewSize().getWidth());
-				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setHeight));
-				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setWidth));
-			}
+	public boolean setCollapsed(EcoreModelState modelState, Collection<Shape> shapes, boolean collapsed) {
+		return join(setCollapsedAsync(modelState, shapes, collapsed));
+	}
 
+	/**
+	 * Collapses or expands the given shapes, shapes that already have the requested state are skipped.
+	 */
+	public CompletableFuture<Boolean> setCollapsedAsync(EcoreModelState modelState, Collection<Shape> shapes,
+			boolean collapsed) {
+		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
+		compoundCommand.setType(EMFCommandType.COMPOUND);
+		shapes.stream().filter(shape -> shape.isCollapsed() != collapsed).forEach(shape -> {
+			SetCommand setCollapsed = createSetCommand(modelState, shape, EnotationPackage.Literals.SHAPE__COLLAPSED,
+					collapsed);
+			compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setCollapsed));
 		});
 		if (compoundCommand.getCommands().isEmpty()) {
-			return false;
+			return CompletableFuture.completedFuture(true);
 		}
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
 	public boolean setBendPoints(EcoreModelState modelState, Map<Edge, ElementAndRoutingPoints> changeBendPointsMap) {
+		return join(setBendPointsAsync(modelState, changeBendPointsMap));
+	}
+
+	public CompletableFuture<Boolean> setBendPointsAsync(EcoreModelState modelState,
+			Map<Edge, ElementAndRoutingPoints> changeBendPointsMap) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
-		changeBendPointsMap.forEach((Edge edge, ElementAndRoutingPoints newRoutingPoints) -> {
-			// clear old bend points first if any
-			if (!edge.getBendPoints().isEmpty()) {
-				RemoveCommand removeBendPoints = createRemoveCommand(modelState, edge,
-						EnotationPackage.Literals.EDGE__BEND_POINTS, edge.getBendPoints());
-				compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeBendPoints));
-			}
-
-			// add all new points
-			newRoutingPoints.getNewRoutingPoints().forEach((GPoint newPoint) -> {
-				AddCommand addBendPoint = createAddCommand(modelState, edge,
-						EnotationPackage.Literals.EDGE__BEND_POINTS, newPoint);
-				compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addBendPoint));
-			});
-
-		});
+		changeBendPointsMap.forEach((Edge edge, ElementAndRoutingPoints newRoutingPoints) -> addBendPointCommands(
+				modelState, compoundCommand, edge, newRoutingPoints.getNewRoutingPoints()));
 		if (compoundCommand.getCommands().isEmpty()) {
-			return false;
+			return CompletableFuture.completedFuture(true);
 		}
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
-	private CCompoundCommand createLayoutCommand(EcoreModelState modelState, GModelElement layoutedRoot) {
+	/**
+	 * Creates the commands that apply the bounds and routing points of the layout result to the notation model.
+	 */
+	private CCompoundCommand createLayoutCommand(EcoreModelState modelState, EcoreLayoutResult layoutResult) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
-		layoutedRoot.getChildren().forEach(gModelElement -> {
-			if (gModelElement instanceof GNode) {
-				modelState.getIndex().getNotation(gModelElement.getId(), Shape.class).ifPresent(shape -> {
-					if (((GNode) gModelElement).getPosition() != null) {
-						SetCommand setXPosition = createSetCommand(modelState, shape.getPosition(),
-								GraphPackage.Literals.GPOINT__X, ((GNode) gModelElement).getPosition().getX());
-						SetCommand setYPosition = createSetCommand(modelState, shape.getPosition(),
-								GraphPackage.Literals.GPOINT__Y, ((GNode) gModelElement).getPosition().getY());
-						compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setXPosition));
-						compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setYPosition));
-					}
+		layoutResult.getPositions().forEach((id, position) -> {
+			modelState.getIndex().getNotation(id, Shape.class).ifPresent(shape -> {
+				addBoundsCommands(modelState, compoundCommand, shape, position, layoutResult.getSizes().get(id));
+			});
+		});
+		layoutResult.getRoutingPoints().forEach((id, routingPoints) -> {
+			modelState.getIndex().getNotation(id, Edge.class).ifPresent(edge -> {
+				addBendPointCommands(modelState, compoundCommand, edge, routingPoints);
+			});
+		});
 
-					if (((GNode) gModelElement).getSize() != null) {
-						SetCommand setHeight = createSetCommand(modelState, shape.getSize(),
-								GraphPackage.Literals.GBOUNDS__HEIGHT, ((GNode) gModelElement).getSize().getHeight());
-						SetCommand setWidth = createSetCommand(modelState, shape.getSize(),
-								GraphPackage.Literals.GBOUNDS__WIDTH, ((GNode) gModelElement).getSize().getWidth());
-						compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setHeight));
-						compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setWidth));
-					}
-				});
-
-			} else if (gModelElement instanceof GEdge) {
-				modelState.getIndex().getNotation(gModelElement.getId(), Edge.class).ifPresent(edge -> {
-					// clear existing bend points if any
-					if (!edge.getBendPoints().isEmpty()) {
-						RemoveCommand removeBendPoints = createRemoveCommand(modelState, edge,
-								EnotationPackage.Literals.EDGE__BEND_POINTS, edge.getBendPoints());
-						compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeBendPoints));
-					}
-					// add all new points
-					for (GPoint newPoint : ((GEdge) gModelElement).getRoutingPoints()) {
-						AddCommand addBendPoint = createAddCommand(modelState, edge,
-								EnotationPackage.Literals.EDGE__BEND_POINTS, EcoreUtil.copy(newPoint));
-						compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addBendPoint));
-					}
-				});
+		return compoundCommand;
+	}
 
+	/**
+	 * Adds the commands that move and resize the given shape. Coordinates that already have the new value are
+	 * skipped, a missing position or size of the shape is set as a whole.
+	 */
+	private void addBoundsCommands(EcoreModelState modelState, CCompoundCommand compoundCommand, Shape shape,
+			GPoint newPosition, GDimension newSize) {
+		if (newPosition != null) {
+			if (shape.getPosition() == null) {
+				SetCommand setPosition = createSetCommand(modelState, shape, EnotationPackage.Literals.SHAPE__POSITION,
+						GraphUtil.copy(newPosition));
+				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setPosition));
+				commandStatistics.record(1, 2);
+			} else {
+				addSetCommandIfChanged(modelState, compoundCommand, shape.getPosition(),
+						GraphPackage.Literals.GPOINT__X, shape.getPosition().getX(), newPosition.getX());
+				addSetCommandIfChanged(modelState, compoundCommand, shape.getPosition(),
+						GraphPackage.Literals.GPOINT__Y, shape.getPosition().getY(), newPosition.getY());
 			}
-		});
+		}
 
-		return compoundCommand;
+		if (newSize != null) {
+			if (shape.getSize() == null) {
+				SetCommand setSize = createSetCommand(modelState, shape, EnotationPackage.Literals.SHAPE__SIZE,
+						GraphUtil.copy(newSize));
+				compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setSize));
+				commandStatistics.record(1, 2);
+			} else {
+				addSetCommandIfChanged(modelState, compoundCommand, shape.getSize(),
+						GraphPackage.Literals.GBOUNDS__HEIGHT, shape.getSize().getHeight(), newSize.getHeight());
+				addSetCommandIfChanged(modelState, compoundCommand, shape.getSize(),
+						GraphPackage.Literals.GBOUNDS__WIDTH, shape.getSize().getWidth(), newSize.getWidth());
+			}
+		}
 	}
 
-	public boolean setLayout(EcoreModelState modelState, GModelElement layoutedRoot) {
-		CCompoundCommand compoundCommand = createLayoutCommand(modelState, layoutedRoot);
-		if (compoundCommand.getCommands().isEmpty()) {
+	private void addSetCommandIfChanged(EcoreModelState modelState, CCompoundCommand compoundCommand, EObject owner,
+			EStructuralFeature feature, double oldValue, double newValue) {
+		if (Double.compare(oldValue, newValue) != 0) {
+			SetCommand setCommand = createSetCommand(modelState, owner, feature, newValue);
+			compoundCommand.getCommands().add(SetCommandContribution.clientCommand(setCommand));
+			commandStatistics.record(1, 1);
+		} else {
+			commandStatistics.record(0, 1);
+		}
+	}
+
+	/**
+	 * Adds the commands that replace the bend points of the given edge: at most one remove of all old points and one
+	 * add of all new points. Nothing is added if the edge already has the new bend points. A set of the whole
+	 * containment list is not used, as the command codec of the model server is not known to replay a many-valued
+	 * set.
+	 */
+	private void addBendPointCommands(EcoreModelState modelState, CCompoundCommand compoundCommand, Edge edge,
+			List<GPoint> newPoints) {
+		List<GPoint> oldPoints = edge.getBendPoints();
+		// one remove plus one add per point would be sent without the comparison
+		int naiveCommands = (oldPoints.isEmpty() ? 0 : 1) + newPoints.size();
+		if (samePoints(oldPoints, newPoints)) {
+			commandStatistics.record(0, naiveCommands);
+			return;
+		}
+		int emittedCommands = 0;
+		if (!oldPoints.isEmpty()) {
+			RemoveCommand removeBendPoints = createRemoveCommand(modelState, edge,
+					EnotationPackage.Literals.EDGE__BEND_POINTS, new ArrayList<>(oldPoints));
+			compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeBendPoints));
+			emittedCommands++;
+		}
+		if (!newPoints.isEmpty()) {
+			List<GPoint> points = newPoints.stream().map(GraphUtil::copy).collect(Collectors.toList());
+			AddCommand addBendPoints = createAddCommand(modelState, edge, EnotationPackage.Literals.EDGE__BEND_POINTS,
+					points);
+			compoundCommand.getCommands().add(AddCommandContribution.clientCommand(addBendPoints));
+			emittedCommands++;
+		}
+		commandStatistics.record(emittedCommands, naiveCommands);
+	}
+
+	private boolean samePoints(List<GPoint> oldPoints, List<GPoint> newPoints) {
+		if (oldPoints.size() != newPoints.size()) {
 			return false;
 		}
-		return this.edit(compoundCommand);
+		for (int i = 0; i < oldPoints.size(); i++) {
+			if (Double.compare(oldPoints.get(i).getX(), newPoints.get(i).getX()) != 0
+					|| Double.compare(oldPoints.get(i).getY(), newPoints.get(i).getY()) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the statistics of the bounds and bend point commands created by this instance
+	 */
+	public NotationCommandStatistics getCommandStatistics() {
+		return commandStatistics;
+	}
+
+	public boolean setLayout(EcoreModelState modelState, EcoreLayoutResult layoutResult) {
+		return join(setLayoutAsync(modelState, layoutResult));
+	}
+
+	public CompletableFuture<Boolean> setLayoutAsync(EcoreModelState modelState, EcoreLayoutResult layoutResult) {
+		long eliminatedBefore = commandStatistics.getEliminatedCommands();
+		CCompoundCommand compoundCommand = createLayoutCommand(modelState, layoutResult);
+		LOGGER.debug(String.format("Layout command with %d sub-commands, %d unchanged sub-commands eliminated (%s)",
+				compoundCommand.getCommands().size(), commandStatistics.getEliminatedCommands() - eliminatedBefore,
+				commandStatistics));
+		if (compoundCommand.getCommands().isEmpty()) {
+			return CompletableFuture.completedFuture(true);
+		}
+		return this.editAsync(compoundCommand);
 	}
 
 	private RemoveCommand createRemoveCommand(EcoreModelState modelState, EObject owner, EStructuralFeature feature,
@@ -586,11 +831,19 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean removeEAttribute(EcoreModelState modelState, EAttribute eAttribute) {
-		return this.edit(
+		return join(removeEAttributeAsync(modelState, eAttribute));
+	}
+
+	public CompletableFuture<Boolean> removeEAttributeAsync(EcoreModelState modelState, EAttribute eAttribute) {
+		return this.editAsync(
 				RemoveCommandContribution.clientCommand(createRemoveEStructuralFeatureCommand(modelState, eAttribute)));
 	}
 
 	public boolean removeEReference(EcoreModelState modelState, EReference eReference) {
+		return join(removeEReferenceAsync(modelState, eReference));
+	}
+
+	public CompletableFuture<Boolean> removeEReferenceAsync(EcoreModelState modelState, EReference eReference) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -611,12 +864,7 @@ public class EcoreModelServerAccess {
 			compoundCommand.getCommands()
 					.add(RemoveCommandContribution.clientCommand(removeOppositeNotationElementCommand));
 		}
-		return this.edit(compoundCommand);
-	}
-
-	private RemoveCommand createRemoveEClassifierCommand(EcoreModelState modelState, EClassifier eClassifier) {
-		return createRemoveCommand(modelState, eClassifier.getEPackage(), EcorePackage.Literals.EPACKAGE__ECLASSIFIERS,
-				eClassifier);
+		return this.editAsync(compoundCommand);
 	}
 
 	private RemoveCommand createRemoveNotationElementCommand(EcoreModelState modelState,
@@ -626,76 +874,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean removeEClassifier(EcoreModelState modelState, EClassifier eClassifier) {
-		RemoveCommand removeEClassifierCommand = createRemoveEClassifierCommand(modelState, eClassifier);
-
-		Collection<Setting> usages = UsageCrossReferencer.find(eClassifier, eClassifier.eResource().getResourceSet());
-		if (!usages.isEmpty()) {
-			CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
-			compoundCommand.setType(EMFCommandType.COMPOUND);
-
-			compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeEClassifierCommand));
-			RemoveCommand removeNotationElementCommand = createRemoveNotationElementCommand(modelState,
-					getNotationElement(modelState, eClassifier));
-			compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeNotationElementCommand));
-
-			// Remove notation elements for EStructuralFeatures and ESuperTypes
-			if (eClassifier instanceof EClass) {
-				EClass eClass = ((EClass) eClassifier);
-				for (EStructuralFeature eStructuralFeature : eClass.getEStructuralFeatures()) {
-					NotationElement notationElement = getNotationElement(modelState, eStructuralFeature);
-					if (notationElement != null) {
-						RemoveCommand removeNotationCommand = createRemoveNotationElementCommand(modelState,
-								notationElement);
-						compoundCommand.getCommands()
-								.add(RemoveCommandContribution.clientCommand(removeNotationCommand));
-					}
-				}
-				for (EClass eSuperType : eClass.getESuperTypes()) {
-					NotationElement notationElement = getNotationElement(modelState, eClass, eSuperType);
-					if (notationElement != null) {
-						RemoveCommand removeNotationCommand = createRemoveNotationElementCommand(modelState,
-								notationElement);
-						compoundCommand.getCommands()
-								.add(RemoveCommandContribution.clientCommand(removeNotationCommand));
-					}
-				}
-			}
+		return join(removeEClassifierAsync(modelState, eClassifier));
+	}
 
-			// Remove usages
-			for (Setting setting : usages) {
-				EObject eObject = setting.getEObject();
-				if (setting.getEStructuralFeature().isChangeable() && eObject.eContainer() instanceof EClass) {
-					if (eObject instanceof EStructuralFeature) {
-						RemoveCommand removeCommand = createRemoveEStructuralFeatureCommand(modelState,
-								(EStructuralFeature) eObject);
-						compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeCommand));
-						NotationElement notationElement = getNotationElement(modelState, eObject);
-						if (notationElement != null) {
-							RemoveCommand removeNotationCommand = createRemoveNotationElementCommand(modelState,
-									notationElement);
-							compoundCommand.getCommands()
-									.add(RemoveCommandContribution.clientCommand(removeNotationCommand));
-						}
-					} else if (eObject instanceof EGenericType
-							&& ((EGenericType) eObject).getEClassifier() instanceof EClass) {
-						EClass eClass = (EClass) eObject.eContainer();
-						EClass eSuperType = (EClass) ((EGenericType) eObject).getEClassifier();
-						RemoveCommand removeCommand = createRemoveESuperTypeCommand(modelState, eClass, eSuperType);
-						compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeCommand));
-						NotationElement notationElement = getNotationElement(modelState, eClass, eSuperType);
-						if (notationElement != null) {
-							RemoveCommand removeNotationCommand = createRemoveNotationElementCommand(modelState,
-									notationElement);
-							compoundCommand.getCommands()
-									.add(RemoveCommandContribution.clientCommand(removeNotationCommand));
-						}
-					}
-				}
-			}
-			return this.edit(compoundCommand);
-		} else {
-			return this.edit(RemoveCommandContribution.clientCommand(removeEClassifierCommand));
-		}
+	public CompletableFuture<Boolean> removeEClassifierAsync(EcoreModelState modelState, EClassifier eClassifier) {
+		return removeElementsAsync(modelState, List.of(eClassifier));
 	}
 
 	private RemoveCommand createRemoveEEnumLiteralCommand(EcoreModelState modelState, EEnumLiteral eEnumLiteral) {
@@ -704,7 +887,11 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean removeEEnumLiteral(EcoreModelState modelState, EEnumLiteral eEnumLiteral) {
-		return this.edit(
+		return join(removeEEnumLiteralAsync(modelState, eEnumLiteral));
+	}
+
+	public CompletableFuture<Boolean> removeEEnumLiteralAsync(EcoreModelState modelState, EEnumLiteral eEnumLiteral) {
+		return this.editAsync(
 				RemoveCommandContribution.clientCommand(createRemoveEEnumLiteralCommand(modelState, eEnumLiteral)));
 	}
 
@@ -714,8 +901,12 @@ public class EcoreModelServerAccess {
 	}
 
 	public boolean removeEOperation(EcoreModelState modelState, EOperation eOperation) {
-		return this
-				.edit(RemoveCommandContribution.clientCommand(createRemoveEOperationCommand(modelState, eOperation)));
+		return join(removeEOperationAsync(modelState, eOperation));
+	}
+
+	public CompletableFuture<Boolean> removeEOperationAsync(EcoreModelState modelState, EOperation eOperation) {
+		return this.editAsync(
+				RemoveCommandContribution.clientCommand(createRemoveEOperationCommand(modelState, eOperation)));
 	}
 
 	private RemoveCommand createRemoveESuperTypeCommand(EcoreModelState modelState, EClass eClass, EClass eSuperType) {
@@ -733,6 +924,11 @@ public class EcoreModelServerAccess {
 
 	public boolean removeESuperType(EcoreModelState modelState, EClass eClass, EClass eSuperType,
 			String inheritanceEdgeId) {
+		return join(removeESuperTypeAsync(modelState, eClass, eSuperType, inheritanceEdgeId));
+	}
+
+	public CompletableFuture<Boolean> removeESuperTypeAsync(EcoreModelState modelState, EClass eClass,
+			EClass eSuperType, String inheritanceEdgeId) {
 		CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
 		compoundCommand.setType(EMFCommandType.COMPOUND);
 
@@ -743,49 +939,221 @@ public class EcoreModelServerAccess {
 				getNotationElement(modelState, inheritanceEdgeId));
 		compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(removeNotationElementCommand));
 
-		return this.edit(compoundCommand);
+		return this.editAsync(compoundCommand);
 	}
 
-	private boolean edit(CCommand command) {
-		try {
-			return this.modelServerClient.edit(getSemanticURI(), command, FORMAT_XMI).thenApply(res -> res.body())
-					.get();
-		} catch (InterruptedException | ExecutionException e) {
-			return false;
+	public boolean removeElements(EcoreModelState modelState, Collection<? extends EObject> elements) {
+		return join(removeElementsAsync(modelState, elements));
+	}
+
+	/**
+	 * Removes the given semantic elements, their notation elements and all usages of removed classifiers with a
+	 * single compound command, so the removal is one undo step and one model update. Supported are classifiers,
+	 * structural features, operations, enum literals and generic super types, which stand for inheritance edges.
+	 *
+	 * @return <code>true</code> without contacting the model server if there is nothing to remove
+	 */
+	public CompletableFuture<Boolean> removeElementsAsync(EcoreModelState modelState,
+			Collection<? extends EObject> elements) {
+		RemoveCommandBatch batch = new RemoveCommandBatch(modelState);
+		elements.forEach(batch::remove);
+		CCompoundCommand compoundCommand = batch.createCommand();
+		if (compoundCommand.getCommands().isEmpty()) {
+			return CompletableFuture.completedFuture(true);
 		}
+		LOGGER.debug(String.format("Removing %d elements with %d sub-commands", elements.size(),
+				compoundCommand.getCommands().size()));
+		return this.editAsync(compoundCommand);
+	}
+
+	public CompletableFuture<Boolean> editAsync(CCommand command) {
+		return enqueue(
+				() -> this.modelServerClient.edit(getSemanticURI(), command, FORMAT_XMI).thenApply(res -> res.body()));
+	}
+
+	/**
+	 * Sends the given request once all previously enqueued requests of this access completed, so that edits, saves,
+	 * undos and redos reach the model server in the order they were issued. A failed request does not block the
+	 * requests enqueued after it.
+	 */
+	protected synchronized <T> CompletableFuture<T> enqueue(Supplier<CompletableFuture<T>> request) {
+		CompletableFuture<T> result = lastRequest.handle((r, e) -> null).thenCompose(ignored -> request.get());
+		lastRequest = result;
+		return result;
 	}
 
 	public boolean save() {
-		try {
-			return this.modelServerClient.save(getSemanticURI()).thenApply(res -> res.body()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			return false;
-		}
+		return join(saveAsync());
+	}
+
+	public CompletableFuture<Boolean> saveAsync() {
+		return enqueue(() -> this.modelServerClient.save(getSemanticURI()).thenApply(res -> res.body()));
 	}
 
 	public boolean undo() {
-		try {
-			return this.modelServerClient.undo(getSemanticURI()).thenApply(res -> res.body()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			return false;
-		}
+		return join(undoAsync());
+	}
+
+	public CompletableFuture<Boolean> undoAsync() {
+		return enqueue(() -> this.modelServerClient.undo(getSemanticURI()).thenApply(res -> res.body()));
 	}
 
 	public boolean redo() {
+		return join(redoAsync());
+	}
+
+	public CompletableFuture<Boolean> redoAsync() {
+		return enqueue(() -> this.modelServerClient.redo(getSemanticURI()).thenApply(res -> res.body()));
+	}
+
+	public EObject createEcoreNotation() {
 		try {
-			return this.modelServerClient.redo(getSemanticURI()).thenApply(res -> res.body()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			return false;
+			return createEcoreNotationAsync().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted during enotation creation", e);
+			throw new GLSPServerException("Interrupted during enotation creation", e);
+		} catch (ExecutionException e) {
+			LOGGER.error("Error during enotation creation", e.getCause());
+			throw new GLSPServerException("Error during enotation creation", e.getCause());
 		}
 	}
 
-	public EObject createEcoreNotation() {
+	public CompletableFuture<EObject> createEcoreNotationAsync() {
+		return this.modelServerClient.createEcoreNotation(getSemanticURI(), FORMAT_XMI).thenApply(res -> res.body());
+	}
+
+	/**
+	 * Collects the elements of a multi-element removal. Elements that are reached more than once, e.g. a feature
+	 * that uses two removed classifiers or a removed reference and its removed opposite, are removed once, and
+	 * elements contained in another removed element are removed implicitly with their container.
+	 */
+	private class RemoveCommandBatch {
+
+		private final EcoreModelState modelState;
+		private final Set<EObject> semanticElements = new LinkedHashSet<>();
+		private final Set<NotationElement> notationElements = new LinkedHashSet<>();
+		private final Set<EClassifier> eClassifiers = new LinkedHashSet<>();
+
+		RemoveCommandBatch(EcoreModelState modelState) {
+			this.modelState = modelState;
+		}
+
+		void remove(EObject element) {
+			if (element instanceof EClassifier) {
+				removeEClassifier((EClassifier) element);
+			} else if (element instanceof EReference) {
+				removeEStructuralFeature((EReference) element);
+				if (((EReference) element).getEOpposite() != null) {
+					removeEStructuralFeature(((EReference) element).getEOpposite());
+				}
+			} else if (element instanceof EGenericType && element.eContainer() instanceof EClass) {
+				removeGenericSuperType((EGenericType) element);
+			} else if (element instanceof EStructuralFeature || element instanceof EOperation
+					|| element instanceof EEnumLiteral) {
+				semanticElements.add(element);
+				addNotationElement(getNotationElement(modelState, element));
+			}
+		}
+
+		private void removeEClassifier(EClassifier eClassifier) {
+			if (!eClassifiers.add(eClassifier)) {
+				return;
+			}
+			semanticElements.add(eClassifier);
+			addNotationElement(getNotationElement(modelState, eClassifier));
+			// the features and super types are removed with the class, but their notation elements are not
+			if (eClassifier instanceof EClass) {
+				EClass eClass = (EClass) eClassifier;
+				for (EStructuralFeature eStructuralFeature : eClass.getEStructuralFeatures()) {
+					addNotationElement(getNotationElement(modelState, eStructuralFeature));
+				}
+				for (EClass eSuperType : eClass.getESuperTypes()) {
+					addNotationElement(getNotationElement(modelState, eClass, eSuperType));
+				}
+			}
+		}
+
+		private void removeEStructuralFeature(EStructuralFeature eStructuralFeature) {
+			semanticElements.add(eStructuralFeature);
+			addNotationElement(getNotationElement(modelState, eStructuralFeature));
+		}
+
+		private void removeGenericSuperType(EGenericType eGenericType) {
+			semanticElements.add(eGenericType);
+			if (eGenericType.getEClassifier() instanceof EClass) {
+				addNotationElement(getNotationElement(modelState, (EClass) eGenericType.eContainer(),
+						(EClass) eGenericType.getEClassifier()));
+			}
+		}
+
+		private void addNotationElement(NotationElement notationElement) {
+			if (notationElement != null) {
+				notationElements.add(notationElement);
+			}
+		}
+
+		private void removeUsages() {
+			ResourceManager resourceManager = EcoreModelState.getResourceManager(modelState);
+			for (EClassifier eClassifier : eClassifiers) {
+				for (Setting setting : resourceManager.findUsages(eClassifier)) {
+					EObject eObject = setting.getEObject();
+					if (!setting.getEStructuralFeature().isChangeable() || !(eObject.eContainer() instanceof EClass)) {
+						continue;
+					}
+					if (eObject instanceof EStructuralFeature) {
+						removeEStructuralFeature((EStructuralFeature) eObject);
+					} else if (eObject instanceof EGenericType
+							&& ((EGenericType) eObject).getEClassifier() instanceof EClass) {
+						removeGenericSuperType((EGenericType) eObject);
+					}
+				}
+			}
+		}
+
+		CCompoundCommand createCommand() {
+			removeUsages();
+			CCompoundCommand compoundCommand = CCommandFactory.eINSTANCE.createCompoundCommand();
+			compoundCommand.setType(EMFCommandType.COMPOUND);
+
+			// one remove command per owner and feature, elements of removed containers are removed implicitly
+			Map<EObject, Map<EStructuralFeature, List<EObject>>> removals = new LinkedHashMap<>();
+			for (EObject element : semanticElements) {
+				EObject container = element.eContainer();
+				if (container == null || EcoreUtil.isAncestor(semanticElements, container)) {
+					continue;
+				}
+				removals.computeIfAbsent(container, owner -> new LinkedHashMap<>())
+						.computeIfAbsent(element.eContainmentFeature(), feature -> new ArrayList<>()).add(element);
+			}
+			removals.forEach((owner, features) -> features.forEach((feature, values) -> compoundCommand.getCommands()
+					.add(RemoveCommandContribution.clientCommand(createRemoveCommand(modelState, owner, feature,
+							values)))));
+
+			if (!notationElements.isEmpty()) {
+				compoundCommand.getCommands().add(RemoveCommandContribution.clientCommand(createRemoveCommand(
+						modelState, getDiagram(modelState), EnotationPackage.Literals.DIAGRAM__ELEMENTS,
+						new ArrayList<>(notationElements))));
+			}
+			return compoundCommand;
+		}
+
+	}
+
+	/**
+	 * Blocks until the given request is answered by the model server. A request that fails or is interrupted is
+	 * logged and reported as unsuccessful, the interrupt flag of the thread is restored.
+	 */
+	private boolean join(CompletableFuture<Boolean> result) {
 		try {
-			return this.modelServerClient.createEcoreNotation(getSemanticURI(), FORMAT_XMI).thenApply(res -> res.body())
-					.get();
-		} catch (InterruptedException | ExecutionException e) {
-			LOGGER.error(e);
-			throw new GLSPServerException("Error during enotation creation", e);
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Interrupted while waiting for the model server", e);
+			return false;
+		} catch (ExecutionException e) {
+			LOGGER.error("Request to the model server failed", e.getCause());
+			return false;
 		}
 	}
 
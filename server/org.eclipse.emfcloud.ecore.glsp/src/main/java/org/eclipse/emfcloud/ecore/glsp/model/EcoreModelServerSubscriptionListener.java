@@ -27,17 +27,45 @@ public class EcoreModelServerSubscriptionListener extends XmiToEObjectSubscripti
 	private ActionDispatcher actionDispatcher;
 	private EcoreModelState modelState;
 	protected final ModelSubmissionHandler submissionHandler;
+	protected final EcoreModelUpdateScheduler updateScheduler;
+	private boolean incrementalUpdates = true;
 
 	public EcoreModelServerSubscriptionListener(final EcoreModelState modelState,
 			final ActionDispatcher actionDispatcher, final ModelSubmissionHandler submissionHandler) {
+		this(modelState, actionDispatcher, submissionHandler, EcoreModelUpdateScheduler.DEFAULT_UPDATE_WINDOW);
+	}
+
+	public EcoreModelServerSubscriptionListener(final EcoreModelState modelState,
+			final ActionDispatcher actionDispatcher, final ModelSubmissionHandler submissionHandler,
+			final long updateWindow) {
 		this.actionDispatcher = actionDispatcher;
 		this.modelState = modelState;
 		this.submissionHandler = submissionHandler;
+		this.updateScheduler = new EcoreModelUpdateScheduler(modelState, this::submit,
+				submissionHandler.getModelLock(), updateWindow);
+	}
+
+	public boolean isIncrementalUpdates() {
+		return incrementalUpdates;
+	}
+
+	public void setIncrementalUpdates(boolean incrementalUpdates) {
+		this.incrementalUpdates = incrementalUpdates;
 	}
 
 	protected void refresh() {
-		// reload models
-		modelState.loadSourceModels();
+		synchronized (submissionHandler.getModelLock()) {
+			// reload models
+			modelState.loadSourceModels();
+			submit();
+		}
+	}
+
+	public EcoreModelUpdateScheduler getUpdateScheduler() {
+		return updateScheduler;
+	}
+
+	protected void submit() {
 		// refresh GModelRoot
 		submissionHandler.submitModel(modelState);
 		// requestboundsaction in submissionhandler not enough?
@@ -47,13 +75,17 @@ public class EcoreModelServerSubscriptionListener extends XmiToEObjectSubscripti
 	@Override
 	public void onIncrementalUpdate(final CCommandExecutionResult commandResult) {
 		LOGGER.debug("Incremental update from model server received: " + commandResult);
-		this.refresh();
+		if (incrementalUpdates) {
+			updateScheduler.scheduleUpdate(commandResult);
+		} else {
+			updateScheduler.scheduleReload();
+		}
 	}
 
 	@Override
 	public void onFullUpdate(final EObject fullUpdate) {
 		LOGGER.debug("Full update from model server received: " + fullUpdate);
-		this.refresh();
+		updateScheduler.scheduleReload();
 	}
 
 	@Override
@@ -75,6 +107,10 @@ public class EcoreModelServerSubscriptionListener extends XmiToEObjectSubscripti
 	@Override
 	public void onClosed(final int code, final String reason) {
 		LOGGER.debug("Closed connection to model server, reason: " + reason);
+		LOGGER.debug(String.format("Model updates for clientId %s: %d notifications received, %d dropped, %d rebuilds",
+				modelState.getClientId(), updateScheduler.getReceivedNotifications(),
+				updateScheduler.getDroppedNotifications(), updateScheduler.getPerformedRebuilds()));
+		updateScheduler.dispose();
 	}
 
 }
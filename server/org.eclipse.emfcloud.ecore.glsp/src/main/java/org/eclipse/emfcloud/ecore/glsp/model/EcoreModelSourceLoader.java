@@ -68,8 +68,11 @@ public class EcoreModelSourceLoader implements ModelSourceLoader {
 		EcoreModelServerAccess modelServerAccess = new EcoreModelServerAccess(modelState.getModelUri(),
 				modelServerClient.get());
 		modelState.setModelServerAccess(modelServerAccess);
-		modelServerClient.get()
-				.subscribe(sourceURI.get(), new EcoreModelServerSubscriptionListener(modelState, actionDispatcher, submissionHandler), FORMAT_XMI);
+		long updateWindow = MapUtil.getValue(action.getOptions(), EcoreModelState.UPDATE_WINDOW_OPTION)
+				.flatMap(EcoreModelSourceLoader::parseUpdateWindow)
+				.orElse(EcoreModelUpdateScheduler.DEFAULT_UPDATE_WINDOW);
+		modelServerClient.get().subscribe(sourceURI.get(), new EcoreModelServerSubscriptionListener(modelState,
+				actionDispatcher, submissionHandler, updateWindow), FORMAT_XMI);
 
 		EcoreEditorContext editorContext = new EcoreEditorContext(modelState, modelServerAccess);
 		modelState.setEditorContext(editorContext);
@@ -83,6 +86,19 @@ public class EcoreModelSourceLoader implements ModelSourceLoader {
 
 	}
 
+	/**
+	 * Parses the update window in milliseconds that the client passed as option, invalid values are ignored.
+	 */
+	static Optional<Long> parseUpdateWindow(String value) {
+		try {
+			return Optional.of(Long.parseLong(value.trim()));
+		} catch (NumberFormatException e) {
+			LOGGER.warn(String.format("Invalid %s option '%s', using the default of %d ms",
+					EcoreModelState.UPDATE_WINDOW_OPTION, value, EcoreModelUpdateScheduler.DEFAULT_UPDATE_WINDOW));
+			return Optional.empty();
+		}
+	}
+
 	private static GModelRoot createEmptyRoot() {
 		return new GGraphBuilder(DefaultTypes.GRAPH)//
 				.id(ROOT_ID) //
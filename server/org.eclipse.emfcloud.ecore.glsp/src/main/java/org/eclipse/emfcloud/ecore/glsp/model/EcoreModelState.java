@@ -10,13 +10,18 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.model;
 
+import java.util.Optional;
+
 import org.eclipse.emf.common.command.BasicCommandStack;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emfcloud.ecore.enotation.Diagram;
 import org.eclipse.emfcloud.ecore.glsp.EcoreEditorContext;
 import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
 import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
+import org.eclipse.emfcloud.ecore.glsp.EcoreServerConfiguration;
 import org.eclipse.emfcloud.ecore.glsp.ResourceManager;
+import org.eclipse.emfcloud.modelserver.command.CCommandExecutionResult;
+import org.eclipse.glsp.graph.GBounds;
 import org.eclipse.glsp.graph.GModelRoot;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.model.GModelStateImpl;
@@ -26,10 +31,22 @@ import org.eclipse.glsp.server.utils.MapUtil;
 
 public class EcoreModelState extends GModelStateImpl implements GModelState {
 
+	private final EcoreServerConfiguration configuration;
 	private EcoreEditorContext editorContext;
 	private EcoreModelServerAccess modelServerAccess;
+	private boolean gModelUpToDate;
+	private GBounds viewport;
 
 	public static final String WORKSPACE_ROOT_OPTION = "workspaceRoot";
+	public static final String UPDATE_WINDOW_OPTION = "modelUpdateWindow";
+
+	public EcoreModelState() {
+		this(new EcoreServerConfiguration());
+	}
+
+	public EcoreModelState(EcoreServerConfiguration configuration) {
+		this.configuration = configuration;
+	}
 
 	public static EcoreModelState getModelState(GModelState state) {
 		if (!(state instanceof EcoreModelState)) {
@@ -54,6 +71,13 @@ public class EcoreModelState extends GModelStateImpl implements GModelState {
 		return editorContext.getEcoreFacade();
 	}
 
+	/**
+	 * Returns the options of the server, shared by all client sessions.
+	 */
+	public EcoreServerConfiguration getConfiguration() {
+		return configuration;
+	}
+
 	public EcoreEditorContext getEditorContext() {
 		return editorContext;
 	}
@@ -87,8 +111,13 @@ public class EcoreModelState extends GModelStateImpl implements GModelState {
 	}
 
 	public void loadSourceModels() throws GLSPServerException {
-		EcoreEditorContext editorContext = new EcoreEditorContext(this, modelServerAccess);
-		setEditorContext(editorContext);
+		// the editor context lives as long as the client session, reloads only replace the resource contents
+		if (editorContext == null) {
+			setEditorContext(new EcoreEditorContext(this, modelServerAccess));
+		} else {
+			getIndex().clearSourceModels();
+			editorContext.reload(modelServerAccess);
+		}
 
 		// creates new ecoreFacade and fetches semantic and notation model
 		EcoreFacade ecoreFacade = editorContext.getEcoreFacade();
@@ -100,6 +129,50 @@ public class EcoreModelState extends GModelStateImpl implements GModelState {
 		GModelRoot gmodelRoot = editorContext.getGModelFactory().create(ecoreFacade.getEPackage());
 		ecoreFacade.initialize(diagram, gmodelRoot);
 		setRoot(gmodelRoot);
+		gModelUpToDate = true;
+	}
+
+	/**
+	 * Applies the given command execution result to the loaded source models and patches the current GModel.
+	 *
+	 * @return <code>false</code> if the update could not be applied incrementally and the source models have to be
+	 *         reloaded via {@link #loadSourceModels()}
+	 */
+	public boolean updateSourceModels(CCommandExecutionResult commandResult) {
+		if (editorContext == null || !editorContext.getModelUpdater().update(commandResult)) {
+			return false;
+		}
+		gModelUpToDate = true;
+		return true;
+	}
+
+	/**
+	 * Marks the current GModel as built from the latest source models, e.g. after it has been patched in place.
+	 */
+	public void markGModelUpToDate() {
+		gModelUpToDate = true;
+	}
+
+	/**
+	 * Returns whether the current GModel has already been built from the latest source models and resets the flag,
+	 * so that the next GModel creation does not rebuild it again.
+	 */
+	public boolean consumeGModelUpToDate() {
+		boolean upToDate = gModelUpToDate;
+		gModelUpToDate = false;
+		return upToDate;
+	}
+
+	/**
+	 * Returns the region of the diagram that is visible in the client, if the client has reported one. Only the
+	 * classifiers within this region are created with their full content.
+	 */
+	public Optional<GBounds> getViewport() {
+		return Optional.ofNullable(viewport);
+	}
+
+	public void setViewport(GBounds viewport) {
+		this.viewport = viewport;
 	}
 
 }
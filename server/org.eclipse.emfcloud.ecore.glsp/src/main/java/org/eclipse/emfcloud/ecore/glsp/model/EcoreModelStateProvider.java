@@ -10,16 +10,21 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.model;
 
+import org.eclipse.emfcloud.ecore.glsp.EcoreServerConfiguration;
 import org.eclipse.glsp.server.model.DefaultModelStateProvider;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 @Singleton
 public class EcoreModelStateProvider extends DefaultModelStateProvider {
 
+	@Inject
+	private EcoreServerConfiguration configuration;
+
 	@Override
 	protected EcoreModelState createModelState() {
-		return new EcoreModelState();
+		return new EcoreModelState(configuration);
 	}
 
 }
@@ -0,0 +1,144 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emfcloud.modelserver.command.CCommandExecutionResult;
+
+/**
+ * Coalesces the update notifications of the model server for one client session. All notifications that arrive
+ * within the update window are applied to the {@link EcoreModelState} in one go and result in a single model
+ * submission. Pending incremental updates are dropped as soon as a full reload is required, as the reload fetches
+ * the latest revision of the models anyway.
+ * <p>
+ * Updates are applied on a separate thread while holding the model lock, the same lock that the action handlers
+ * and the model submission use, so the source models and the GModel are never changed concurrently.
+ * </p>
+ */
+public class EcoreModelUpdateScheduler {
+
+	public static final long DEFAULT_UPDATE_WINDOW = 50;
+
+	private static Logger LOGGER = Logger.getLogger(EcoreModelUpdateScheduler.class);
+
+	private final EcoreModelState modelState;
+	private final Runnable submitModel;
+	private final long updateWindow;
+	private final ScheduledExecutorService executor;
+	private final Object modelLock;
+
+	private final List<CCommandExecutionResult> pendingUpdates = new ArrayList<>();
+	private boolean reloadPending;
+	private boolean flushScheduled;
+
+	private final AtomicLong receivedNotifications = new AtomicLong();
+	private final AtomicLong droppedNotifications = new AtomicLong();
+	private final AtomicLong performedRebuilds = new AtomicLong();
+
+	public EcoreModelUpdateScheduler(EcoreModelState modelState, Runnable submitModel, Object modelLock) {
+		this(modelState, submitModel, modelLock, DEFAULT_UPDATE_WINDOW);
+	}
+
+	public EcoreModelUpdateScheduler(EcoreModelState modelState, Runnable submitModel, Object modelLock,
+			long updateWindow) {
+		this.modelState = modelState;
+		this.submitModel = submitModel;
+		this.modelLock = modelLock;
+		this.updateWindow = Math.max(0, updateWindow);
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ecore-model-update-" + modelState.getClientId());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public synchronized void scheduleUpdate(CCommandExecutionResult commandResult) {
+		receivedNotifications.incrementAndGet();
+		if (reloadPending) {
+			droppedNotifications.incrementAndGet();
+		} else {
+			pendingUpdates.add(commandResult);
+		}
+		scheduleFlush();
+	}
+
+	public synchronized void scheduleReload() {
+		receivedNotifications.incrementAndGet();
+		droppedNotifications.addAndGet(pendingUpdates.size());
+		pendingUpdates.clear();
+		reloadPending = true;
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled && !executor.isShutdown()) {
+			flushScheduled = true;
+			executor.schedule(this::flush, updateWindow, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	protected void flush() {
+		List<CCommandExecutionResult> updates;
+		boolean reload;
+		synchronized (this) {
+			updates = new ArrayList<>(pendingUpdates);
+			reload = reloadPending;
+			pendingUpdates.clear();
+			reloadPending = false;
+			flushScheduled = false;
+		}
+
+		try {
+			synchronized (modelLock) {
+				if (reload) {
+					modelState.loadSourceModels();
+				} else {
+					for (int i = 0; i < updates.size(); i++) {
+						if (!modelState.updateSourceModels(updates.get(i))) {
+							// the reload already includes all remaining updates
+							droppedNotifications.addAndGet(updates.size() - i - 1);
+							modelState.loadSourceModels();
+							break;
+						}
+					}
+				}
+				performedRebuilds.incrementAndGet();
+				submitModel.run();
+			}
+		} catch (RuntimeException e) {
+			LOGGER.error("Error while updating the model of client " + modelState.getClientId(), e);
+		}
+	}
+
+	public long getReceivedNotifications() {
+		return receivedNotifications.get();
+	}
+
+	public long getDroppedNotifications() {
+		return droppedNotifications.get();
+	}
+
+	public long getPerformedRebuilds() {
+		return performedRebuilds.get();
+	}
+
+	public void dispose() {
+		executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,222 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.command.Command;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.NotationElement;
+import org.eclipse.emfcloud.ecore.glsp.EcoreEditorContext;
+import org.eclipse.emfcloud.ecore.glsp.EcoreFacade;
+import org.eclipse.emfcloud.modelserver.command.CCommand;
+import org.eclipse.emfcloud.modelserver.command.CCommandExecutionResult;
+import org.eclipse.emfcloud.modelserver.common.codecs.DecodingException;
+import org.eclipse.emfcloud.modelserver.edit.CommandCodec;
+import org.eclipse.emfcloud.modelserver.edit.DefaultCommandCodec;
+import org.eclipse.glsp.graph.GGraph;
+import org.eclipse.glsp.graph.GModelElement;
+
+/**
+ * Applies incremental updates of the model server to the semantic and notation resources that are already loaded
+ * for a client session and regenerates only the affected parts of the current GModel.
+ * <p>
+ * The source command of an executed command is decoded and replayed on the local editing domain, undo and redo are
+ * mirrored on the local command stack. The change description of the result is used to determine which classifiers
+ * have to be regenerated. Whenever a result cannot be applied, or the local notation resource has diverged from the
+ * one of the model server, {@link #update(CCommandExecutionResult)} returns <code>false</code> and the caller is
+ * expected to perform a full reload.
+ * </p>
+ */
+public class EcoreModelUpdater {
+
+	private static Logger LOGGER = Logger.getLogger(EcoreModelUpdater.class);
+
+	private final EcoreModelState modelState;
+	private final CommandCodec commandCodec;
+
+	public EcoreModelUpdater(EcoreModelState modelState) {
+		this.modelState = modelState;
+		this.commandCodec = new DefaultCommandCodec();
+	}
+
+	public boolean update(CCommandExecutionResult commandResult) {
+		EcoreEditorContext editorContext = modelState.getEditorContext();
+		if (commandResult == null || editorContext == null || editorContext.getEcoreFacade() == null
+				|| !(modelState.getRoot() instanceof GGraph)) {
+			return false;
+		}
+		if (editorContext.getEcoreFacade().isDiverged()) {
+			// notation elements were created locally, index based commands would hit the wrong elements
+			LOGGER.debug("Local notation resource diverged from the model server, falling back to full reload");
+			return false;
+		}
+
+		EditingDomain editingDomain = editorContext.getResourceManager().getEditingDomain();
+		try {
+			Optional<Command> command = applyCommand(commandResult, editingDomain);
+			if (command.isEmpty()) {
+				return false;
+			}
+
+			Set<EObject> changedObjects = new LinkedHashSet<>(command.get().getAffectedObjects());
+			changedObjects.addAll(getChangedObjects(commandResult.getChangeDescription(), editingDomain.getResourceSet()));
+
+			EcoreFacade ecoreFacade = editorContext.getEcoreFacade();
+			ecoreFacade.reindexDiagram();
+
+			Set<EClassifier> changedClassifiers = new LinkedHashSet<>();
+			changedObjects.forEach(changedObject -> getAffectedClassifier(ecoreFacade, changedObject)
+					.ifPresent(changedClassifiers::add));
+
+			List<GModelElement> createdElements = editorContext.getGModelFactory().update(ecoreFacade.getEPackage(),
+					changedClassifiers);
+			ecoreFacade.initialize(ecoreFacade.getDiagram(), createdElements);
+			return true;
+		} catch (DecodingException | RuntimeException e) {
+			LOGGER.warn("Could not apply incremental update, falling back to full reload", e);
+			return false;
+		}
+	}
+
+	protected Optional<Command> applyCommand(CCommandExecutionResult commandResult, EditingDomain editingDomain)
+			throws DecodingException {
+		BasicCommandStack commandStack = (BasicCommandStack) editingDomain.getCommandStack();
+		switch (commandResult.getType()) {
+		case EXECUTE:
+			CCommand source = commandResult.getSource();
+			if (source == null) {
+				return Optional.empty();
+			}
+			resolveProxies(source, editingDomain.getResourceSet());
+			Command command = commandCodec.decode(editingDomain, source);
+			if (command == null || !command.canExecute()) {
+				return Optional.empty();
+			}
+			commandStack.execute(command);
+			// the command stack swallows execution errors, so check whether the command was actually executed
+			return commandStack.getMostRecentCommand() == command ? Optional.of(command) : Optional.empty();
+		case UNDO:
+			if (!commandStack.canUndo()) {
+				return Optional.empty();
+			}
+			commandStack.undo();
+			return Optional.ofNullable(commandStack.getMostRecentCommand());
+		case REDO:
+			if (!commandStack.canRedo()) {
+				return Optional.empty();
+			}
+			commandStack.redo();
+			return Optional.ofNullable(commandStack.getMostRecentCommand());
+		default:
+			return Optional.empty();
+		}
+	}
+
+	protected Set<EObject> getChangedObjects(ChangeDescription changeDescription, ResourceSet resourceSet) {
+		Set<EObject> changedObjects = new LinkedHashSet<>();
+		if (changeDescription != null) {
+			changeDescription.getObjectChanges().keySet()
+					.forEach(eObject -> resolve(eObject, resourceSet).ifPresent(changedObjects::add));
+			changeDescription.getObjectsToDetach()
+					.forEach(eObject -> resolve(eObject, resourceSet).ifPresent(changedObjects::add));
+		}
+		return changedObjects;
+	}
+
+	protected Optional<EClassifier> getAffectedClassifier(EcoreFacade ecoreFacade, EObject changedObject) {
+		EObject current = changedObject;
+		while (current != null) {
+			if (current instanceof EClassifier) {
+				return Optional.of((EClassifier) current);
+			} else if (current instanceof Diagram) {
+				return Optional.empty();
+			} else if (current instanceof NotationElement) {
+				NotationElement notationElement = (NotationElement) current;
+				if (notationElement.getSemanticElement() != null) {
+					current = ecoreFacade.resolved(notationElement.getSemanticElement()).getResolvedElement();
+				} else if (notationElement instanceof Edge) {
+					// inheritance edges have no semantic element, they belong to their source classifier
+					current = ((Edge) notationElement).getSource();
+				} else {
+					return Optional.empty();
+				}
+			} else {
+				current = current.eContainer();
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Resolves all cross references of the given command against the local resource set. Resources that are not
+	 * loaded yet are never demand-loaded, an unresolvable reference aborts the incremental update instead.
+	 */
+	@SuppressWarnings("unchecked")
+	protected void resolveProxies(EObject root, ResourceSet resourceSet) {
+		List<EObject> eObjects = new ArrayList<>();
+		eObjects.add(root);
+		root.eAllContents().forEachRemaining(eObjects::add);
+
+		for (EObject eObject : eObjects) {
+			for (EReference reference : eObject.eClass().getEAllReferences()) {
+				if (reference.isContainment() || reference.isContainer() || !reference.isChangeable()
+						|| reference.isDerived()) {
+					continue;
+				}
+				if (reference.isMany()) {
+					InternalEList<EObject> values = (InternalEList<EObject>) eObject.eGet(reference, false);
+					for (int i = 0; i < values.size(); i++) {
+						EObject value = values.basicGet(i);
+						if (value.eIsProxy()) {
+							values.setUnique(i, resolveOrThrow(value, resourceSet));
+						}
+					}
+				} else {
+					EObject value = (EObject) eObject.eGet(reference, false);
+					if (value != null && value.eIsProxy()) {
+						eObject.eSet(reference, resolveOrThrow(value, resourceSet));
+					}
+				}
+			}
+		}
+	}
+
+	private EObject resolveOrThrow(EObject proxy, ResourceSet resourceSet) {
+		return resolve(proxy, resourceSet).orElseThrow(() -> new IllegalStateException(
+				"Could not resolve " + ((InternalEObject) proxy).eProxyURI() + " in the loaded resources"));
+	}
+
+	private Optional<EObject> resolve(EObject eObject, ResourceSet resourceSet) {
+		if (!eObject.eIsProxy()) {
+			return Optional.of(eObject);
+		}
+		URI proxyURI = ((InternalEObject) eObject).eProxyURI();
+		return Optional.ofNullable(resourceSet.getEObject(proxyURI, false));
+	}
+
+}
@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the sub-commands that are sent for bounds and bend point changes of the notation model and the ones that
+ * have been eliminated, compared to setting every coordinate and re-adding every bend point individually.
+ */
+public class NotationCommandStatistics {
+
+	private final AtomicLong emittedCommands = new AtomicLong();
+	private final AtomicLong eliminatedCommands = new AtomicLong();
+
+	/**
+	 * @param emitted the number of sub-commands actually created
+	 * @param naive   the number of sub-commands that would have been created without comparing against the
+	 *                   notation model
+	 */
+	public void record(int emitted, int naive) {
+		emittedCommands.addAndGet(emitted);
+		eliminatedCommands.addAndGet(Math.max(0, naive - emitted));
+	}
+
+	public long getEmittedCommands() {
+		return emittedCommands.get();
+	}
+
+	public long getEliminatedCommands() {
+		return eliminatedCommands.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d notation sub-commands emitted, %d eliminated", getEmittedCommands(),
+				getEliminatedCommands());
+	}
+
+}
@@ -30,7 +30,6 @@ import org.eclipse.glsp.graph.GraphPackage;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.CreateNodeOperation;
 import org.eclipse.glsp.server.operations.Operation;
-import org.eclipse.glsp.server.protocol.GLSPServerException;
 
 public class CreateClassifierChildNodeOperationHandler
 		extends ModelServerAwareBasicOperationHandler<CreateNodeOperation> {
@@ -56,24 +55,24 @@ public class CreateClassifierChildNodeOperationHandler
 		if (elementTypeId.equals(Types.ATTRIBUTE) && container instanceof EClass) {
 			EAttribute attribute = createEAttribute(modelState);
 			modelState.getIndex().add(attribute);
-			if (!modelAccess.addEAttribute(EcoreModelState.getModelState(modelState), attribute, (EClass) container)) {
-				throw new GLSPServerException(
-						"Could not execute create operation on EAttribute: " + attribute.getName());
-			}
+			reportFailure(modelState,
+					modelAccess.addEAttributeAsync(EcoreModelState.getModelState(modelState), attribute,
+							(EClass) container),
+					"Could not execute create operation on EAttribute: " + attribute.getName());
 		} else if (elementTypeId.equals(Types.OPERATION) && container instanceof EClass) {
 			EOperation attribute = createEOperation(modelState);
 			modelState.getIndex().add(attribute);
-			if (!modelAccess.addEOperation(EcoreModelState.getModelState(modelState), attribute, (EClass) container)) {
-				throw new GLSPServerException(
-						"Could not execute create operation on EAttribute: " + attribute.getName());
-			}
+			reportFailure(modelState,
+					modelAccess.addEOperationAsync(EcoreModelState.getModelState(modelState), attribute,
+							(EClass) container),
+					"Could not execute create operation on EAttribute: " + attribute.getName());
 		} else if (elementTypeId.contentEquals(Types.ENUMLITERAL) && container instanceof EEnum) {
 			EEnumLiteral literal = createEEnumLiteral(modelState);
 			modelState.getIndex().add(literal);
-			if (!modelAccess.addEEnumLiteral(EcoreModelState.getModelState(modelState), literal, (EEnum) container)) {
-				throw new GLSPServerException(
-						"Could not execute create operation on EEnumLiteral: " + literal.getName());
-			}
+			reportFailure(modelState,
+					modelAccess.addEEnumLiteralAsync(EcoreModelState.getModelState(modelState), literal,
+							(EEnum) container),
+					"Could not execute create operation on EEnumLiteral: " + literal.getName());
 		}
 
 	}
@@ -11,6 +11,7 @@
 package org.eclipse.emfcloud.ecore.glsp.operationhandler;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.eclipse.emf.ecore.EClass;
@@ -23,12 +24,15 @@ import org.eclipse.emfcloud.ecore.enotation.Shape;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
 import org.eclipse.emfcloud.ecore.glsp.util.EcoreConfig.Types;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreShapePlacement;
+import org.eclipse.emfcloud.ecore.modelserver.EcoreSpatialIndex;
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GPoint;
 import org.eclipse.glsp.graph.GraphPackage;
 import org.eclipse.glsp.graph.util.GraphUtil;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.CreateNodeOperation;
 import org.eclipse.glsp.server.operations.Operation;
-import org.eclipse.glsp.server.protocol.GLSPServerException;
 
 import com.google.common.collect.Lists;
 
@@ -62,17 +66,32 @@ public class CreateClassifierNodeOperationHandler
 		setName(eClassifier, modelState);
 
 		Shape shape = EnotationFactory.eINSTANCE.createShape();
-		shape.setPosition(operation.getLocation().orElse(GraphUtil.point(0, 0)));
-		shape.setSize(GraphUtil.dimension(DEFAULT_SHAPE_WIDTH, DEFAULT_SHAPE_HEIGHT));
+		GDimension size = GraphUtil.dimension(DEFAULT_SHAPE_WIDTH, DEFAULT_SHAPE_HEIGHT);
+		shape.setPosition(findFreePosition(EcoreModelState.getModelState(modelState), operation.getLocation(), size));
+		shape.setSize(size);
 
 		SemanticProxy proxy = EnotationFactory.eINSTANCE.createSemanticProxy();
 		proxy.setUri(getSemanticProxyUri(eClassifier));
 		shape.setSemanticElement(proxy);
 
-		if (!modelAccess.addEClassifier(EcoreModelState.getModelState(modelState), eClassifier, shape)) {
-			throw new GLSPServerException(
-					"Could not execute create operation on eClassifier: " + eClassifier.getName());
+		reportFailure(modelState,
+				modelAccess.addEClassifierAsync(EcoreModelState.getModelState(modelState), eClassifier, shape),
+				"Could not execute create operation on eClassifier: " + eClassifier.getName());
+	}
+
+	/**
+	 * Returns the free position closest to the requested location, so the new shape does not overlap existing ones.
+	 * Without a location the shape is placed at the first free position from the top left corner of the diagram.
+	 */
+	protected GPoint findFreePosition(EcoreModelState modelState, Optional<GPoint> location, GDimension size) {
+		EcoreSpatialIndex<Shape> shapeIndex = modelState.getIndex().getShapeIndex();
+		if (location.isEmpty()) {
+			return new EcoreShapePlacement(shapeIndex, 0, 0).place(size);
 		}
+		// never move the shape further left or up than requested
+		EcoreShapePlacement placement = new EcoreShapePlacement(shapeIndex, Math.min(0, location.get().getX()),
+				Math.min(0, location.get().getY()));
+		return placement.place(location.get(), size);
 	}
 
 	protected String getSemanticProxyUri(EClassifier eClassifier) {
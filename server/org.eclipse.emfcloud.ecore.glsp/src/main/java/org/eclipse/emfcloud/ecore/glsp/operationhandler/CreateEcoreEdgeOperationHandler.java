@@ -66,13 +66,16 @@ public class CreateEcoreEdgeOperationHandler extends ModelServerAwareBasicOperat
 
 		if (elementTypeId.equals(Types.INHERITANCE)) {
 			Edge inheritanceEdge = createInheritanceEdge(sourceElement, targetElement);
-			modelAccess.addESuperType(EcoreModelState.getModelState(modelState), targetEClass, sourceEClass,
-					inheritanceEdge);
+			reportFailure(modelState, modelAccess.addESuperTypeAsync(EcoreModelState.getModelState(modelState),
+					targetEClass, sourceEClass, inheritanceEdge),
+					"Could not create inheritance edge from " + sourceEClass.getName() + " to "
+							+ targetEClass.getName());
 		} else if (elementTypeId.equals(Types.REFERENCE) || elementTypeId.equals(Types.COMPOSITION)) {
 			EReference reference = createReference(sourceEClass, targetEClass, elementTypeId);
 			Edge referenceEdge = createEdge(sourceEClass, reference, sourceElement, targetElement);
-			modelAccess.addEReference(EcoreModelState.getModelState(modelState), reference, sourceEClass,
-					referenceEdge);
+			reportFailure(modelState, modelAccess.addEReferenceAsync(EcoreModelState.getModelState(modelState),
+					reference, sourceEClass, referenceEdge),
+					"Could not create reference from " + sourceEClass.getName() + " to " + targetEClass.getName());
 		} else if (elementTypeId.equals(Types.BIDIRECTIONAL_REFERENCE)
 				|| elementTypeId.equals(Types.BIDIRECTIONAL_COMPOSITION)) {
 
@@ -81,9 +84,12 @@ public class CreateEcoreEdgeOperationHandler extends ModelServerAwareBasicOperat
 			EReference opposite = createReference(targetEClass, sourceEClass, elementTypeId);
 			Edge oppositeEdge = createEdge(targetEClass, opposite, targetElement, sourceElement);
 
-			modelAccess.addEReferenceBidirectional(EcoreModelState.getModelState(modelState), reference, opposite,
-					sourceEClass, targetEClass, referenceEdge, oppositeEdge,
-					elementTypeId.equals(Types.BIDIRECTIONAL_REFERENCE));
+			reportFailure(modelState,
+					modelAccess.addEReferenceBidirectionalAsync(EcoreModelState.getModelState(modelState), reference,
+							opposite, sourceEClass, targetEClass, referenceEdge, oppositeEdge,
+							elementTypeId.equals(Types.BIDIRECTIONAL_REFERENCE)),
+					"Could not create bidirectional reference between " + sourceEClass.getName() + " and "
+							+ targetEClass.getName());
 		}
 	}
 
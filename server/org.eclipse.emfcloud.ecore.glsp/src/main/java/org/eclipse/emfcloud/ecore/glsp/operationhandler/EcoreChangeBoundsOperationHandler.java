@@ -32,7 +32,8 @@ public class EcoreChangeBoundsOperationHandler extends ModelServerAwareBasicOper
 				changeBoundsMap.put(notationElement, element);
 			});
 		}
-		modelServerAccess.setBounds(ecoreModelState, changeBoundsMap);
+		reportFailure(ecoreModelState, modelServerAccess.setBoundsAsync(ecoreModelState, changeBoundsMap),
+				"Could not change bounds of elements: " + changeBoundsMap.size());
 	}
 
 	@Override
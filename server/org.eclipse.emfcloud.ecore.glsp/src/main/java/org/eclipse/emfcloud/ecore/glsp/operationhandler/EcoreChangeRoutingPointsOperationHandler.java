@@ -39,7 +39,8 @@ public class EcoreChangeRoutingPointsOperationHandler
 								});
 					});
 		}
-		modelServerAccess.setBendPoints(ecoreModelState, changeRoutingPointsMap);
+		reportFailure(ecoreModelState, modelServerAccess.setBendPointsAsync(ecoreModelState, changeRoutingPointsMap),
+				"Could not change routing points of edges: " + changeRoutingPointsMap.size());
 	}
 
 	@Override
@@ -52,10 +52,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 				modelIndex.findElementByClass(elementId, GNode.class).ifPresentOrElse(notationElement -> {
 					modelIndex.getSemantic(notationElement).ifPresentOrElse(semanticElement -> {
 						if (semanticElement instanceof EClassifier) {
-							if (!modelAccess.setName(EcoreModelState.getModelState(graphicalModelState),
-									(EClassifier) semanticElement, inputText)) {
-								throw new GLSPServerException("Could not rename node to: " + inputText);
-							}
+							reportFailure(graphicalModelState,
+									modelAccess.setNameAsync(EcoreModelState.getModelState(graphicalModelState),
+											(EClassifier) semanticElement, inputText),
+									"Could not rename node to: " + inputText);
 						}
 					}, () -> new GLSPServerException(
 							"No semantic element for labelContainer with id " + notationElement.getId() + " found"));
@@ -67,10 +67,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 				modelIndex.findElementByClass(elementId, GNode.class).ifPresentOrElse(notationElement -> {
 					modelIndex.getSemantic(notationElement).ifPresentOrElse(semanticElement -> {
 						if (semanticElement instanceof EClassifier) {
-							if (!modelAccess.setInstanceName(EcoreModelState.getModelState(graphicalModelState),
-									(EClassifier) semanticElement, inputText)) {
-								throw new GLSPServerException("Could not rename node to: " + inputText);
-							}
+							reportFailure(graphicalModelState,
+									modelAccess.setInstanceNameAsync(EcoreModelState.getModelState(graphicalModelState),
+											(EClassifier) semanticElement, inputText),
+									"Could not rename node to: " + inputText);
 						}
 					}, () -> new GLSPServerException(
 							"No semantic element for labelContainer with id " + notationElement.getId() + " found"));
@@ -83,10 +83,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 						"No semantic element for label with id " + elementId + " found");
 				String newLiteralName = inputText;
 				if (!newLiteralName.isEmpty()) {
-					if (!modelAccess.setLiteralName(EcoreModelState.getModelState(graphicalModelState), eEnumLiteral,
-							newLiteralName)) {
-						throw new GLSPServerException("Could not rename node to: " + newLiteralName);
-					}
+					reportFailure(graphicalModelState,
+							modelAccess.setLiteralNameAsync(EcoreModelState.getModelState(graphicalModelState),
+									eEnumLiteral, newLiteralName),
+							"Could not rename node to: " + newLiteralName);
 				}
 
 				break;
@@ -98,10 +98,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 				String eAttributeName = getNameFromInput(inputText);
 				EDataType eAttributeEType = getEDataTypeFromInput(inputText, graphicalModelState);
 
-				if (!modelAccess.setAttribute(EcoreModelState.getModelState(graphicalModelState), eAttribute,
-						eAttribute.getName().equals(eAttributeName) ? null : eAttributeName, eAttributeEType)) {
-					throw new GLSPServerException("Could not rename attribute to: " + inputText);
-				}
+				reportFailure(graphicalModelState,
+						modelAccess.setAttributeAsync(EcoreModelState.getModelState(graphicalModelState), eAttribute,
+								eAttribute.getName().equals(eAttributeName) ? null : eAttributeName, eAttributeEType),
+						"Could not rename attribute to: " + inputText);
 
 				break;
 
@@ -112,10 +112,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 				String eOperationName = getNameFromInput(inputText, "\\(.*\\)");
 				EDataType eOperationEType = getEDataTypeFromInput(inputText, graphicalModelState);
 
-				if (!modelAccess.setOperation(EcoreModelState.getModelState(graphicalModelState), eOperation,
-						eOperation.getName().equals(eOperationName) ? null : eOperationName, eOperationEType)) {
-					throw new GLSPServerException("Could not rename operation to: " + inputText);
-				}
+				reportFailure(graphicalModelState,
+						modelAccess.setOperationAsync(EcoreModelState.getModelState(graphicalModelState), eOperation,
+								eOperation.getName().equals(eOperationName) ? null : eOperationName, eOperationEType),
+						"Could not rename operation to: " + inputText);
 
 				break;
 
@@ -123,10 +123,10 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 				modelIndex.findElementByClass(elementId, GEdge.class).ifPresentOrElse(notationElement -> {
 					modelIndex.getSemantic(notationElement).ifPresentOrElse(semanticElement -> {
 						if (semanticElement instanceof EReference) {
-							if (!modelAccess.setEdgeName(EcoreModelState.getModelState(graphicalModelState),
-									(EReference) semanticElement, inputText)) {
-								throw new GLSPServerException("Could not rename edge to: " + inputText);
-							}
+							reportFailure(graphicalModelState,
+									modelAccess.setEdgeNameAsync(EcoreModelState.getModelState(graphicalModelState),
+											(EReference) semanticElement, inputText),
+									"Could not rename edge to: " + inputText);
 						}
 					}, () -> new GLSPServerException(
 							"No semantic element for labelContainer with id " + notationElement.getId() + " found"));
@@ -146,14 +146,14 @@ public class EcoreLabelEditOperationHandler extends ModelServerAwareBasicOperati
 					String upperBound = matcher.group(2);
 					int lower = (lowerBound.equals("*")) ? -1 : Integer.valueOf(lowerBound);
 					int upper = (upperBound.equals("*")) ? -1 : Integer.valueOf(upperBound);
-					if (!modelAccess.setLowerMultiplicity(EcoreModelState.getModelState(graphicalModelState),
-							reference_semantic, lower)) {
-						throw new GLSPServerException("Could not change lowerBound to: " + lower);
-					}
-					if (!modelAccess.setUpperMultiplicity(EcoreModelState.getModelState(graphicalModelState),
-							reference_semantic, upper)) {
-						throw new GLSPServerException("Could not rename edge to: " + upper);
-					}
+					reportFailure(graphicalModelState,
+							modelAccess.setLowerMultiplicityAsync(EcoreModelState.getModelState(graphicalModelState),
+									reference_semantic, lower),
+							"Could not change lowerBound to: " + lower);
+					reportFailure(graphicalModelState,
+							modelAccess.setUpperMultiplicityAsync(EcoreModelState.getModelState(graphicalModelState),
+									reference_semantic, upper),
+							"Could not change upperBound to: " + upper);
 				} else {
 					throw new GLSPServerException(
 							"Multiplicity of reference with id " + elementId + " has a wrong input format",
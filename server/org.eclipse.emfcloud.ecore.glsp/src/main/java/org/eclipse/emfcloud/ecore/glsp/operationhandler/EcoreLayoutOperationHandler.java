@@ -1,20 +1,29 @@
 package org.eclipse.emfcloud.ecore.glsp.operationhandler;
 
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
 import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutEngine;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutGraph;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutResult;
+import org.eclipse.emfcloud.ecore.glsp.EcoreLayoutScheduler;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
-import org.eclipse.glsp.graph.GModelElement;
 import org.eclipse.glsp.server.diagram.DiagramConfigurationRegistry;
 import org.eclipse.glsp.server.features.core.model.ModelSubmissionHandler;
 import org.eclipse.glsp.server.layout.ILayoutEngine;
 import org.eclipse.glsp.server.layout.ServerLayoutKind;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.LayoutOperation;
+import org.eclipse.glsp.server.utils.ServerStatusUtil;
 
 import com.google.inject.Inject;
 
 public class EcoreLayoutOperationHandler extends ModelServerAwareBasicOperationHandler<LayoutOperation> {
 
+	private static Logger LOGGER = Logger.getLogger(EcoreLayoutOperationHandler.class);
+
 	@Inject
 	protected ILayoutEngine layoutEngine;
 	@Inject
@@ -22,14 +31,37 @@ public class EcoreLayoutOperationHandler extends ModelServerAwareBasicOperationH
 	@Inject
 	protected DiagramConfigurationRegistry diagramConfigurationRegistry;
 
+	@Inject
+	protected EcoreLayoutScheduler layoutScheduler;
+
 	@Override
 	public void executeOperation(LayoutOperation operation, GModelState graphicalModelState,
 			EcoreModelServerAccess modelServerAccess) throws Exception {
 
 		if (diagramConfigurationRegistry.get(graphicalModelState).getLayoutKind() == ServerLayoutKind.MANUAL) {
 			if (layoutEngine != null && layoutEngine instanceof EcoreLayoutEngine) {
-				GModelElement layoutedRoot = ((EcoreLayoutEngine) layoutEngine).layoutRoot(graphicalModelState);
-				modelServerAccess.setLayout(EcoreModelState.getModelState(graphicalModelState), layoutedRoot);
+				EcoreLayoutEngine ecoreLayoutEngine = (EcoreLayoutEngine) layoutEngine;
+				EcoreModelState modelState = EcoreModelState.getModelState(graphicalModelState);
+				List<String> elementIds = operation.getElementIds();
+				// a layout of selected elements keeps all other elements in place
+				Function<EcoreLayoutGraph, EcoreLayoutResult> layout = elementIds == null || elementIds.isEmpty()
+						? ecoreLayoutEngine::layout
+						: graph -> ecoreLayoutEngine.layout(graph, elementIds);
+
+				// ELK runs on a worker thread, a newer layout or model change supersedes this one
+				actionDispatcher.dispatch(modelState.getClientId(), ServerStatusUtil.info("Computing layout..."));
+				layoutScheduler.schedule(modelState, modelSubmissionHandler.getModelLock(),
+						() -> EcoreLayoutGraph.of(modelState), layout,
+						layoutResult -> modelServerAccess.setLayoutAsync(modelState, layoutResult))
+						.whenComplete((applied, error) -> {
+							if (error != null) {
+								LOGGER.error("Error during layout", error);
+								actionDispatcher.dispatch(modelState.getClientId(),
+										ServerStatusUtil.error("Error during layout"));
+							} else if (!layoutScheduler.isLayoutInProgress(modelState.getClientId())) {
+								actionDispatcher.dispatch(modelState.getClientId(), ServerStatusUtil.clear());
+							}
+						});
 			}
 		}
 	}
@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.glsp.operationhandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.emfcloud.ecore.glsp.EcoreModelIndex;
+import org.eclipse.emfcloud.ecore.glsp.actions.SetCollapsedOperation;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
+import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.server.model.GModelState;
+
+public class EcoreSetCollapsedOperationHandler extends ModelServerAwareBasicOperationHandler<SetCollapsedOperation> {
+
+	@Override
+	public void executeOperation(SetCollapsedOperation operation, GModelState graphicalModelState,
+			EcoreModelServerAccess modelServerAccess) throws Exception {
+		EcoreModelState modelState = EcoreModelState.getModelState(graphicalModelState);
+		EcoreModelIndex index = modelState.getIndex();
+		List<Shape> shapes = new ArrayList<>();
+		for (String elementId : operation.getElementIds()) {
+			// only classes have a compartment that can be collapsed
+			index.getSemantic(elementId, EClass.class).flatMap(eClass -> index.getNotation(eClass, Shape.class))
+					.ifPresent(shapes::add);
+		}
+		reportFailure(modelState, modelServerAccess.setCollapsedAsync(modelState, shapes, operation.isCollapsed()),
+				"Could not collapse or expand elements: " + operation.getElementIds());
+	}
+
+	@Override
+	public String getLabel() {
+		return "Collapse or expand";
+	}
+}
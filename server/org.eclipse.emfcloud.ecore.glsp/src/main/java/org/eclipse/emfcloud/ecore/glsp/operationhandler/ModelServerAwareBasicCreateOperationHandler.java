@@ -14,17 +14,22 @@ import java.util.List;
 
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
 import org.eclipse.glsp.server.internal.util.GenericsUtil;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.BasicCreateOperationHandler;
 import org.eclipse.glsp.server.operations.CreateOperation;
 
 import com.google.common.collect.Lists;
+import com.google.inject.Inject;
 
 @SuppressWarnings("restriction")
 public abstract class ModelServerAwareBasicCreateOperationHandler<T extends CreateOperation>
 		extends BasicCreateOperationHandler<T> implements ModelserverAwareOperationHandler<T> {
 
+	@Inject
+	protected ActionDispatcher actionDispatcher;
+
 	public ModelServerAwareBasicCreateOperationHandler(final String... elementTypeIds) {
 		super(Lists.newArrayList(elementTypeIds));
 	}
@@ -40,6 +45,11 @@ public abstract class ModelServerAwareBasicCreateOperationHandler<T extends Crea
 				ModelServerAwareBasicCreateOperationHandler.class)).getActualTypeArguments()[0];
 	}
 
+	@Override
+	public ActionDispatcher getActionDispatcher() {
+		return actionDispatcher;
+	}
+
 	@Override
 	public void executeOperation(final T operation, final GModelState modelState) {
 		if (handles(operation)) {
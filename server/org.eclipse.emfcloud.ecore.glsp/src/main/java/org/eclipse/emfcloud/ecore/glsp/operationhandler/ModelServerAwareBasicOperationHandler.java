@@ -12,15 +12,21 @@ package org.eclipse.emfcloud.ecore.glsp.operationhandler;
 
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelState;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
 import org.eclipse.glsp.server.internal.util.GenericsUtil;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.BasicOperationHandler;
 import org.eclipse.glsp.server.operations.Operation;
 
+import com.google.inject.Inject;
+
 @SuppressWarnings("restriction")
 public abstract class ModelServerAwareBasicOperationHandler<T extends Operation> extends BasicOperationHandler<T>
 		implements ModelserverAwareOperationHandler<T> {
 
+	@Inject
+	protected ActionDispatcher actionDispatcher;
+
 	@SuppressWarnings("unchecked")
 	@Override
 	protected Class<T> deriveOperationType() {
@@ -28,6 +34,11 @@ public abstract class ModelServerAwareBasicOperationHandler<T extends Operation>
 				.getActualTypeArguments()[0];
 	}
 
+	@Override
+	public ActionDispatcher getActionDispatcher() {
+		return actionDispatcher;
+	}
+
 	@Override
 	public void executeOperation(final T operation, final GModelState modelState) {
 		if (handles(operation)) {
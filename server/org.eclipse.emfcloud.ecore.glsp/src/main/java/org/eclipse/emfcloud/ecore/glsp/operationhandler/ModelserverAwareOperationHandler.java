@@ -10,13 +10,35 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.glsp.operationhandler;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.log4j.Logger;
 import org.eclipse.emfcloud.ecore.glsp.model.EcoreModelServerAccess;
+import org.eclipse.glsp.server.actions.ActionDispatcher;
 import org.eclipse.glsp.server.model.GModelState;
 import org.eclipse.glsp.server.operations.Operation;
 import org.eclipse.glsp.server.operations.OperationHandler;
+import org.eclipse.glsp.server.utils.ServerStatusUtil;
 
 public interface ModelserverAwareOperationHandler<T extends Operation> extends OperationHandler {
 
 	public void executeOperation(T operation, GModelState modelState, EcoreModelServerAccess modelAccess)
 			throws Exception;
+
+	ActionDispatcher getActionDispatcher();
+
+	/**
+	 * Logs the given error message and shows it in the client as soon as the asynchronous model server request
+	 * fails, without blocking the calling thread until the request is answered.
+	 */
+	default CompletableFuture<Boolean> reportFailure(GModelState modelState, CompletableFuture<Boolean> result,
+			String errorMessage) {
+		return result.whenComplete((success, error) -> {
+			if (error == null && Boolean.TRUE.equals(success)) {
+				return;
+			}
+			Logger.getLogger(getClass()).error(errorMessage, error);
+			getActionDispatcher().dispatch(modelState.getClientId(), ServerStatusUtil.error(errorMessage));
+		});
+	}
 }
@@ -55,6 +55,8 @@ public final class EcoreConfig {
 		public static final String ECORE_EDGE = "ecore-edge";
 		public static final String INHERITANCE = "inheritance";
 		public static final String ITALIC = "italic";
+		public static final String PLACEHOLDER = "placeholder";
+		public static final String COLLAPSED = "collapsed";
 
 		private CSS() {
 		};
@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.glsp.graph.GBounds;
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Test;
+
+public class EcoreShapePlacementTest {
+
+	private static final GDimension SIZE = GraphUtil.dimension(175, 75);
+	private static final double SPACING = EcoreShapePlacement.DEFAULT_SPACING;
+
+	@Test
+	public void rowsOfShapesDoNotOverlap() {
+		EcoreShapePlacement placement = new EcoreShapePlacement(10, 10);
+		placement.setRowWidth(800);
+
+		List<GBounds> placed = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			placed.add(bounds(placement.place(SIZE), SIZE));
+		}
+
+		assertKeepSpacing(placed);
+		assertTrue(placed.stream().allMatch(b -> b.getX() >= 10 && b.getY() >= 10));
+		assertTrue(placed.stream().allMatch(b -> b.getX() + b.getWidth() <= 10 + 800));
+		// several rows are started
+		assertTrue(placed.stream().mapToDouble(GBounds::getY).distinct().count() > 1);
+	}
+
+	@Test
+	public void shapesOfDifferentSizesDoNotOverlap() {
+		EcoreShapePlacement placement = new EcoreShapePlacement(0, 0);
+		placement.setRowWidth(600);
+
+		List<GBounds> placed = new ArrayList<>();
+		for (int i = 0; i < 15; i++) {
+			GDimension size = GraphUtil.dimension(100 + 37 * (i % 4), 50 + 61 * (i % 3));
+			placed.add(bounds(placement.place(size), size));
+		}
+
+		assertKeepSpacing(placed);
+	}
+
+	@Test
+	public void existingShapesAreAvoided() {
+		EcoreSpatialIndex<String> occupied = new EcoreSpatialIndex<>();
+		List<GBounds> existing = List.of(GraphUtil.bounds(0, 0, 175, 75), GraphUtil.bounds(250, 0, 175, 75),
+				GraphUtil.bounds(0, 120, 400, 200), GraphUtil.bounds(-300, -50, 175, 75));
+		for (int i = 0; i < existing.size(); i++) {
+			GBounds b = existing.get(i);
+			occupied.put("existing" + i, b.getX(), b.getY(), b.getWidth(), b.getHeight());
+		}
+		EcoreShapePlacement placement = new EcoreShapePlacement(occupied, 0, 0);
+
+		List<GBounds> all = new ArrayList<>(existing);
+		for (int i = 0; i < 10; i++) {
+			all.add(bounds(placement.place(SIZE), SIZE));
+		}
+		all.add(bounds(placement.place(GraphUtil.point(50, 50), SIZE), SIZE));
+
+		assertKeepSpacing(all);
+		assertEquals(existing.size(), occupied.size());
+	}
+
+	@Test
+	public void freePreferredPositionIsKept() {
+		EcoreSpatialIndex<String> occupied = new EcoreSpatialIndex<>();
+		occupied.put("existing", 0, 0, 175, 75);
+		EcoreShapePlacement placement = new EcoreShapePlacement(occupied, 0, 0);
+
+		GPoint position = placement.place(GraphUtil.point(500, 300), SIZE);
+
+		assertEquals(500, position.getX(), 0);
+		assertEquals(300, position.getY(), 0);
+	}
+
+	@Test
+	public void occupiedPreferredPositionMovesToClosestFreeSpot() {
+		EcoreSpatialIndex<String> occupied = new EcoreSpatialIndex<>();
+		occupied.put("existing", 500, 300, 175, 75);
+		EcoreShapePlacement placement = new EcoreShapePlacement(occupied, 0, 0);
+
+		GPoint position = placement.place(GraphUtil.point(510, 310), SIZE);
+
+		assertKeepSpacing(List.of(GraphUtil.bounds(500, 300, 175, 75), bounds(position, SIZE)));
+		// the closest free spot is above or below, not somewhere far away
+		assertTrue(Math.abs(position.getX() - 510) + Math.abs(position.getY() - 310) < 2 * (175 + SPACING));
+	}
+
+	@Test
+	public void shapesAreNotPlacedBeforeOrigin() {
+		EcoreShapePlacement placement = new EcoreShapePlacement(-100, -200);
+
+		GPoint position = placement.place(GraphUtil.point(-500, -500), SIZE);
+
+		assertEquals(-100, position.getX(), 0);
+		assertEquals(-200, position.getY(), 0);
+	}
+
+	@Test
+	public void spacingIsExact() {
+		EcoreSpatialIndex<String> occupied = new EcoreSpatialIndex<>();
+		occupied.put("existing", 0, 0, 175, 75);
+		EcoreShapePlacement placement = new EcoreShapePlacement(occupied, 0, 0);
+
+		assertTrue(placement.isFree(175 + SPACING, 0, 175, 75));
+		assertFalse(placement.isFree(175 + SPACING - 1, 0, 175, 75));
+		assertTrue(placement.isFree(0, 75 + SPACING, 175, 75));
+		assertFalse(placement.isFree(0, 75 + SPACING - 1, 175, 75));
+	}
+
+	private static GBounds bounds(final GPoint position, final GDimension size) {
+		return GraphUtil.bounds(position.getX(), position.getY(), size.getWidth(), size.getHeight());
+	}
+
+	private static void assertKeepSpacing(final List<GBounds> shapes) {
+		for (int i = 0; i < shapes.size(); i++) {
+			for (int j = i + 1; j < shapes.size(); j++) {
+				GBounds a = shapes.get(i);
+				GBounds b = shapes.get(j);
+				boolean separated = a.getX() + a.getWidth() + SPACING <= b.getX()
+						|| b.getX() + b.getWidth() + SPACING <= a.getX()
+						|| a.getY() + a.getHeight() + SPACING <= b.getY()
+						|| b.getY() + b.getHeight() + SPACING <= a.getY();
+				assertTrue(String.format("Shapes %d and %d are closer than the spacing", i, j), separated);
+			}
+		}
+	}
+
+}
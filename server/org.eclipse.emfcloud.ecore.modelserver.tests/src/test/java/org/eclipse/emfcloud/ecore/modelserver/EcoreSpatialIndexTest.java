@@ -0,0 +1,159 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class EcoreSpatialIndexTest {
+
+	private static final double CELL_SIZE = 100;
+
+	private EcoreSpatialIndex<String> index;
+
+	@Before
+	public void setUp() {
+		index = new EcoreSpatialIndex<>(CELL_SIZE);
+		index.put("origin", 0, 0, 50, 50);
+		index.put("right", 300, 0, 50, 50);
+		index.put("below", 0, 300, 50, 50);
+		// spans several cells
+		index.put("wide", 100, 150, 250, 20);
+	}
+
+	@Test
+	public void findIntersectingRegion() {
+		assertEquals(Set.of("origin"), index.findIntersecting(-10, -10, 100, 100));
+		assertEquals(Set.of("origin", "right", "wide"), index.findIntersecting(0, 0, 400, 200));
+		assertEquals(Set.of(), index.findIntersecting(60, 60, 30, 30));
+	}
+
+	@Test
+	public void findIntersectingIsInclusive() {
+		assertEquals(Set.of("origin"), index.findIntersecting(50, 50, 10, 10));
+		assertEquals(Set.of("origin"), index.findIntersecting(-10, -10, 10, 10));
+		assertFalse(index.intersectsAny(50.5, 50.5, 10, 10));
+	}
+
+	@Test
+	public void findIntersectingElementOverMultipleCells() {
+		assertEquals(Set.of("wide"), index.findIntersecting(340, 160, 5, 5));
+		assertEquals(Set.of("wide"), index.findIntersecting(110, 160, 5, 5));
+	}
+
+	@Test
+	public void findIntersectingLargeRegion() {
+		// covers more cells than are occupied
+		assertEquals(4, index.findIntersecting(-10000, -10000, 20000, 20000).size());
+	}
+
+	@Test
+	public void negativeCoordinates() {
+		index.put("topLeft", -250, -250, 50, 50);
+		index.put("acrossOrigin", -20, -20, 40, 40);
+
+		assertEquals(Set.of("topLeft"), index.findIntersecting(-300, -300, 100, 100));
+		assertEquals(Set.of("acrossOrigin"), index.findIntersecting(-30, -30, 15, 15));
+		assertEquals(Set.of("origin", "acrossOrigin"), index.findIntersecting(-5, -5, 10, 10));
+		assertTrue(index.intersectsAny(-260, -210, 20, 20));
+		assertEquals(Optional.of("topLeft"), index.findNearest(-1000, -1000));
+		assertEquals(Optional.of("acrossOrigin"), index.findNearest(-25, -25));
+	}
+
+	@Test
+	public void findNearest() {
+		assertEquals(Optional.of("origin"), index.findNearest(25, 25));
+		assertEquals(Optional.of("right"), index.findNearest(500, 20));
+		assertEquals(Optional.of("below"), index.findNearest(20, 1000));
+		assertEquals(Optional.of("wide"), index.findNearest(200, 200));
+	}
+
+	@Test
+	public void findNearestBeyondAdjacentCells() {
+		EcoreSpatialIndex<String> sparse = new EcoreSpatialIndex<>(CELL_SIZE);
+		sparse.put("far", 1000, 1000, 10, 10);
+		sparse.put("farther", -2000, 0, 10, 10);
+
+		assertEquals(Optional.of("far"), sparse.findNearest(0, 0));
+		assertEquals(Optional.of("farther"), sparse.findNearest(-1500, 500));
+	}
+
+	@Test
+	public void findNearestInEmptyIndex() {
+		assertEquals(Optional.empty(), new EcoreSpatialIndex<String>().findNearest(0, 0));
+	}
+
+	@Test
+	public void moveAndRemove() {
+		long modificationCount = index.getModificationCount();
+
+		index.put("origin", 1000, 1000, 50, 50);
+
+		assertTrue(index.getModificationCount() > modificationCount);
+		assertEquals(Set.of(), index.findIntersecting(0, 0, 60, 60));
+		assertEquals(Set.of("origin"), index.findIntersecting(1000, 1000, 10, 10));
+
+		index.remove("origin");
+
+		assertFalse(index.contains("origin"));
+		assertEquals(3, index.size());
+		assertEquals(Set.of(), index.findIntersecting(1000, 1000, 10, 10));
+		assertEquals(Optional.of("wide"), index.findNearest(1000, 1000));
+	}
+
+	@Test
+	public void clear() {
+		index.clear();
+
+		assertEquals(0, index.size());
+		assertEquals(Set.of(), index.findIntersecting(-1000, -1000, 2000, 2000));
+		assertEquals(Optional.empty(), index.findNearest(0, 0));
+	}
+
+	@Test
+	public void concurrentUpdatesAndQueries() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				String element = "moving" + thread;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						index.put(element, i % 500 - 250, i % 300, 50, 50);
+						index.findIntersecting(-100, -100, 400, 400);
+						index.findNearest(i, -i);
+					}
+					index.remove(element);
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(4, index.size());
+		assertEquals(Set.of("origin"), index.findIntersecting(-10, -10, 100, 100));
+	}
+
+}
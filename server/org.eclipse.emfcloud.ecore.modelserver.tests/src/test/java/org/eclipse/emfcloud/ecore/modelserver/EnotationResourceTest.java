@@ -0,0 +1,159 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emfcloud.ecore.enotation.Diagram;
+import org.eclipse.emfcloud.ecore.enotation.Edge;
+import org.eclipse.emfcloud.ecore.enotation.EnotationFactory;
+import org.eclipse.emfcloud.ecore.enotation.EnotationPackage;
+import org.eclipse.emfcloud.ecore.enotation.SemanticProxy;
+import org.eclipse.emfcloud.ecore.enotation.Shape;
+import org.eclipse.glsp.graph.GraphPackage;
+import org.eclipse.glsp.graph.util.GraphUtil;
+import org.junit.Test;
+
+public class EnotationResourceTest {
+
+	private static final URI NOTATION_URI = URI.createFileURI("/tmp/ecore-test/test.enotation");
+	private static final int BINARY_SIGNATURE_START = 0x89;
+
+	@Test
+	public void xmiRoundTrip() throws IOException {
+		Diagram diagram = createDiagram();
+
+		byte[] saved = save(diagram, new EnotationResource(NOTATION_URI), Map.of());
+
+		assertEquals('<', saved[0]);
+		assertTrue(EcoreUtil.equals(diagram, load(saved)));
+	}
+
+	@Test
+	public void binaryRoundTrip() throws IOException {
+		Diagram diagram = createDiagram();
+
+		byte[] saved = save(diagram, new EnotationResource(NOTATION_URI),
+				Map.of(EnotationResource.OPTION_BINARY, true));
+
+		assertEquals(BINARY_SIGNATURE_START, saved[0] & 0xFF);
+		assertTrue(EcoreUtil.equals(diagram, load(saved)));
+	}
+
+	@Test
+	public void binaryIsWrittenByDefaultIfConfigured() throws IOException {
+		Resource resource = new EnotationResourceFactory(true).createResource(NOTATION_URI);
+
+		byte[] saved = save(createDiagram(), resource, Map.of());
+
+		assertTrue(((EnotationResource) resource).isBinaryByDefault());
+		assertEquals(BINARY_SIGNATURE_START, saved[0] & 0xFF);
+	}
+
+	@Test
+	public void saveOptionOverridesDefault() throws IOException {
+		Resource resource = new EnotationResourceFactory(true).createResource(NOTATION_URI);
+
+		byte[] saved = save(createDiagram(), resource, Map.of(EnotationResource.OPTION_BINARY, false));
+
+		assertEquals('<', saved[0]);
+	}
+
+	@Test
+	public void xmiIsMigratedToBinaryOnSave() throws IOException {
+		Diagram diagram = createDiagram();
+		byte[] xmi = save(diagram, new EnotationResource(NOTATION_URI), Map.of());
+
+		Resource resource = createResourceSet().createResource(NOTATION_URI);
+		resource.load(new ByteArrayInputStream(xmi), Map.of());
+		ByteArrayOutputStream binary = new ByteArrayOutputStream();
+		resource.save(binary, Map.of(EnotationResource.OPTION_BINARY, true));
+
+		assertEquals(BINARY_SIGNATURE_START, binary.toByteArray()[0] & 0xFF);
+		assertTrue(EcoreUtil.equals(diagram, load(binary.toByteArray())));
+	}
+
+	@Test
+	public void defaultFactoryWritesXmi() {
+		assertFalse(((EnotationResource) new EnotationResourceFactory().createResource(NOTATION_URI))
+				.isBinaryByDefault());
+	}
+
+	private static byte[] save(final Diagram diagram, final Resource resource, final Map<?, ?> options)
+			throws IOException {
+		resource.getContents().add(diagram);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		resource.save(outputStream, options);
+		resource.getContents().clear();
+		return outputStream.toByteArray();
+	}
+
+	private static Diagram load(final byte[] saved) throws IOException {
+		Resource resource = createResourceSet().createResource(NOTATION_URI);
+		resource.load(new ByteArrayInputStream(saved), Map.of());
+		assertEquals(1, resource.getContents().size());
+		return (Diagram) resource.getContents().get(0);
+	}
+
+	private static ResourceSet createResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getPackageRegistry().put(EnotationPackage.eNS_URI, EnotationPackage.eINSTANCE);
+		resourceSet.getPackageRegistry().put(GraphPackage.eNS_URI, GraphPackage.eINSTANCE);
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+				.put(EcoreModelResourceManager.NOTATION_EXTENSION, new EnotationResourceFactory());
+		return resourceSet;
+	}
+
+	private static Diagram createDiagram() {
+		Diagram diagram = EnotationFactory.eINSTANCE.createDiagram();
+		diagram.setSemanticElement(createProxy("/"));
+		Shape source = createShape("//Source", 10.5, 20.25);
+		Shape target = createShape("//Target", -300, 400.125);
+		diagram.getElements().add(source);
+		diagram.getElements().add(target);
+
+		Edge edge = EnotationFactory.eINSTANCE.createEdge();
+		edge.setSemanticElement(createProxy("//Source/target"));
+		edge.setSource(source);
+		edge.setTarget(target);
+		edge.getBendPoints().add(GraphUtil.point(100.5, 200.25));
+		edge.getBendPoints().add(GraphUtil.point(-50, 0));
+		diagram.getElements().add(edge);
+		return diagram;
+	}
+
+	private static Shape createShape(final String uri, final double x, final double y) {
+		Shape shape = EnotationFactory.eINSTANCE.createShape();
+		shape.setSemanticElement(createProxy(uri));
+		shape.setPosition(GraphUtil.point(x, y));
+		shape.setSize(GraphUtil.dimension(175, 75));
+		return shape;
+	}
+
+	private static SemanticProxy createProxy(final String uri) {
+		SemanticProxy proxy = EnotationFactory.eINSTANCE.createSemanticProxy();
+		proxy.setUri(uri);
+		return proxy;
+	}
+
+}
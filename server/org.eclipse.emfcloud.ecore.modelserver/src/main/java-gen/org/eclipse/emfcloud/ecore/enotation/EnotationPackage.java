@@ -156,6 +156,15 @@ public interface EnotationPackage extends EPackage {
 	 */
 	int SHAPE__SIZE = NOTATION_ELEMENT_FEATURE_COUNT + 1;
 
+	/**
+	 * The feature id for the '<em><b>Collapsed</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int SHAPE__COLLAPSED = NOTATION_ELEMENT_FEATURE_COUNT + 2;
+
 	/**
 	 * The number of structural features of the '<em>Shape</em>' class.
 	 * <!-- begin-user-doc -->
@@ -163,7 +172,7 @@ public interface EnotationPackage extends EPackage {
 	 * @generated
 	 * @ordered
 	 */
-	int SHAPE_FEATURE_COUNT = NOTATION_ELEMENT_FEATURE_COUNT + 2;
+	int SHAPE_FEATURE_COUNT = NOTATION_ELEMENT_FEATURE_COUNT + 3;
 
 	/**
 	 * The number of operations of the '<em>Shape</em>' class.
@@ -381,6 +390,17 @@ public interface EnotationPackage extends EPackage {
 	 */
 	EReference getShape_Size();
 
+	/**
+	 * Returns the meta object for the attribute '{@link org.eclipse.emfcloud.ecore.enotation.Shape#isCollapsed <em>Collapsed</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em>Collapsed</em>'.
+	 * @see org.eclipse.emfcloud.ecore.enotation.Shape#isCollapsed()
+	 * @see #getShape()
+	 * @generated
+	 */
+	EAttribute getShape_Collapsed();
+
 	/**
 	 * Returns the meta object for class '{@link org.eclipse.emfcloud.ecore.enotation.Edge <em>Edge</em>}'.
 	 * <!-- begin-user-doc -->
@@ -558,6 +578,14 @@ public interface EnotationPackage extends EPackage {
 		 */
 		EReference SHAPE__SIZE = eINSTANCE.getShape_Size();
 
+		/**
+		 * The meta object literal for the '<em><b>Collapsed</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute SHAPE__COLLAPSED = eINSTANCE.getShape_Collapsed();
+
 		/**
 		 * The meta object literal for the '{@link org.eclipse.emfcloud.ecore.enotation.impl.EdgeImpl <em>Edge</em>}' class.
 		 * <!-- begin-user-doc -->
@@ -24,6 +24,7 @@ import org.eclipse.glsp.graph.GPoint;
  * <ul>
  *   <li>{@link org.eclipse.emfcloud.ecore.enotation.Shape#getPosition <em>Position</em>}</li>
  *   <li>{@link org.eclipse.emfcloud.ecore.enotation.Shape#getSize <em>Size</em>}</li>
+ *   <li>{@link org.eclipse.emfcloud.ecore.enotation.Shape#isCollapsed <em>Collapsed</em>}</li>
  * </ul>
  *
  * @see org.eclipse.emfcloud.ecore.enotation.EnotationPackage#getShape()
@@ -75,4 +76,26 @@ public interface Shape extends NotationElement {
 	 */
 	void setSize(GDimension value);
 
+	/**
+	 * Returns the value of the '<em><b>Collapsed</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em>Collapsed</em>' attribute.
+	 * @see #setCollapsed(boolean)
+	 * @see org.eclipse.emfcloud.ecore.enotation.EnotationPackage#getShape_Collapsed()
+	 * @model
+	 * @generated
+	 */
+	boolean isCollapsed();
+
+	/**
+	 * Sets the value of the '{@link org.eclipse.emfcloud.ecore.enotation.Shape#isCollapsed <em>Collapsed</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em>Collapsed</em>' attribute.
+	 * @see #isCollapsed()
+	 * @generated
+	 */
+	void setCollapsed(boolean value);
+
 } // Shape
@@ -34,6 +34,7 @@ import org.eclipse.glsp.graph.GPoint;
  * <ul>
  *   <li>{@link org.eclipse.emfcloud.ecore.enotation.impl.ShapeImpl#getPosition <em>Position</em>}</li>
  *   <li>{@link org.eclipse.emfcloud.ecore.enotation.impl.ShapeImpl#getSize <em>Size</em>}</li>
+ *   <li>{@link org.eclipse.emfcloud.ecore.enotation.impl.ShapeImpl#isCollapsed <em>Collapsed</em>}</li>
  * </ul>
  *
  * @generated
@@ -59,6 +60,26 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 	 */
 	protected GDimension size;
 
+	/**
+	 * The default value of the '{@link #isCollapsed() <em>Collapsed</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #isCollapsed()
+	 * @generated
+	 * @ordered
+	 */
+	protected static final boolean COLLAPSED_EDEFAULT = false;
+
+	/**
+	 * The cached value of the '{@link #isCollapsed() <em>Collapsed</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see #isCollapsed()
+	 * @generated
+	 * @ordered
+	 */
+	protected boolean collapsed = COLLAPSED_EDEFAULT;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -168,6 +189,29 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 			eNotify(new ENotificationImpl(this, Notification.SET, EnotationPackage.SHAPE__SIZE, newSize, newSize));
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public boolean isCollapsed() {
+		return collapsed;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setCollapsed(boolean newCollapsed) {
+		boolean oldCollapsed = collapsed;
+		collapsed = newCollapsed;
+		if (eNotificationRequired())
+			eNotify(new ENotificationImpl(this, Notification.SET, EnotationPackage.SHAPE__COLLAPSED, oldCollapsed, collapsed));
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -196,6 +240,8 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 				return getPosition();
 			case EnotationPackage.SHAPE__SIZE:
 				return getSize();
+			case EnotationPackage.SHAPE__COLLAPSED:
+				return isCollapsed();
 		}
 		return super.eGet(featureID, resolve, coreType);
 	}
@@ -214,6 +260,9 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 			case EnotationPackage.SHAPE__SIZE:
 				setSize((GDimension)newValue);
 				return;
+			case EnotationPackage.SHAPE__COLLAPSED:
+				setCollapsed((Boolean)newValue);
+				return;
 		}
 		super.eSet(featureID, newValue);
 	}
@@ -232,6 +281,9 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 			case EnotationPackage.SHAPE__SIZE:
 				setSize((GDimension)null);
 				return;
+			case EnotationPackage.SHAPE__COLLAPSED:
+				setCollapsed(COLLAPSED_EDEFAULT);
+				return;
 		}
 		super.eUnset(featureID);
 	}
@@ -248,8 +300,26 @@ public class ShapeImpl extends NotationElementImpl implements Shape {
 				return position != null;
 			case EnotationPackage.SHAPE__SIZE:
 				return size != null;
+			case EnotationPackage.SHAPE__COLLAPSED:
+				return collapsed != COLLAPSED_EDEFAULT;
 		}
 		return super.eIsSet(featureID);
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public String toString() {
+		if (eIsProxy()) return super.toString();
+
+		StringBuilder result = new StringBuilder(super.toString());
+		result.append(" (collapsed: ");
+		result.append(collapsed);
+		result.append(')');
+		return result.toString();
+	}
+
 } //ShapeImpl
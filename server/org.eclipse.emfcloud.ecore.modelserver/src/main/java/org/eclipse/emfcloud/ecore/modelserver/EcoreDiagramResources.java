@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * The semantic and the notation model of an ecore diagram as returned by the
+ * {@link EcoreModelServerPaths#ECORE_DIAGRAM} endpoint.
+ */
+public class EcoreDiagramResources {
+
+	public static final String SEMANTIC_MODEL = "ecore";
+	public static final String NOTATION_MODEL = "enotation";
+	public static final String NOTATION_CREATED = "notationCreated";
+
+	private final EObject semanticModel;
+	private final EObject notationModel;
+	private final boolean notationCreated;
+
+	public EcoreDiagramResources(final EObject semanticModel, final EObject notationModel,
+			final boolean notationCreated) {
+		this.semanticModel = semanticModel;
+		this.notationModel = notationModel;
+		this.notationCreated = notationCreated;
+	}
+
+	public EObject getSemanticModel() {
+		return semanticModel;
+	}
+
+	public EObject getNotationModel() {
+		return notationModel;
+	}
+
+	/**
+	 * @return <code>true</code> if the notation model did not exist yet and has been created by this request
+	 */
+	public boolean isNotationCreated() {
+		return notationCreated;
+	}
+
+}
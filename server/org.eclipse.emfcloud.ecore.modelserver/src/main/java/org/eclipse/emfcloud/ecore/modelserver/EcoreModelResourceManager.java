@@ -12,18 +12,28 @@ package org.eclipse.emfcloud.ecore.modelserver;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.AdapterFactory;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryRegistryImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emfcloud.ecore.enotation.Diagram;
@@ -36,12 +46,15 @@ import org.eclipse.emfcloud.modelserver.emf.common.DefaultModelResourceManager;
 import org.eclipse.emfcloud.modelserver.emf.common.watchers.ModelWatchersManager;
 import org.eclipse.emfcloud.modelserver.emf.configuration.EPackageConfiguration;
 import org.eclipse.emfcloud.modelserver.emf.configuration.ServerConfiguration;
+import org.eclipse.glsp.graph.GDimension;
 import org.eclipse.glsp.graph.util.GraphUtil;
 
 import com.google.inject.Inject;
 
 public class EcoreModelResourceManager extends DefaultModelResourceManager {
 
+	private static Logger LOGGER = Logger.getLogger(EcoreModelResourceManager.class);
+
 	public static final String ECORE_EXTENSION = "ecore";
 	public static final String NOTATION_EXTENSION = "enotation";
 
@@ -50,38 +63,244 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 	public static final int DEFAULT_POSITION_X = 10;
 	public static final int DEFAULT_POSITION_Y = 10;
 
+	private EcoreModelServerConfiguration configuration;
+
 	@Inject
 	public EcoreModelResourceManager(Set<EPackageConfiguration> configurations, AdapterFactory adapterFactory,
 			ServerConfiguration serverConfiguration, final ModelWatchersManager watchersManager) {
 		super(configurations, adapterFactory, serverConfiguration, watchersManager);
 	}
 
+	/**
+	 * Loads the workspace once the configuration is injected. Guice injects methods after the constructor, so this
+	 * runs after the fields of this class are assigned, unlike the initialization of the super constructor.
+	 */
+	@Inject
+	public void initialize(final EcoreModelServerConfiguration configuration) {
+		this.configuration = configuration;
+		super.initialize();
+	}
+
+	@Override
+	protected void initialize() {
+		// called by the super constructor, the workspace is loaded by initialize(EcoreModelServerConfiguration)
+	}
+
+	/**
+	 * Selects how the ecore and notation models of the workspace are loaded at startup.
+	 */
+	public enum SourceLoading {
+		/** All models are loaded one after the other before the server is ready. */
+		EAGER,
+		/** All models are loaded before the server is ready, independent ecore files are parsed concurrently. */
+		PARALLEL,
+		/** Only the file paths are collected at startup, a model is loaded on first access. */
+		LAZY
+	}
+
 	@Override
 	protected void loadSourceResources(final String directoryPath) {
 		if (directoryPath == null || directoryPath.isEmpty()) {
 			return;
 		}
-		File directory = new File(directoryPath);
-		for (File file : directory.listFiles()) {
+		List<File> ecoreFiles = new ArrayList<>();
+		List<File> otherFiles = new ArrayList<>();
+		collectSourceFiles(new File(directoryPath), ecoreFiles, otherFiles);
+		long start = System.currentTimeMillis();
+		SourceLoading loading = configuration.getSourceLoading();
+		switch (loading) {
+			case LAZY:
+				// the models are known with their uri from the start, their resource sets load on first access
+				for (File file : ecoreFiles) {
+					URI ecoreUri = createURI(file.getAbsolutePath());
+					resourceSets.put(ecoreUri, new LazyResourceSet(ecoreUri));
+				}
+				break;
+			case PARALLEL:
+				// parsing is independent per resource set, the bookkeeping of loadResource stays on this thread
+				Map<URI, ResourceSet> parsedResourceSets = ecoreFiles.parallelStream()
+						.collect(Collectors.toConcurrentMap(file -> createURI(file.getAbsolutePath()),
+								file -> parseModelResources(createURI(file.getAbsolutePath()))));
+				for (File file : ecoreFiles) {
+					URI ecoreUri = createURI(file.getAbsolutePath());
+					resourceSets.put(ecoreUri, parsedResourceSets.get(ecoreUri));
+					loadModelResources(ecoreUri);
+				}
+				break;
+			default:
+				for (File file : ecoreFiles) {
+					URI ecoreUri = createURI(file.getAbsolutePath());
+					resourceSets.put(ecoreUri, createResourceSet());
+					loadModelResources(ecoreUri);
+				}
+				break;
+		}
+		otherFiles.forEach(file -> loadResource(file.getAbsolutePath()));
+		LOGGER.info(String.format("%s loading of %d ecore models in %s took %d ms", loading, ecoreFiles.size(),
+				directoryPath, System.currentTimeMillis() - start));
+	}
+
+	/**
+	 * Collects the ecore files below the given directory. Notation files that belong to an ecore file are loaded
+	 * with it and are not collected, all other files are.
+	 */
+	protected void collectSourceFiles(final File directory, final List<File> ecoreFiles,
+			final List<File> otherFiles) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
 			if (isSourceDirectory(file)) {
-				loadSourceResources(file.getAbsolutePath());
+				collectSourceFiles(file, ecoreFiles, otherFiles);
 			} else if (file.isFile()) {
-				URI absolutePath = createURI(file.getAbsolutePath());
-				if (absolutePath.fileExtension().equals(ECORE_EXTENSION)) {
-					resourceSets.put(createURI(file.getAbsolutePath()), new ResourceSetImpl());
+				URI uri = createURI(file.getAbsolutePath());
+				if (ECORE_EXTENSION.equals(uri.fileExtension())) {
+					ecoreFiles.add(file);
+				} else if (!NOTATION_EXTENSION.equals(uri.fileExtension()) || !getEcoreFile(uri).isFile()) {
+					otherFiles.add(file);
 				}
-				loadResource(file.getAbsolutePath());
 			}
 		}
 	}
 
+	/**
+	 * Parses the given ecore file and its notation file into a new resource set. This does not access the state of
+	 * the resource manager and can be used on any thread, see {@link #configureResourceSet(ResourceSet)}.
+	 */
+	protected ResourceSet parseModelResources(final URI ecoreUri) {
+		ResourceSet resourceSet = createResourceSet();
+		try {
+			resourceSet.getResource(ecoreUri, true);
+			URI notationUri = ecoreUri.trimFileExtension().appendFileExtension(NOTATION_EXTENSION);
+			if (new File(notationUri.toFileString()).isFile()) {
+				resourceSet.getResource(notationUri, true);
+			}
+		} catch (RuntimeException e) {
+			// reported again by loadResource
+			LOGGER.warn("Could not parse " + ecoreUri, e);
+		}
+		return resourceSet;
+	}
+
+	private void loadModelResources(final URI ecoreUri) {
+		loadResource(ecoreUri.toFileString());
+		URI notationUri = ecoreUri.trimFileExtension().appendFileExtension(NOTATION_EXTENSION);
+		if (new File(notationUri.toFileString()).isFile()) {
+			loadResource(notationUri.toFileString());
+		}
+	}
+
+	private File getEcoreFile(final URI notationUri) {
+		return new File(notationUri.trimFileExtension().appendFileExtension(ECORE_EXTENSION).toFileString());
+	}
+
+	/**
+	 * Creates the resource set of an ecore model and its notation model.
+	 */
+	protected ResourceSet createResourceSet() {
+		return configureResourceSet(new ResourceSetImpl());
+	}
+
+	/**
+	 * Sets up the registries of a resource set. Notation resources are read in XMI and in the binary format, see
+	 * {@link EnotationResource}.
+	 * <p>
+	 * Parallel loading parses several resource sets at once, so the resource set gets registries of its own. The
+	 * resource factories of the global registry are copied and the packages of the global registry are read through
+	 * a lock, since the global registry replaces package descriptors with their packages on first access.
+	 * </p>
+	 */
+	protected ResourceSet configureResourceSet(final ResourceSet resourceSet) {
+		resourceSet.setPackageRegistry(new SynchronizedDelegatePackageRegistry());
+		Resource.Factory.Registry factoryRegistry = new ResourceFactoryRegistryImpl();
+		synchronized (Resource.Factory.Registry.INSTANCE) {
+			factoryRegistry.getProtocolToFactoryMap()
+					.putAll(Resource.Factory.Registry.INSTANCE.getProtocolToFactoryMap());
+			factoryRegistry.getExtensionToFactoryMap()
+					.putAll(Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap());
+			factoryRegistry.getContentTypeToFactoryMap()
+					.putAll(Resource.Factory.Registry.INSTANCE.getContentTypeToFactoryMap());
+		}
+		factoryRegistry.getExtensionToFactoryMap().put(NOTATION_EXTENSION,
+				new EnotationResourceFactory(configuration.isBinaryNotation()));
+		resourceSet.setResourceFactoryRegistry(factoryRegistry);
+		return resourceSet;
+	}
+
 	@Override
 	public ResourceSet getResourceSet(final String modeluri) {
-		if (createURI(modeluri).fileExtension().equals(NOTATION_EXTENSION)) {
-			URI semanticUri = createURI(modeluri).trimFileExtension().appendFileExtension(ECORE_EXTENSION);
-			return resourceSets.get(semanticUri);
+		URI semanticUri = createURI(modeluri);
+		if (NOTATION_EXTENSION.equals(semanticUri.fileExtension())) {
+			semanticUri = semanticUri.trimFileExtension().appendFileExtension(ECORE_EXTENSION);
+		}
+		return resourceSets.get(semanticUri);
+	}
+
+	/**
+	 * The resource set of an ecore model in {@link SourceLoading#LAZY} mode. It is registered empty at startup and
+	 * loads the ecore model and its notation model on the first access of its resources, so the base resource
+	 * manager and every other reader of the resource sets see the loaded models. Other threads wait until the models
+	 * are loaded, the loading thread itself reads the resource set while it is filled by loadResource.
+	 */
+	private final class LazyResourceSet extends ResourceSetImpl {
+
+		private final URI ecoreUri;
+		private volatile boolean loaded;
+
+		LazyResourceSet(final URI ecoreUri) {
+			this.ecoreUri = ecoreUri;
+			configureResourceSet(this);
+		}
+
+		@Override
+		public EList<Resource> getResources() {
+			if (!loaded && !Thread.holdsLock(this)) {
+				load();
+			}
+			return super.getResources();
+		}
+
+		private synchronized void load() {
+			if (loaded) {
+				return;
+			}
+			long start = System.currentTimeMillis();
+			try {
+				loadModelResources(ecoreUri);
+			} finally {
+				loaded = true;
+			}
+			LOGGER.debug(
+					String.format("Loaded %s on first access in %d ms", ecoreUri, System.currentTimeMillis() - start));
+		}
+	}
+
+	/**
+	 * A package registry that reads the global registry under its lock, see
+	 * {@link #configureResourceSet(ResourceSet)}.
+	 */
+	private static final class SynchronizedDelegatePackageRegistry extends EPackageRegistryImpl {
+
+		private static final long serialVersionUID = 1L;
+
+		SynchronizedDelegatePackageRegistry() {
+			super(EPackage.Registry.INSTANCE);
+		}
+
+		@Override
+		protected EPackage delegatedGetEPackage(final String nsURI) {
+			synchronized (EPackage.Registry.INSTANCE) {
+				return super.delegatedGetEPackage(nsURI);
+			}
+		}
+
+		@Override
+		protected EFactory delegatedGetEFactory(final String nsURI) {
+			synchronized (EPackage.Registry.INSTANCE) {
+				return super.delegatedGetEFactory(nsURI);
+			}
 		}
-		return resourceSets.get(createURI(modeluri));
 	}
 
 	@Override
@@ -98,7 +317,7 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 
 	public boolean addNewEcoreResources(final String modeluri, final String nsUri, final String nsPrefix) {
 		URI ecoreModelUri = createURI(modeluri);
-		ResourceSet resourceSet = new ResourceSetImpl();
+		ResourceSet resourceSet = createResourceSet();
 
 		final EPackage newEPackage = createNewEPackage(ecoreModelUri);
 		newEPackage.setNsURI(nsUri);
@@ -137,10 +356,16 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 		SemanticProxy semanticProxy = EnotationFactory.eINSTANCE.createSemanticProxy();
 		semanticProxy.setUri(EcoreUtil.getURI(ePackage).fragment());
 		newDiagram.setSemanticElement(semanticProxy);
-		// create shapes
+		// place the shapes in a square block, so the diagram is readable without an initial layout
+		EcoreShapePlacement placement = new EcoreShapePlacement(DEFAULT_POSITION_X, DEFAULT_POSITION_Y);
+		int columns = Math.max(1, (int) Math.ceil(Math.sqrt(ePackage.getEClassifiers().size())));
+		placement.setRowWidth(columns * (DEFAULT_SHAPE_WIDTH + placement.getSpacing()));
+		// create shapes and remember them by the uri fragment of their classifier for the edge creation
+		Map<String, NotationElement> shapes = new HashMap<>();
 		for (EClassifier classifier : ePackage.getEClassifiers()) {
-			Shape shape = createShape(classifier);
+			Shape shape = createShape(classifier, placement);
 			newDiagram.getElements().add(shape);
+			shapes.put(shape.getSemanticElement().getUri(), shape);
 		}
 
 		// create edges
@@ -148,20 +373,21 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 			// create edges from references / inheritances
 			if (classifier instanceof EClass) {
 				EClass eClass = (EClass) classifier;
+				NotationElement eClassShape = getNotationElement(shapes, eClass);
 				eClass.getEStructuralFeatures().forEach(feature -> {
 					if (feature instanceof EReference) {
 						Edge edge = EnotationFactory.eINSTANCE.createEdge();
 						edge.setSemanticElement(createSemanticProxy(feature));
-						edge.setSource(getNotationElement(newDiagram, eClass));
-						edge.setTarget(getNotationElement(newDiagram, feature.getEType()));
+						edge.setSource(eClassShape);
+						edge.setTarget(getNotationElement(shapes, feature.getEType()));
 						newDiagram.getElements().add(edge);
 					}
 				});
 				eClass.getESuperTypes().forEach(superType -> {
 					Edge edge = EnotationFactory.eINSTANCE.createEdge();
 					edge.setType("edge:inheritance");
-					edge.setSource(getNotationElement(newDiagram, eClass));
-					edge.setTarget(getNotationElement(newDiagram, superType));
+					edge.setSource(eClassShape);
+					edge.setTarget(getNotationElement(shapes, superType));
 					newDiagram.getElements().add(edge);
 				});
 			}
@@ -169,6 +395,11 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 		return newDiagram;
 	}
 
+	private NotationElement getNotationElement(final Map<String, NotationElement> shapes,
+			final EObject semanticElement) {
+		return semanticElement != null ? shapes.get(EcoreUtil.getURI(semanticElement).fragment()) : null;
+	}
+
 	protected NotationElement getNotationElement(final Diagram diagram, final EObject semanticElement) {
 		String semanticUri = EcoreUtil.getURI(semanticElement).fragment();
 		for (NotationElement element : diagram.getElements()) {
@@ -179,10 +410,18 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 		return null;
 	}
 
+	/**
+	 * Creates a shape with the default size at the default position, kept for subclasses that create single shapes.
+	 */
 	protected Shape createShape(final EClassifier classifier) {
+		return createShape(classifier, new EcoreShapePlacement(DEFAULT_POSITION_X, DEFAULT_POSITION_Y));
+	}
+
+	protected Shape createShape(final EClassifier classifier, final EcoreShapePlacement placement) {
 		Shape shape = EnotationFactory.eINSTANCE.createShape();
-		shape.setPosition(GraphUtil.point(DEFAULT_POSITION_X, DEFAULT_POSITION_Y));
-		shape.setSize(GraphUtil.dimension(DEFAULT_SHAPE_WIDTH, DEFAULT_SHAPE_HEIGHT));
+		GDimension size = GraphUtil.dimension(DEFAULT_SHAPE_WIDTH, DEFAULT_SHAPE_HEIGHT);
+		shape.setPosition(placement.place(size));
+		shape.setSize(size);
 		shape.setSemanticElement(createSemanticProxy(classifier));
 		return shape;
 	}
@@ -203,7 +442,7 @@ public class EcoreModelResourceManager extends DefaultModelResourceManager {
 		editingDomains.remove(existingResourceSet);
 		resourceSets.remove(ecoreModelUri);
 
-		ResourceSet newResourceSet = new ResourceSetImpl();
+		ResourceSet newResourceSet = createResourceSet();
 
 		resourceSets.put(ecoreModelUri, newResourceSet);
 
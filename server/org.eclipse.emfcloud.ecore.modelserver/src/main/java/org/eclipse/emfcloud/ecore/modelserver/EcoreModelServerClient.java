@@ -11,6 +11,7 @@
 package org.eclipse.emfcloud.ecore.modelserver;
 
 import java.net.MalformedURLException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.emf.ecore.EObject;
@@ -18,10 +19,16 @@ import org.eclipse.emfcloud.modelserver.client.ModelServerClient;
 import org.eclipse.emfcloud.modelserver.client.Response;
 import org.eclipse.emfcloud.modelserver.common.ModelServerPathParametersV1;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import okhttp3.Request;
 
 public class EcoreModelServerClient extends ModelServerClient {
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	public EcoreModelServerClient(final String baseUrl) throws MalformedURLException {
 		super(baseUrl);
 	}
@@ -38,4 +45,43 @@ public class EcoreModelServerClient extends ModelServerClient {
 				.thenApply(this::getBodyOrThrow);
 	}
 
+	public CompletableFuture<Response<EcoreDiagramResources>> getEcoreDiagram(final String modelUri,
+			final String format) {
+		final Request request = new Request.Builder()
+				.url(createHttpUrlBuilder(baseUrl + EcoreModelServerPaths.ECORE_DIAGRAM)
+						.addQueryParameter(ModelServerPathParametersV1.MODEL_URI, modelUri)
+						.addQueryParameter(ModelServerPathParametersV1.FORMAT, checkedFormat(format)).build())
+				.build();
+
+		return makeCallAndParseDataField(request)
+				.thenApply(resp -> resp
+						.mapBody(body -> body.flatMap(b -> decodeDiagramResources(b, checkedFormat(format)))))
+				.thenApply(this::getBodyOrThrow);
+	}
+
+	protected Optional<EcoreDiagramResources> decodeDiagramResources(final String payload, final String format) {
+		try {
+			JsonNode data = OBJECT_MAPPER.readTree(payload);
+			Optional<EObject> semanticModel = decode(toPayload(data.get(EcoreDiagramResources.SEMANTIC_MODEL)),
+					format);
+			Optional<EObject> notationModel = decode(toPayload(data.get(EcoreDiagramResources.NOTATION_MODEL)),
+					format);
+			if (semanticModel.isEmpty() || notationModel.isEmpty()) {
+				return Optional.empty();
+			}
+			return Optional.of(new EcoreDiagramResources(semanticModel.get(), notationModel.get(),
+					data.path(EcoreDiagramResources.NOTATION_CREATED).asBoolean()));
+		} catch (JsonProcessingException e) {
+			return Optional.empty();
+		}
+	}
+
+	private String toPayload(final JsonNode node) {
+		if (node == null) {
+			return "";
+		}
+		// xmi is transferred as text node, json as nested object
+		return node.isTextual() ? node.asText() : node.toString();
+	}
+
 }
@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelResourceManager.SourceLoading;
+
+/**
+ * Options of the ecore model server, usually given as launch arguments to the {@link EcoreModelServerLauncher} and
+ * bound by the {@link EcoreModelServerModule}.
+ */
+public class EcoreModelServerConfiguration {
+
+	private boolean gzipEnabled;
+	private boolean binaryNotation;
+	private SourceLoading sourceLoading = SourceLoading.EAGER;
+
+	/**
+	 * @return whether responses with models are gzip encoded for clients that accept it, disabled by default
+	 */
+	public boolean isGzipEnabled() {
+		return gzipEnabled;
+	}
+
+	public void setGzipEnabled(final boolean gzipEnabled) {
+		this.gzipEnabled = gzipEnabled;
+	}
+
+	/**
+	 * @return whether notation models are saved in the binary format instead of XMI, see {@link EnotationResource}
+	 */
+	public boolean isBinaryNotation() {
+		return binaryNotation;
+	}
+
+	public void setBinaryNotation(final boolean binaryNotation) {
+		this.binaryNotation = binaryNotation;
+	}
+
+	/**
+	 * @return how the models of the workspace are loaded at startup, {@link SourceLoading#EAGER} by default
+	 */
+	public SourceLoading getSourceLoading() {
+		return sourceLoading;
+	}
+
+	public void setSourceLoading(final SourceLoading sourceLoading) {
+		this.sourceLoading = sourceLoading;
+	}
+
+}
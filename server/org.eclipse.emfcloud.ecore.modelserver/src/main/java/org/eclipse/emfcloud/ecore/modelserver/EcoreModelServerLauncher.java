@@ -10,12 +10,30 @@
  ********************************************************************************/
 package org.eclipse.emfcloud.ecore.modelserver;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emfcloud.ecore.modelserver.EcoreModelResourceManager.SourceLoading;
 import org.eclipse.emfcloud.modelserver.emf.launch.ModelServerLauncher;
 
 public class EcoreModelServerLauncher {
 
+	private static final String GZIP_ARG = "--gzip";
+	private static final String BINARY_NOTATION_ARG = "--binary-notation";
+	private static final String LAZY_LOAD_ARG = "--lazy-load";
+	private static final String PARALLEL_LOAD_ARG = "--parallel-load";
+
 	public static void main(String[] args) {
-		final ModelServerLauncher launcher = new ModelServerLauncher(new EcoreModelServerModule());
+		List<String> arguments = Arrays.asList(args);
+		EcoreModelServerConfiguration configuration = new EcoreModelServerConfiguration();
+		configuration.setGzipEnabled(arguments.contains(GZIP_ARG));
+		configuration.setBinaryNotation(arguments.contains(BINARY_NOTATION_ARG));
+		if (arguments.contains(LAZY_LOAD_ARG)) {
+			configuration.setSourceLoading(SourceLoading.LAZY);
+		} else if (arguments.contains(PARALLEL_LOAD_ARG)) {
+			configuration.setSourceLoading(SourceLoading.PARALLEL);
+		}
+		final ModelServerLauncher launcher = new ModelServerLauncher(new EcoreModelServerModule(configuration));
 		ModelServerLauncher.configureLogger();
 		launcher.run();
 	}
@@ -19,6 +19,22 @@ import org.eclipse.emfcloud.modelserver.emf.di.DefaultModelServerModule;
 
 public class EcoreModelServerModule extends DefaultModelServerModule {
 
+	private final EcoreModelServerConfiguration configuration;
+
+	public EcoreModelServerModule() {
+		this(new EcoreModelServerConfiguration());
+	}
+
+	public EcoreModelServerModule(final EcoreModelServerConfiguration configuration) {
+		this.configuration = configuration;
+	}
+
+	@Override
+	public void configure() {
+		super.configure();
+		bind(EcoreModelServerConfiguration.class).toInstance(configuration);
+	}
+
 	@Override
 	protected Class<? extends ModelResourceManager> bindModelResourceManager() {
 		return EcoreModelResourceManager.class;
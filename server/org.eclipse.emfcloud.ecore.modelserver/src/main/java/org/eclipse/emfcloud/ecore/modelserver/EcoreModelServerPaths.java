@@ -20,4 +20,6 @@ public interface EcoreModelServerPaths extends ModelServerPaths {
 	String ECORE_DELETE = "ecore/delete";
 	String ENOTATION_DELETE = "enotation/delete";
 
+	String ECORE_DIAGRAM = "ecore/diagram";
+
 }
\ No newline at end of file
@@ -15,7 +15,12 @@ import static io.javalin.apibuilder.ApiBuilder.get;
 import static io.javalin.apibuilder.ApiBuilder.path;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emfcloud.modelserver.common.ModelServerPathParametersV1;
 import org.eclipse.emfcloud.modelserver.common.ModelServerPathsV1;
@@ -30,6 +35,11 @@ import org.eclipse.emfcloud.modelserver.emf.common.SessionController;
 import org.eclipse.emfcloud.modelserver.emf.common.codecs.CodecsManager;
 import org.eclipse.emfcloud.modelserver.emf.common.codecs.JsonCodec;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Inject;
 
 import io.javalin.Javalin;
@@ -37,15 +47,27 @@ import io.javalin.http.Context;
 
 public class EcoreModelServerRouting extends ModelServerRoutingV1 {
 
+	private static Logger LOGGER = Logger.getLogger(EcoreModelServerRouting.class);
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String CONTENT_TYPE_JSON = "application/json";
+	private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+	private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+	private static final String HEADER_VARY = "Vary";
+	private static final String GZIP = "gzip";
+	private static final int STREAM_BUFFER_SIZE = 8192;
+
 	protected final CodecsManager codecsManager;
+	protected final EcoreModelServerConfiguration configuration;
 
 	@Inject
 	public EcoreModelServerRouting(final Javalin javalin, final ModelResourceManager resourceManager,
 			final ModelController modelController, final SchemaController schemaController,
 			final ServerController serverController, final SessionController sessionController,
-			final CodecsManager codecsManager) {
+			final CodecsManager codecsManager, final EcoreModelServerConfiguration configuration) {
 		super(javalin, resourceManager, modelController, schemaController, serverController, sessionController);
 		this.codecsManager = codecsManager;
+		this.configuration = configuration;
 	}
 
 	protected void createEcoreResources(final Context ctx) {
@@ -67,15 +89,92 @@ public class EcoreModelServerRouting extends ModelServerRoutingV1 {
 	protected void createEcoreNotation(final Context ctx) {
 		getResolvedFileUri(ctx, ModelServerPathParametersV1.MODEL_URI).ifPresent(modelUri -> {
 			EObject result = ((EcoreModelResourceManager) resourceManager).addEnotationResource(modelUri);
+			if (result == null) {
+				ctx.json(JsonResponse.error());
+				return;
+			}
+			try {
+				writeResponse(ctx, JsonResponse.success(JsonCodec.encode(codecsManager.encode(ctx, result))));
+			} catch (EncodingException e) {
+				LOGGER.error("Could not encode the notation model of " + modelUri, e);
+				ctx.json(JsonResponse.error());
+			}
+		});
+	}
+
+	/**
+	 * Returns the semantic and the notation model of an ecore diagram in one response, so that a client can open a
+	 * diagram with a single round trip. A missing notation model is created on the fly.
+	 */
+	protected void getEcoreDiagram(final Context ctx) {
+		getResolvedFileUri(ctx, ModelServerPathParametersV1.MODEL_URI).ifPresent(modelUri -> {
+			EcoreModelResourceManager ecoreResourceManager = (EcoreModelResourceManager) resourceManager;
+			Optional<EObject> semanticModel = ecoreResourceManager.loadModel(modelUri, EObject.class);
+			if (semanticModel.isEmpty()) {
+				ctx.json(JsonResponse.error());
+				return;
+			}
+
+			String notationUri = URI.createURI(modelUri).trimFileExtension()
+					.appendFileExtension(EcoreModelResourceManager.NOTATION_EXTENSION).toString();
+			boolean notationCreated = false;
+			Optional<EObject> notationModel = ecoreResourceManager.loadModel(notationUri, EObject.class);
+			if (notationModel.isEmpty()) {
+				notationModel = Optional.ofNullable(ecoreResourceManager.addEnotationResource(modelUri));
+				notationCreated = true;
+			}
+			if (notationModel.isEmpty()) {
+				ctx.json(JsonResponse.error());
+				return;
+			}
+
 			try {
-				ctx.json(result != null ? JsonResponse.success(JsonCodec.encode(codecsManager.encode(ctx, result)))
-						: JsonResponse.error());
+				ObjectNode data = JsonNodeFactory.instance.objectNode();
+				data.set(EcoreDiagramResources.SEMANTIC_MODEL,
+						JsonCodec.encode(codecsManager.encode(ctx, semanticModel.get())));
+				data.set(EcoreDiagramResources.NOTATION_MODEL,
+						JsonCodec.encode(codecsManager.encode(ctx, notationModel.get())));
+				data.put(EcoreDiagramResources.NOTATION_CREATED, notationCreated);
+				writeResponse(ctx, JsonResponse.success(data));
 			} catch (EncodingException e) {
-				e.printStackTrace();
+				LOGGER.error("Could not encode the diagram models of " + modelUri, e);
+				ctx.json(JsonResponse.error());
 			}
 		});
 	}
 
+	/**
+	 * Renders the given response tree directly to the output stream of the request instead of to a string, which
+	 * saves one copy of the rendered JSON per request. This does not stream the encoding: the codecs build the whole
+	 * response tree in memory before anything is written. The response is gzip encoded if gzip is enabled in the
+	 * {@link EcoreModelServerConfiguration} and the client accepts it.
+	 */
+	protected void writeResponse(final Context ctx, final JsonNode response) {
+		ctx.contentType(CONTENT_TYPE_JSON);
+		ctx.header(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+		boolean gzip = acceptsGzip(ctx);
+		if (gzip) {
+			ctx.header(HEADER_CONTENT_ENCODING, GZIP);
+		}
+		try {
+			OutputStream outputStream = ctx.res.getOutputStream();
+			if (gzip) {
+				outputStream = new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE);
+			}
+			try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream)) {
+				OBJECT_MAPPER.writeTree(generator, response);
+			}
+		} catch (IOException e) {
+			// the status and headers are already sent, the client sees an incomplete response
+			LOGGER.error("Could not write response of " + ctx.path(), e);
+		}
+	}
+
+	protected boolean acceptsGzip(final Context ctx) {
+		String acceptEncoding = ctx.header(HEADER_ACCEPT_ENCODING);
+		return configuration.isGzipEnabled() && acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+	}
+
 	protected void deleteEcoreResources(final Context ctx) {
 		getResolvedFileUri(ctx, ModelServerPathParametersV1.MODEL_URI).ifPresent(modelUri -> {
 			try {
@@ -110,6 +209,7 @@ public class EcoreModelServerRouting extends ModelServerRoutingV1 {
 	private void apiEndpoints() {
 		get(EcoreModelServerPaths.ECORE_CREATE, this::createEcoreResources);
 		get(EcoreModelServerPaths.ENOTATION_CREATE, this::createEcoreNotation);
+		get(EcoreModelServerPaths.ECORE_DIAGRAM, this::getEcoreDiagram);
 		delete(EcoreModelServerPaths.ECORE_DELETE, this::deleteEcoreResources);
 		delete(EcoreModelServerPaths.ENOTATION_DELETE, this::deleteEnotationResource);
 	}
@@ -0,0 +1,150 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import org.eclipse.glsp.graph.GDimension;
+import org.eclipse.glsp.graph.GPoint;
+import org.eclipse.glsp.graph.util.GraphUtil;
+
+/**
+ * Finds positions for new shapes that keep a minimal spacing to all existing shapes. Candidate positions are checked
+ * on rings of growing distance around the preferred position, so a shape ends up at the closest free spot. Placed
+ * shapes are remembered, so several shapes can be placed one after the other.
+ */
+public class EcoreShapePlacement {
+
+	public static final double DEFAULT_SPACING = 40;
+	public static final double DEFAULT_ROW_WIDTH = 1600;
+
+	// candidate positions per shape width and height, a finer grid finds closer gaps but checks more candidates
+	private static final int STEPS_PER_SHAPE = 4;
+	private static final int MAX_RINGS = 256;
+
+	private final EcoreSpatialIndex<?> occupied;
+	private final EcoreSpatialIndex<Object> placed = new EcoreSpatialIndex<>();
+	private final double originX;
+	private final double originY;
+	private double spacing = DEFAULT_SPACING;
+	private double rowWidth = DEFAULT_ROW_WIDTH;
+
+	private double cursorX;
+	private double cursorY;
+	private double rowHeight;
+
+	public EcoreShapePlacement(final double originX, final double originY) {
+		this(new EcoreSpatialIndex<>(), originX, originY);
+	}
+
+	/**
+	 * @param occupied the bounds of the existing shapes, the index is not modified
+	 * @param originX  shapes are not placed left of this coordinate
+	 * @param originY  shapes are not placed above this coordinate
+	 */
+	public EcoreShapePlacement(final EcoreSpatialIndex<?> occupied, final double originX, final double originY) {
+		this.occupied = occupied;
+		this.originX = originX;
+		this.originY = originY;
+		this.cursorX = originX;
+		this.cursorY = originY;
+	}
+
+	public double getSpacing() {
+		return spacing;
+	}
+
+	public void setSpacing(final double spacing) {
+		this.spacing = Math.max(0, spacing);
+	}
+
+	public double getRowWidth() {
+		return rowWidth;
+	}
+
+	/**
+	 * Sets the width after which {@link #place(GDimension)} starts a new row.
+	 */
+	public void setRowWidth(final double rowWidth) {
+		this.rowWidth = rowWidth;
+	}
+
+	/**
+	 * Places a shape of the given size right of the previously placed one and starts a new row when the row width is
+	 * exceeded.
+	 */
+	public GPoint place(final GDimension size) {
+		if (cursorX > originX && cursorX + size.getWidth() > originX + rowWidth) {
+			cursorX = originX;
+			cursorY += rowHeight + spacing;
+			rowHeight = 0;
+		}
+		GPoint position = place(GraphUtil.point(cursorX, cursorY), size);
+		if (position.getY() != cursorY) {
+			// moved to another row by an existing shape
+			cursorY = position.getY();
+			rowHeight = 0;
+		}
+		cursorX = position.getX() + size.getWidth() + spacing;
+		rowHeight = Math.max(rowHeight, size.getHeight());
+		return position;
+	}
+
+	/**
+	 * Places a shape of the given size at the free position that is closest to the preferred position.
+	 */
+	public GPoint place(final GPoint preferred, final GDimension size) {
+		double width = size.getWidth();
+		double height = size.getHeight();
+		double startX = Math.max(originX, preferred.getX());
+		double startY = Math.max(originY, preferred.getY());
+		double stepX = Math.max(1, (width + spacing) / STEPS_PER_SHAPE);
+		double stepY = Math.max(1, (height + spacing) / STEPS_PER_SHAPE);
+
+		GPoint position = null;
+		for (int ring = 0; ring <= MAX_RINGS && position == null; ring++) {
+			double nearestDistance = Double.MAX_VALUE;
+			for (int i = -ring; i <= ring; i++) {
+				// only the border of the ring, the inner candidates have been checked already
+				int step = i == -ring || i == ring ? 1 : Math.max(1, 2 * ring);
+				for (int j = -ring; j <= ring; j += step) {
+					double x = startX + i * stepX;
+					double y = startY + j * stepY;
+					double distance = (i * stepX) * (i * stepX) + (j * stepY) * (j * stepY);
+					if (x >= originX && y >= originY && distance < nearestDistance && isFree(x, y, width, height)) {
+						nearestDistance = distance;
+						position = GraphUtil.point(x, y);
+					}
+				}
+			}
+		}
+		if (position == null) {
+			// the surroundings are crowded, continue below all shapes
+			double maxY = Math.max(occupied.getMaxY(), placed.getMaxY());
+			position = GraphUtil.point(originX, Math.max(originY, maxY + spacing));
+		}
+		placed.put(new Object(), position.getX(), position.getY(), width, height);
+		return position;
+	}
+
+	/**
+	 * Returns whether a shape with the given bounds keeps the spacing to all existing and placed shapes.
+	 */
+	public boolean isFree(final double x, final double y, final double width, final double height) {
+		// touching bounds intersect in the index, so a shape exactly at the spacing would not be free otherwise
+		double margin = Math.max(0, spacing - 0.5);
+		double regionX = x - margin;
+		double regionY = y - margin;
+		double regionWidth = width + 2 * margin;
+		double regionHeight = height + 2 * margin;
+		return !occupied.intersectsAny(regionX, regionY, regionWidth, regionHeight)
+				&& !placed.intersectsAny(regionX, regionY, regionWidth, regionHeight);
+	}
+
+}
@@ -0,0 +1,296 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Uniform grid over the bounds of diagram elements. Every element is registered in all cells its bounds overlap, so
+ * region and nearest neighbour queries only visit the cells around the queried area instead of all elements. With a
+ * cell size in the order of the element size the cost of a query is proportional to the number of elements it finds.
+ * Bounds are inclusive, elements that touch a region intersect it. Elements are moved by model server updates and
+ * layouts while requests query the index, so all accesses synchronize on the index and queries return copies.
+ */
+public class EcoreSpatialIndex<T> {
+
+	public static final double DEFAULT_CELL_SIZE = 256;
+
+	private final double cellSize;
+	private final Map<Long, List<T>> cells = new HashMap<>();
+	private final Map<T, Entry> entries = new HashMap<>();
+
+	// extent of all cells that have ever been occupied, limits the nearest neighbour search
+	private int minCellX = Integer.MAX_VALUE;
+	private int minCellY = Integer.MAX_VALUE;
+	private int maxCellX = Integer.MIN_VALUE;
+	private int maxCellY = Integer.MIN_VALUE;
+	private double maxX = Double.NEGATIVE_INFINITY;
+	private double maxY = Double.NEGATIVE_INFINITY;
+	private long modificationCount;
+
+	public EcoreSpatialIndex() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	public EcoreSpatialIndex(double cellSize) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+		}
+		this.cellSize = cellSize;
+	}
+
+	/**
+	 * Adds the given element or moves it to the given bounds if it is already indexed.
+	 */
+	public synchronized void put(T element, double x, double y, double width, double height) {
+		Entry entry = new Entry(x, y, Math.max(0, width), Math.max(0, height));
+		Entry previous = entries.put(element, entry);
+		modificationCount++;
+		if (previous != null) {
+			if (previous.hasSameCells(entry)) {
+				return;
+			}
+			removeFromCells(element, previous);
+		}
+		for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+			for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+				cells.computeIfAbsent(key(cellX, cellY), k -> new ArrayList<>(4)).add(element);
+			}
+		}
+		minCellX = Math.min(minCellX, entry.minCellX);
+		minCellY = Math.min(minCellY, entry.minCellY);
+		maxCellX = Math.max(maxCellX, entry.maxCellX);
+		maxCellY = Math.max(maxCellY, entry.maxCellY);
+		maxX = Math.max(maxX, entry.x + entry.width);
+		maxY = Math.max(maxY, entry.y + entry.height);
+	}
+
+	public synchronized void remove(T element) {
+		Entry entry = entries.remove(element);
+		if (entry != null) {
+			modificationCount++;
+			removeFromCells(element, entry);
+		}
+	}
+
+	public synchronized boolean contains(T element) {
+		return entries.containsKey(element);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		modificationCount++;
+		cells.clear();
+		entries.clear();
+		minCellX = Integer.MAX_VALUE;
+		minCellY = Integer.MAX_VALUE;
+		maxCellX = Integer.MIN_VALUE;
+		maxCellY = Integer.MIN_VALUE;
+		maxX = Double.NEGATIVE_INFINITY;
+		maxY = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Returns a counter that changes with every modification of the index, so query results can be reused as long as
+	 * it is unchanged.
+	 */
+	public synchronized long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Returns the largest x coordinate of all elements that have been indexed since the last {@link #clear()}. The
+	 * value is not decreased when elements are moved or removed, so it is an upper bound of the current extent.
+	 */
+	public synchronized double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Returns the largest y coordinate of all elements that have been indexed since the last {@link #clear()}, see
+	 * {@link #getMaxX()}.
+	 */
+	public synchronized double getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Returns whether the bounds of any element intersect the given region, without collecting all of them.
+	 */
+	public synchronized boolean intersectsAny(double x, double y, double width, double height) {
+		if (entries.isEmpty()) {
+			return false;
+		}
+		Entry region = new Entry(x, y, Math.max(0, width), Math.max(0, height));
+		int toX = Math.min(region.maxCellX, maxCellX);
+		int toY = Math.min(region.maxCellY, maxCellY);
+		for (int cellX = Math.max(region.minCellX, minCellX); cellX <= toX; cellX++) {
+			for (int cellY = Math.max(region.minCellY, minCellY); cellY <= toY; cellY++) {
+				List<T> elements = cells.get(key(cellX, cellY));
+				if (elements != null
+						&& elements.stream().anyMatch(element -> entries.get(element).intersects(region))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns all elements whose bounds intersect the given region, in no particular order.
+	 */
+	public synchronized Set<T> findIntersecting(double x, double y, double width, double height) {
+		if (entries.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Entry region = new Entry(x, y, Math.max(0, width), Math.max(0, height));
+		Set<T> result = new LinkedHashSet<>();
+		int fromX = Math.max(region.minCellX, minCellX);
+		int toX = Math.min(region.maxCellX, maxCellX);
+		int fromY = Math.max(region.minCellY, minCellY);
+		int toY = Math.min(region.maxCellY, maxCellY);
+		if (fromX > toX || fromY > toY) {
+			return result;
+		}
+		if ((long) (toX - fromX + 1) * (toY - fromY + 1) > cells.size()) {
+			// the region covers more cells than are occupied, checking the occupied ones is cheaper
+			cells.values().forEach(elements -> collectIntersecting(elements, region, result));
+			return result;
+		}
+		for (int cellX = fromX; cellX <= toX; cellX++) {
+			for (int cellY = fromY; cellY <= toY; cellY++) {
+				List<T> elements = cells.get(key(cellX, cellY));
+				if (elements != null) {
+					collectIntersecting(elements, region, result);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the element whose bounds are closest to the given point. Elements that contain the point have a
+	 * distance of <code>0</code>.
+	 */
+	public synchronized Optional<T> findNearest(double x, double y) {
+		if (entries.isEmpty()) {
+			return Optional.empty();
+		}
+		int centerX = cell(x);
+		int centerY = cell(y);
+		int maxRing = Math.max(Math.max(Math.abs(centerX - minCellX), Math.abs(centerX - maxCellX)),
+				Math.max(Math.abs(centerY - minCellY), Math.abs(centerY - maxCellY)));
+		T nearest = null;
+		double nearestDistance = Double.MAX_VALUE;
+		for (int ring = 0; ring <= maxRing; ring++) {
+			for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+				// only the border of the ring, the inner cells have been visited already
+				int step = cellX == centerX - ring || cellX == centerX + ring ? 1 : Math.max(1, 2 * ring);
+				for (int cellY = centerY - ring; cellY <= centerY + ring; cellY += step) {
+					List<T> elements = cells.get(key(cellX, cellY));
+					if (elements == null) {
+						continue;
+					}
+					for (T element : elements) {
+						double distance = entries.get(element).distanceSquared(x, y);
+						if (distance < nearestDistance) {
+							nearestDistance = distance;
+							nearest = element;
+						}
+					}
+				}
+			}
+			// all cells of the next ring are at least this far away from the point
+			double ringDistance = ring * cellSize;
+			if (nearest != null && nearestDistance <= ringDistance * ringDistance) {
+				break;
+			}
+		}
+		return Optional.ofNullable(nearest);
+	}
+
+	private void collectIntersecting(List<T> elements, Entry region, Set<T> result) {
+		for (T element : elements) {
+			if (entries.get(element).intersects(region)) {
+				result.add(element);
+			}
+		}
+	}
+
+	private void removeFromCells(T element, Entry entry) {
+		for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+			for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+				Long key = key(cellX, cellY);
+				List<T> elements = cells.get(key);
+				if (elements != null && elements.remove(element) && elements.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+	}
+
+	private int cell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	private static Long key(int cellX, int cellY) {
+		return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+	}
+
+	private final class Entry {
+		private final double x;
+		private final double y;
+		private final double width;
+		private final double height;
+		private final int minCellX;
+		private final int minCellY;
+		private final int maxCellX;
+		private final int maxCellY;
+
+		Entry(double x, double y, double width, double height) {
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.minCellX = cell(x);
+			this.minCellY = cell(y);
+			this.maxCellX = cell(x + width);
+			this.maxCellY = cell(y + height);
+		}
+
+		boolean hasSameCells(Entry other) {
+			return minCellX == other.minCellX && minCellY == other.minCellY && maxCellX == other.maxCellX
+					&& maxCellY == other.maxCellY;
+		}
+
+		boolean intersects(Entry other) {
+			return x <= other.x + other.width && other.x <= x + width && y <= other.y + other.height
+					&& other.y <= y + height;
+		}
+
+		double distanceSquared(double pointX, double pointY) {
+			double dx = Math.max(0, Math.max(x - pointX, pointX - (x + width)));
+			double dy = Math.max(0, Math.max(y - pointY, pointY - (y + height)));
+			return dx * dx + dy * dy;
+		}
+	}
+
+}
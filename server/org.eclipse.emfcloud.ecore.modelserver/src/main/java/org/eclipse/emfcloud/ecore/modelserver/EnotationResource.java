@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+
+/**
+ * Notation resource that reads both XMI and the EMF binary format and writes the format selected by
+ * {@link #OPTION_BINARY}. The format of a file is detected on load, so existing XMI files are migrated to the binary
+ * format on their next save once it is enabled. Notation files mostly consist of coordinates, which the binary
+ * format stores without conversion to and from text.
+ */
+public class EnotationResource extends XMIResourceImpl {
+
+	/**
+	 * Save option to write the binary format, see {@link #isBinaryByDefault()} for the default.
+	 */
+	public static final String OPTION_BINARY = "ENOTATION_BINARY";
+
+	/**
+	 * The first byte of the signature written by {@link BinaryResourceImpl}, an XML document never starts with it.
+	 */
+	private static final int BINARY_SIGNATURE_START = 0x89;
+
+	private final boolean binaryByDefault;
+
+	public EnotationResource(final URI uri) {
+		this(uri, false);
+	}
+
+	/**
+	 * @param binaryByDefault whether the binary format is written if the save options do not select a format
+	 */
+	public EnotationResource(final URI uri, final boolean binaryByDefault) {
+		super(uri);
+		this.binaryByDefault = binaryByDefault;
+	}
+
+	public boolean isBinaryByDefault() {
+		return binaryByDefault;
+	}
+
+	@Override
+	protected void doLoad(final InputStream inputStream, final Map<?, ?> options) throws IOException {
+		InputStream bufferedStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+		bufferedStream.mark(1);
+		int firstByte = bufferedStream.read();
+		bufferedStream.reset();
+		if (firstByte == BINARY_SIGNATURE_START) {
+			new BinaryResourceImpl.EObjectInputStream(bufferedStream, options).loadResource(this);
+		} else {
+			super.doLoad(bufferedStream, options);
+		}
+	}
+
+	@Override
+	protected void doSave(final OutputStream outputStream, final Map<?, ?> options) throws IOException {
+		if (isBinary(options)) {
+			BinaryResourceImpl.EObjectOutputStream binaryStream = new BinaryResourceImpl.EObjectOutputStream(
+					outputStream, options);
+			binaryStream.saveResource(this);
+			binaryStream.flush();
+		} else {
+			super.doSave(outputStream, options);
+		}
+	}
+
+	protected boolean isBinary(final Map<?, ?> options) {
+		Object binary = options != null ? options.get(OPTION_BINARY) : null;
+		return binary != null ? Boolean.TRUE.equals(binary) : binaryByDefault;
+	}
+
+}
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2021 EclipseSource and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the MIT License which is
+ * available at https://opensource.org/licenses/MIT.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR MIT
+ ********************************************************************************/
+package org.eclipse.emfcloud.ecore.modelserver;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+public class EnotationResourceFactory extends XMIResourceFactoryImpl {
+
+	private final boolean binaryByDefault;
+
+	public EnotationResourceFactory() {
+		this(false);
+	}
+
+	/**
+	 * @param binaryByDefault whether the created resources write the binary format by default
+	 */
+	public EnotationResourceFactory(final boolean binaryByDefault) {
+		this.binaryByDefault = binaryByDefault;
+	}
+
+	@Override
+	public Resource createResource(final URI uri) {
+		return new EnotationResource(uri, binaryByDefault);
+	}
+
+}